@@ -0,0 +1,61 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the neighbour-by-neighbour adjacency count with the mine-map kernels.
+ * The vector kernel is only measured when run with {@code -Pbenchmark,vector}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdjacencyBenchmark {
+
+    @Param({"neighbours", "scalar", "vector"})
+    public String kernelName;
+
+    @Param({"256", "1024"})
+    public int size;
+
+    private Board layout;
+    private AdjacencyKernel kernel;
+
+    @Setup
+    public void setUp() {
+        layout = new BoardGenerator(42L).generateBoard(Topology.SQUARE, size, size, size * size / 5);
+        kernel = switch (kernelName) {
+            case "scalar" -> AdjacencyKernels.scalar();
+            case "vector" -> AdjacencyKernels.vector();
+            default -> null;
+        };
+        if ("vector".equals(kernelName) && kernel == null) {
+            throw new IllegalStateException("Vector kernel not available; run with -Pvector");
+        }
+    }
+
+    @Benchmark
+    public Board calculateAdjacentMines() {
+        if (kernel == null) {
+            layout.calculateAdjacentMines();
+        } else {
+            layout.calculateAdjacentMines(kernel);
+        }
+        return layout;
+    }
+}
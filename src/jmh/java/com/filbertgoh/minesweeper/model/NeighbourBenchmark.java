@@ -0,0 +1,92 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares walking every cell's neighbours through the list returned by
+ * {@link Board#getAdjacentCells(int, int)} with the callback and counting APIs.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the allocation per sweep.
+ * The callback benchmarks create a capturing lambda per cell, which escape analysis
+ * removes once the walk is inlined; the copy forked with escape analysis switched off
+ * shows what that lambda would otherwise cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighbourBenchmark {
+
+    @Param({"square", "torus"})
+    public String topologyName;
+
+    @Param({"128"})
+    public int size;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = new BoardGenerator(42L).generateBoard(Topology.forName(topologyName), size, size, size * size / 5);
+        // Open the top half so covered and revealed neighbours are mixed
+        int[] top = new int[board.getCellCount() / 2];
+        for (int index = 0; index < top.length; index++) {
+            top[index] = index;
+        }
+        board.uncoverCells(top);
+    }
+
+    @Benchmark
+    public int adjacentCellsList() {
+        int covered = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                for (Cell neighbour : board.getAdjacentCells(row, col)) {
+                    if (neighbour.isCovered()) {
+                        covered++;
+                    }
+                }
+            }
+        }
+        return covered;
+    }
+
+    @Benchmark
+    public int countNeighboursByState() {
+        int covered = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            covered += board.countNeighbours(index, CellState.COVERED);
+        }
+        return covered;
+    }
+
+    @Benchmark
+    public void forEachNeighbour(Blackhole blackhole) {
+        Board walked = board;
+        for (int index = 0; index < walked.getCellCount(); index++) {
+            int cell = index;
+            walked.forEachNeighbour(index, neighbour -> blackhole.consume(cell ^ neighbour));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public void forEachNeighbourWithoutEscapeAnalysis(Blackhole blackhole) {
+        forEachNeighbour(blackhole);
+    }
+}
@@ -0,0 +1,62 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares adjacency counting and cascading reveals across topologies.
+ * The square grid results are the ones that must not regress.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopologyBenchmark {
+
+    @Param({"square", "torus", "hex"})
+    public String topologyName;
+
+    @Param({"256"})
+    public int size;
+
+    private Board layout;
+
+    @Setup
+    public void setUp() {
+        // A sparse layout so that a reveal opens most of the board
+        layout = new BoardGenerator(42L).generateBoard(Topology.forName(topologyName), size, size, size * size / 50);
+    }
+
+    @Benchmark
+    public Board calculateAdjacentMines() {
+        layout.calculateAdjacentMines();
+        return layout;
+    }
+
+    @Benchmark
+    public int revealCascade() {
+        Board board = layout.copy();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            Cell cell = board.getCell(index);
+            if (!cell.hasMine() && cell.getAdjacentMines() == 0) {
+                board.revealCell(index / size, index % size);
+                break;
+            }
+        }
+        return board.getRevealedCount();
+    }
+}
@@ -0,0 +1,126 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BoardCodec} with a naive dump of one byte per cell, for a sparse
+ * layout stored as mine gaps and a dense one stored as a bitset. The encoded size of
+ * both formats, in bytes per cell, is printed once per fork before the measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardCodecBenchmark {
+    private static final int MINE = 1;
+    private static final int REVEALED = 2;
+
+    @Param({"256"})
+    public int size;
+
+    @Param({"0.02", "0.2"})
+    public double density;
+
+    private BoardCodec codec;
+    private Board board;
+    private ByteBuffer buffer;
+    private byte[] encoded;
+    private byte[] dumped;
+
+    @Setup
+    public void setUp() {
+        codec = new BoardCodec();
+        board = new BoardGenerator(42L).generateBoard(size, size, (int) (size * size * density));
+        // Open the top half so the reveal state has runs to encode
+        int[] top = new int[board.getCellCount() / 2];
+        for (int index = 0; index < top.length; index++) {
+            top[index] = index;
+        }
+        board.uncoverCells(top);
+
+        buffer = ByteBuffer.allocate(codec.maxEncodedSize(board));
+        encoded = codec.encode(board);
+        dumped = dump(board);
+        System.out.printf("%nBoardCodec: %.3f bytes/cell, naive dump: %.3f bytes/cell%n",
+                (double) encoded.length / board.getCellCount(), (double) dumped.length / board.getCellCount());
+    }
+
+    @Benchmark
+    public int encode() {
+        buffer.clear();
+        return codec.encode(board, buffer);
+    }
+
+    @Benchmark
+    public Board decode() {
+        return codec.decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Benchmark
+    public byte[] naiveEncode() {
+        return dump(board);
+    }
+
+    @Benchmark
+    public Board naiveDecode() {
+        return load(dumped);
+    }
+
+    /**
+     * Writes the dimensions and mine count, then one byte per cell holding its mine and reveal flags.
+     *
+     * @param board The board
+     * @return The dump
+     */
+    private static byte[] dump(Board board) {
+        ByteBuffer out = ByteBuffer.allocate(3 * Integer.BYTES + board.getCellCount());
+        out.putInt(board.getRows()).putInt(board.getCols()).putInt(board.getTotalMines());
+        for (int index = 0; index < board.getCellCount(); index++) {
+            int flags = (board.getCell(index).hasMine() ? MINE : 0) | (board.getCell(index).isRevealed() ? REVEALED : 0);
+            out.put((byte) flags);
+        }
+        return out.array();
+    }
+
+    /**
+     * Rebuilds a board from a dump, recomputing adjacency counts as the codec does.
+     *
+     * @param dump The dump
+     * @return The board
+     */
+    private static Board load(byte[] dump) {
+        ByteBuffer in = ByteBuffer.wrap(dump);
+        Board board = new Board(in.getInt(), in.getInt(), in.getInt());
+        int[] revealed = new int[board.getCellCount()];
+        int revealedCount = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            int flags = in.get();
+            if ((flags & MINE) != 0) {
+                board.getCell(index).setMine(true);
+            }
+            if ((flags & REVEALED) != 0) {
+                revealed[revealedCount++] = index;
+            }
+        }
+        board.calculateAdjacentMines();
+        board.uncoverCells(Arrays.copyOf(revealed, revealedCount));
+        return board;
+    }
+}
@@ -1,21 +1,136 @@
 package com.filbertgoh.minesweeper;
 
 import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.model.EndlessBoard;
+import com.filbertgoh.minesweeper.service.AnsiBoardRenderer;
 import com.filbertgoh.minesweeper.service.BoardGenerator;
 import com.filbertgoh.minesweeper.service.BoardPrinter;
 import com.filbertgoh.minesweeper.service.InputValidator;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.LaunchOptions;
+import com.filbertgoh.minesweeper.view.BatchGameView;
+import com.filbertgoh.minesweeper.view.EndlessGameView;
 import com.filbertgoh.minesweeper.view.GameView;
+import com.filbertgoh.minesweeper.view.HttpGameServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Main {
+    private static final int EXIT_USAGE = 2;
+
     public static void main(String[] args) {
-        BoardGenerator boardGenerator = new BoardGenerator();
-        BoardPrinter boardPrinter = new BoardPrinter();
-        InputValidator inputValidator = new InputValidator();
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        // Services are built per mode, so a scripted run never loads the interactive view or its presets
+        if (options.isBatch()) {
+            runBatch(options);
+        } else if (options.isHttp()) {
+            runHttp(options);
+        } else if (options.isEndless()) {
+            runEndless(options);
+        } else {
+            runInteractive(options);
+        }
+    }
 
-        GameController gameController = new GameController(boardGenerator);
+    /**
+     * Plays the moves given on the command line and exits.
+     *
+     * @param options The parsed command-line options
+     */
+    private static void runBatch(LaunchOptions options) {
+        BoardGenerator boardGenerator = options.getSeed() == null
+                ? new BoardGenerator()
+                : new BoardGenerator(options.getSeed());
+        BatchGameView view = new BatchGameView(new GameController(boardGenerator), new BoardPrinter(),
+                new InputValidator(), new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
 
-        GameView gameView = new GameView(gameController, boardPrinter, inputValidator);
+        try {
+            view.start(options.getSize(), options.getMines());
+            if (options.isTiming()) {
+                reportStartup();
+            }
+            view.play(options.getMoves());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_USAGE);
+        }
+    }
+
+    /**
+     * Serves games over HTTP until the process is stopped.
+     *
+     * @param options The parsed command-line options
+     */
+    private static void runHttp(LaunchOptions options) {
+        HttpGameServer server = new HttpGameServer(new InetSocketAddress(options.getHttpPort()),
+                () -> new GameController(new BoardGenerator()));
+        server.start();
+        System.out.println("Serving games on http://localhost:" + server.getPort() + "/games");
+    }
+
+    /**
+     * Runs an interactive game on an endless board, spilling evicted chunks to a temporary directory.
+     *
+     * @param options The parsed command-line options
+     */
+    private static void runEndless(LaunchOptions options) {
+        long seed = options.getSeed() == null ? ThreadLocalRandom.current().nextLong() : options.getSeed();
+        EndlessGameView view = new EndlessGameView(new BoardPrinter(), new InputValidator(),
+                new BufferedReader(new InputStreamReader(System.in)),
+                new BufferedWriter(new OutputStreamWriter(System.out)));
+
+        try {
+            Path spillDirectory = Files.createTempDirectory("minesweeper-endless");
+            try (EndlessBoard board = new EndlessBoard(seed, GameConfig.ENDLESS_DEFAULT_DENSITY,
+                    GameConfig.ENDLESS_MAX_RESIDENT_CHUNKS, spillDirectory)) {
+                view.play(board);
+            } finally {
+                Files.deleteIfExists(spillDirectory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs the interactive console game.
+     *
+     * @param options The parsed command-line options
+     */
+    private static void runInteractive(LaunchOptions options) {
+        GameView gameView = new GameView(new GameController(new BoardGenerator()), new BoardPrinter(),
+                new InputValidator());
+        if (options.isAnsi()) {
+            gameView.setAnsiRenderer(new AnsiBoardRenderer(System.out));
+        }
 
         gameView.startGame();
     }
-}
\ No newline at end of file
+
+    /**
+     * Prints the time from process start to the first board print on standard error.
+     */
+    private static void reportStartup() {
+        // Loaded only after the board is out, so measuring does not slow the first print
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.err.println("First board printed " + uptime + " ms after launch");
+    }
+}
@@ -1,7 +1,18 @@
 package com.filbertgoh.minesweeper.controller;
 
 import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.model.MoveHistory;
+import com.filbertgoh.minesweeper.model.RevealResult;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.service.BoardAnalyzer;
 import com.filbertgoh.minesweeper.service.BoardGenerator;
+import com.filbertgoh.minesweeper.service.GameResult;
+import com.filbertgoh.minesweeper.service.Leaderboard;
+import com.filbertgoh.minesweeper.util.DifficultyProfile;
+import com.filbertgoh.minesweeper.util.GameConfig;
+
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Controller that manages the game logic and state.
@@ -9,7 +20,16 @@ import com.filbertgoh.minesweeper.service.BoardGenerator;
 public class GameController {
     private Board board;
     private final BoardGenerator boardGenerator;
+    private MoveHistory history;
+    private SpectatorFeed spectatorFeed;
+    private final Leaderboard leaderboard;
+    private final RevealResult moveResult;
     private boolean firstMove;
+    private boolean ranked;
+    private Difficulty tier;
+    private int safeZoneRadius;
+    private Topology topology;
+    private long startNanos;
 
     /**
      * Creates a new game controller.
@@ -17,8 +37,23 @@ public class GameController {
      * @param boardGenerator The board generator service
      */
     public GameController(BoardGenerator boardGenerator) {
+        this(boardGenerator, null);
+    }
+
+    /**
+     * Creates a new game controller that submits won games on standard tiers to a leaderboard.
+     *
+     * @param boardGenerator The board generator service
+     * @param leaderboard    The leaderboard to submit wins to, or null for none
+     */
+    public GameController(BoardGenerator boardGenerator, Leaderboard leaderboard) {
         this.boardGenerator = boardGenerator;
+        this.leaderboard = leaderboard;
+        this.history = new MoveHistory(GameConfig.MOVE_HISTORY_CAPACITY);
+        this.spectatorFeed = new SpectatorFeed(GameConfig.SPECTATOR_KEYFRAME_INTERVAL);
+        this.moveResult = new RevealResult();
         this.firstMove = true;
+        this.topology = Topology.SQUARE;
     }
 
     /**
@@ -29,7 +64,173 @@ public class GameController {
      */
     public void initializeGame(int size, int numMines) {
         this.board = boardGenerator.generateBoard(size, numMines);
+        this.history.clear();
+        this.firstMove = true;
+        this.ranked = true;
+        this.tier = Difficulty.of(size, size, numMines);
+        this.safeZoneRadius = 0;
+        this.topology = Topology.SQUARE;
+        publishKeyframe();
+    }
+
+    /**
+     * Initializes a new game on a rectangular board with the specified parameters.
+     *
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     */
+    public void initializeGame(int rows, int cols, int numMines) {
+        initializeGame(rows, cols, numMines, 0);
+    }
+
+    /**
+     * Initializes a new game on a rectangular board whose first move is guaranteed to
+     * open a mine-free zone of the given radius.
+     *
+     * @param rows           The number of rows
+     * @param cols           The number of columns
+     * @param numMines       The number of mines
+     * @param safeZoneRadius The radius around the first move that is kept free of mines
+     */
+    public void initializeGame(int rows, int cols, int numMines, int safeZoneRadius) {
+        this.board = boardGenerator.generateBoard(rows, cols, numMines);
+        this.history.clear();
+        this.firstMove = true;
+        this.ranked = true;
+        this.tier = Difficulty.of(rows, cols, numMines);
+        this.safeZoneRadius = safeZoneRadius;
+        this.topology = Topology.SQUARE;
+        publishKeyframe();
+    }
+
+    /**
+     * Initializes a new game on a board of the given topology.
+     *
+     * @param topology The board topology
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     */
+    public void initializeGame(Topology topology, int rows, int cols, int numMines) {
+        this.board = boardGenerator.generateBoard(topology, rows, cols, numMines);
+        this.history.clear();
         this.firstMove = true;
+        this.ranked = true;
+        this.tier = topology == Topology.SQUARE ? Difficulty.of(rows, cols, numMines) : null;
+        this.safeZoneRadius = 0;
+        this.topology = topology;
+        publishKeyframe();
+    }
+
+    /**
+     * Initializes a new game from a difficulty profile. The game is ranked under the
+     * tier the profile is named after, whatever its layout.
+     *
+     * @param profile The difficulty profile
+     */
+    public void initializeGame(DifficultyProfile profile) {
+        initializeGame(profile.rows(), profile.cols(), profile.mines(), profile.safeZoneRadius());
+        this.tier = profile.tier();
+    }
+
+    /**
+     * Resumes a game on an existing board, such as one restored from storage.
+     * The move history of the earlier game is not carried over.
+     *
+     * @param board          The board to play on
+     * @param firstMove      Whether the first move is still to be made
+     * @param tier           The leaderboard tier of the game, or null if it has none
+     * @param ranked         Whether the game can still be submitted to the leaderboard
+     * @param safeZoneRadius The radius around the first move that is kept free of mines
+     * @param startNanos     The {@link System#nanoTime()} at which the first move was made
+     */
+    public void resumeGame(Board board, boolean firstMove, Difficulty tier, boolean ranked, int safeZoneRadius,
+                           long startNanos) {
+        this.board = board;
+        this.history.clear();
+        this.firstMove = firstMove;
+        this.tier = tier;
+        this.ranked = ranked;
+        this.safeZoneRadius = safeZoneRadius;
+        this.topology = board.getTopology();
+        this.startNanos = startNanos;
+        publishKeyframe();
+    }
+
+    /**
+     * Checks if the game can still be submitted to the leaderboard when it is won.
+     *
+     * @return false once a move has been undone, a mine hit or the result submitted, else true
+     */
+    public boolean isRanked() {
+        return ranked;
+    }
+
+    /**
+     * Gets the leaderboard tier a win of the current game is submitted under.
+     *
+     * @return The tier, or null for a game that is not on a standard tier
+     */
+    public Difficulty getTier() {
+        return tier;
+    }
+
+    /**
+     * Gets the move history, so a session can keep it while the controller is dropped.
+     *
+     * @return The move history
+     */
+    MoveHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Gets the spectator feed, so a session can keep it while the controller is dropped.
+     *
+     * @return The spectator feed
+     */
+    SpectatorFeed getSpectatorFeed() {
+        return spectatorFeed;
+    }
+
+    /**
+     * Takes over the move history and spectators of the controller that played this game
+     * before, so undo and spectating carry on across a hibernated session.
+     *
+     * @param history       The earlier controller's move history
+     * @param spectatorFeed The earlier controller's spectator feed
+     */
+    void takeOver(MoveHistory history, SpectatorFeed spectatorFeed) {
+        this.history = history;
+        this.spectatorFeed = spectatorFeed;
+    }
+
+    /**
+     * Checks if the first move of the game is still to be made.
+     *
+     * @return true before the first move else false
+     */
+    public boolean isFirstMove() {
+        return firstMove;
+    }
+
+    /**
+     * Gets the radius around the first move that is kept free of mines.
+     *
+     * @return The safe zone radius
+     */
+    public int getSafeZoneRadius() {
+        return safeZoneRadius;
+    }
+
+    /**
+     * Gets the time at which the first move was made.
+     *
+     * @return The {@link System#nanoTime()} of the first move, only meaningful once it has been made
+     */
+    public long getStartNanos() {
+        return startNanos;
     }
 
     /**
@@ -43,24 +244,159 @@ public class GameController {
 
     /**
      * Makes a move by revealing the cell at the specified position.
+     * On boards of at least {@link GameConfig#PARALLEL_REVEAL_MIN_CELLS} cells the
+     * cascade is expanded in parallel on the common fork-join pool.
      *
      * @param row The row position
      * @param col The column position
      * @return true if the move hit a mine else false
      */
     public boolean makeMove(int row, int col) {
+        return makeMove(row, col, moveResult).hitMine();
+    }
+
+    /**
+     * Makes a move and reports which cells it opened in a caller-owned result,
+     * which is overwritten. Callers that keep one result for the whole game do not
+     * allocate per move to learn what changed.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param result The result to overwrite
+     * @return The given result
+     */
+    public RevealResult makeMove(int row, int col, RevealResult result) {
         // For the first move and hits mine, regenerate the board to ensure the first click is safe
         if (firstMove) {
-            if (board.getCell(row,col).hasMine()){
-                int size = board.getSize();
+            if (hasMineNear(row, col)){
+                int rows = board.getRows();
+                int cols = board.getCols();
                 int numMines = board.getTotalMines();
-                this.board = boardGenerator.generateBoard(size, numMines, row, col);
+                if (topology != Topology.SQUARE) {
+                    this.board = boardGenerator.generateBoard(topology, rows, cols, numMines, row, col, safeZoneRadius);
+                } else if (safeZoneRadius == 0) {
+                    this.board = boardGenerator.generateBoard(rows, cols, numMines, row, col);
+                } else {
+                    this.board = boardGenerator.generateBoard(rows, cols, numMines, row, col, safeZoneRadius);
+                }
             }
 
             firstMove = false;
+            startNanos = System.nanoTime();
+        }
+
+        if (board.getCellCount() >= GameConfig.PARALLEL_REVEAL_MIN_CELLS) {
+            board.revealCell(row, col, ForkJoinPool.commonPool(), result);
+        } else {
+            board.revealCell(row, col, result);
+        }
+        if (result.getOpenedCount() > 0) {
+            // The history keeps the cells for undo, so it needs its own copy
+            int[] openedCells = result.copyOpened();
+            history.record(openedCells);
+            if (spectatorFeed.hasSubscribers()) {
+                spectatorFeed.publishMove(board, openedCells, result.hitMine());
+            }
+            if (result.hitMine()) {
+                ranked = false;
+            } else if (ranked && leaderboard != null && board.isGameWon()) {
+                submitResult();
+                ranked = false;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Submits the just-won game to the leaderboard if it was played on a standard tier.
+     * Called at most once per game, and never after a mine was hit or a move undone.
+     */
+    private void submitResult() {
+        if (tier == null) {
+            return;
         }
 
-        return board.revealCell(row, col);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        int threeBV = new BoardAnalyzer().analyze(board).threeBV();
+        leaderboard.submit(new GameResult(tier, elapsedMillis, threeBV, System.currentTimeMillis()));
+    }
+
+    /**
+     * Checks if any cell within the safe zone radius of a position has a mine.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the safe zone around the position has a mine else false
+     */
+    private boolean hasMineNear(int row, int col) {
+        if (safeZoneRadius == 0) {
+            return board.getCell(row, col).hasMine();
+        }
+
+        int lastRow = Math.min(board.getRows() - 1, row + safeZoneRadius);
+        int lastCol = Math.min(board.getCols() - 1, col + safeZoneRadius);
+        for (int r = Math.max(0, row - safeZoneRadius); r <= lastRow; r++) {
+            for (int c = Math.max(0, col - safeZoneRadius); c <= lastCol; c++) {
+                if (board.getCell(r, c).hasMine()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Undoes the most recent move by covering the cells it opened.
+     * A game with an undone move no longer counts for the leaderboard.
+     *
+     * @return true if a move was undone else false
+     */
+    public boolean undo() {
+        int[] openedCells = history.undo();
+        if (openedCells == null) {
+            return false;
+        }
+
+        board.coverCells(openedCells);
+        ranked = false;
+        publishKeyframe();
+        return true;
+    }
+
+    /**
+     * Redoes the most recently undone move by opening its cells again.
+     *
+     * @return true if a move was redone else false
+     */
+    public boolean redo() {
+        int[] openedCells = history.redo();
+        if (openedCells == null) {
+            return false;
+        }
+
+        board.uncoverCells(openedCells);
+        publishKeyframe();
+        return true;
+    }
+
+    /**
+     * Subscribes a spectator to live updates of this game.
+     *
+     * @param queueCapacity The maximum number of updates buffered for the spectator
+     * @return The spectator's subscription
+     */
+    public SpectatorFeed.Subscription spectate(int queueCapacity) {
+        return spectatorFeed.subscribe(queueCapacity, board);
+    }
+
+    /**
+     * Sends the whole board to spectators after a change that is not a plain reveal.
+     */
+    private void publishKeyframe() {
+        if (spectatorFeed.hasSubscribers()) {
+            spectatorFeed.publishKeyframe(board);
+        }
     }
 
     /**
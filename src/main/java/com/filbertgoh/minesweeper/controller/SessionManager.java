@@ -0,0 +1,463 @@
+package com.filbertgoh.minesweeper.controller;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.model.MoveHistory;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.service.BoardCodec;
+import com.filbertgoh.minesweeper.util.GameConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps many game sessions while holding only the recently used ones in memory.
+ * A session idle for longer than the timeout, or the least recently used sessions
+ * once the estimated heap use exceeds the memory budget, is hibernated: its board
+ * is encoded with {@link BoardCodec} and its controller dropped. The encoded board
+ * is written to disk on a background executor and kept in memory only until the
+ * write completes; until then it counts towards the memory budget. The next access
+ * to a hibernated session restores it. The undo history, spectators and leaderboard
+ * eligibility of the game stay in memory and are handed to the restored controller, so
+ * hibernation is not visible to players.
+ */
+public class SessionManager {
+    private static final Pattern SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String FILE_SUFFIX = ".board";
+
+    private final Path directory;
+    private final Supplier<GameController> controllerFactory;
+    private final long idleTimeoutNanos;
+    private final long memoryBudget;
+    private final Executor writeBehind;
+    private final BoardCodec codec;
+    private final ConcurrentHashMap<String, Session> sessions;
+    private final AtomicLong activeBytes;
+
+    /**
+     * State of one session. Guarded by its own monitor.
+     */
+    private static final class Session {
+        private final String id;
+        private GameController controller;
+        private byte[] pendingImage;
+        private int imageVersion;
+        private boolean firstMove;
+        private boolean ranked;
+        private Difficulty tier;
+        private MoveHistory history;
+        private SpectatorFeed spectatorFeed;
+        private int safeZoneRadius;
+        private Topology topology;
+        private long startNanos;
+        private long footprint;
+        private volatile long lastAccess;
+
+        private Session(String id) {
+            this.id = id;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    /**
+     * Creates a new session manager.
+     *
+     * @param directory         The directory hibernated boards are written to
+     * @param controllerFactory The factory for the controllers of new and restored sessions
+     * @param idleTimeout       The time a session may be unused before it is hibernated
+     * @param memoryBudget      The estimated number of bytes active boards may use
+     * @param writeBehind       The executor hibernated boards are written on
+     * @throws IllegalArgumentException if the timeout is negative or the budget is not positive
+     */
+    public SessionManager(Path directory, Supplier<GameController> controllerFactory, Duration idleTimeout,
+                          long memoryBudget, Executor writeBehind) {
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout cannot be negative");
+        }
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+
+        this.directory = directory;
+        this.controllerFactory = controllerFactory;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.memoryBudget = memoryBudget;
+        this.writeBehind = writeBehind;
+        this.codec = new BoardCodec();
+        this.sessions = new ConcurrentHashMap<>();
+        this.activeBytes = new AtomicLong();
+    }
+
+    /**
+     * Starts hibernating idle sessions, waiting a fixed interval between sweeps.
+     *
+     * @param scheduler The executor to run sweeps on
+     * @param interval  The time between sweeps
+     * @return The scheduled task, which can be cancelled to stop sweeping
+     */
+    public ScheduledFuture<?> start(ScheduledExecutorService scheduler, Duration interval) {
+        return scheduler.scheduleWithFixedDelay(this::hibernateIdle, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a new game in a session, creating the session if it does not exist.
+     *
+     * @param sessionId The session id, made of letters, digits, '-' and '_'
+     * @param rows      The number of rows
+     * @param cols      The number of columns
+     * @param numMines  The number of mines
+     * @throws IllegalArgumentException if the session id or board parameters are invalid
+     */
+    public void newGame(String sessionId, int rows, int cols, int numMines) {
+        validateSessionId(sessionId);
+        Session session = sessions.computeIfAbsent(sessionId, Session::new);
+
+        synchronized (session) {
+            if (session.controller == null) {
+                // The old board is being replaced, so there is no need to restore it
+                session.controller = controllerFactory.get();
+                takeOverFromHibernation(session);
+                releaseImage(session);
+                session.imageVersion++;
+                session.footprint = 0;
+            }
+            session.controller.initializeGame(rows, cols, numMines);
+            session.lastAccess = System.nanoTime();
+            updateFootprint(session);
+        }
+
+        enforceBudget(session);
+    }
+
+    /**
+     * Makes a move in a session, restoring the session first if it is hibernated.
+     *
+     * @param sessionId The session id
+     * @param row       The row position
+     * @param col       The column position
+     * @return true if the move hit a mine else false
+     * @throws IllegalArgumentException if there is no such session
+     */
+    public boolean makeMove(String sessionId, int row, int col) {
+        return withSession(sessionId, controller -> controller.makeMove(row, col));
+    }
+
+    /**
+     * Runs an action on the controller of a session, restoring the session first if it is hibernated.
+     * The controller must not be kept after the action returns.
+     *
+     * @param sessionId The session id
+     * @param action    The action to run
+     * @param <T>       The type of the action's result
+     * @return The action's result
+     * @throws IllegalArgumentException if there is no such session
+     * @throws UncheckedIOException if the hibernated board cannot be read
+     */
+    public <T> T withSession(String sessionId, Function<GameController, T> action) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+
+        T result;
+        synchronized (session) {
+            if (session.controller == null) {
+                restore(session);
+            }
+            session.lastAccess = System.nanoTime();
+            result = action.apply(session.controller);
+        }
+
+        enforceBudget(session);
+        return result;
+    }
+
+    /**
+     * Ends a session and deletes its hibernated board.
+     *
+     * @param sessionId The session id
+     * @return true if the session existed else false
+     */
+    public boolean closeSession(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+
+        synchronized (session) {
+            if (session.controller != null) {
+                activeBytes.addAndGet(-session.footprint);
+                session.controller = null;
+            }
+            releaseImage(session);
+            session.imageVersion++;
+            session.history = null;
+            session.spectatorFeed = null;
+        }
+
+        try {
+            Files.deleteIfExists(fileFor(session));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Hibernates every session that has been idle for longer than the timeout.
+     *
+     * @return The number of sessions hibernated
+     */
+    public int hibernateIdle() {
+        long now = System.nanoTime();
+        int hibernated = 0;
+
+        for (Session session : sessions.values()) {
+            if (now - session.lastAccess >= idleTimeoutNanos && hibernate(session)) {
+                hibernated++;
+            }
+        }
+
+        return hibernated;
+    }
+
+    /**
+     * Checks if a session is hibernated.
+     *
+     * @param sessionId The session id
+     * @return true if the session exists and is hibernated else false
+     */
+    public boolean isHibernated(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+
+        synchronized (session) {
+            return session.controller == null;
+        }
+    }
+
+    /**
+     * Gets the number of sessions, active or hibernated.
+     *
+     * @return The number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the estimated number of bytes used by active boards and by encoded boards
+     * that have not been written to disk yet.
+     *
+     * @return The estimated heap use of sessions
+     */
+    public long getActiveBytes() {
+        return activeBytes.get();
+    }
+
+    /**
+     * Hibernates the least recently used sessions until active boards fit in the memory budget.
+     * The session that was just used is never hibernated here.
+     *
+     * @param current The session that was just used
+     */
+    private void enforceBudget(Session current) {
+        if (activeBytes.get() <= memoryBudget) {
+            return;
+        }
+
+        List<Session> candidates = new ArrayList<>();
+        for (Session session : sessions.values()) {
+            if (session != current) {
+                candidates.add(session);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(session -> session.lastAccess));
+
+        for (Session session : candidates) {
+            if (activeBytes.get() <= memoryBudget) {
+                break;
+            }
+            hibernate(session);
+        }
+    }
+
+    /**
+     * Encodes a session's board, drops its controller and schedules the encoded board to be written.
+     *
+     * @param session The session to hibernate
+     * @return true if the session was hibernated, false if it was already hibernated or has no game
+     */
+    private boolean hibernate(Session session) {
+        int version;
+        byte[] image;
+
+        synchronized (session) {
+            if (session.controller == null || session.controller.getBoard() == null) {
+                return false;
+            }
+
+            GameController controller = session.controller;
+            image = codec.encode(controller.getBoard());
+            session.firstMove = controller.isFirstMove();
+            session.ranked = controller.isRanked();
+            session.tier = controller.getTier();
+            session.history = controller.getHistory();
+            session.spectatorFeed = controller.getSpectatorFeed();
+            session.safeZoneRadius = controller.getSafeZoneRadius();
+            session.topology = controller.getBoard().getTopology();
+            session.startNanos = controller.getStartNanos();
+            session.controller = null;
+            session.pendingImage = image;
+            version = ++session.imageVersion;
+            activeBytes.addAndGet(image.length - session.footprint);
+        }
+
+        writeBehind.execute(() -> write(session, version, image));
+        return true;
+    }
+
+    /**
+     * Writes an encoded board to disk and releases its in-memory copy, unless the session
+     * has been restored, hibernated again or closed in the meantime. If the write fails the
+     * copy is kept, and still counted against the memory budget, until the session is restored.
+     *
+     * @param session The hibernated session
+     * @param version The image version being written
+     * @param image   The encoded board
+     */
+    private void write(Session session, int version, byte[] image) {
+        Path file = fileFor(session);
+        Path temporary = directory.resolve(session.id + "." + version + ".tmp");
+
+        try {
+            Files.write(temporary, image);
+            synchronized (session) {
+                if (session.imageVersion == version && session.pendingImage == image) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    releaseImage(session);
+                    return;
+                }
+            }
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            // The image stays in memory, so the session can still be restored from it
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // Nothing was written, or the directory is unusable
+            }
+        }
+    }
+
+    /**
+     * Restores a hibernated session from its in-memory image or from disk.
+     * Must be called while holding the session's monitor.
+     *
+     * @param session The session to restore
+     * @throws UncheckedIOException if the board cannot be read
+     */
+    private void restore(Session session) {
+        byte[] image = session.pendingImage;
+        if (image == null) {
+            try {
+                image = Files.readAllBytes(fileFor(session));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Board board = codec.decode(ByteBuffer.wrap(image), session.topology);
+        GameController controller = controllerFactory.get();
+        controller.resumeGame(board, session.firstMove, session.tier, session.ranked, session.safeZoneRadius,
+                session.startNanos);
+
+        session.controller = controller;
+        takeOverFromHibernation(session);
+        releaseImage(session);
+        session.imageVersion++;
+        session.footprint = 0;
+        updateFootprint(session);
+    }
+
+    /**
+     * Hands the move history and spectators kept while a session was hibernated to its
+     * new controller. Must be called while holding the session's monitor.
+     *
+     * @param session The session whose controller was just created
+     */
+    private void takeOverFromHibernation(Session session) {
+        if (session.history != null) {
+            session.controller.takeOver(session.history, session.spectatorFeed);
+            session.history = null;
+            session.spectatorFeed = null;
+        }
+    }
+
+    /**
+     * Drops a session's in-memory image, if it has one, and takes it off the active bytes.
+     * Must be called while holding the session's monitor.
+     *
+     * @param session The session
+     */
+    private void releaseImage(Session session) {
+        if (session.pendingImage != null) {
+            activeBytes.addAndGet(-session.pendingImage.length);
+            session.pendingImage = null;
+        }
+    }
+
+    /**
+     * Recomputes the estimated heap use of an active session's board.
+     * Must be called while holding the session's monitor.
+     *
+     * @param session The active session
+     */
+    private void updateFootprint(Session session) {
+        long footprint = (long) session.controller.getBoard().getCellCount() * GameConfig.SESSION_BYTES_PER_CELL;
+        activeBytes.addAndGet(footprint - session.footprint);
+        session.footprint = footprint;
+    }
+
+    /**
+     * Gets the file a session's board is hibernated to.
+     *
+     * @param session The session
+     * @return The path of the hibernation file
+     */
+    private Path fileFor(Session session) {
+        return directory.resolve(session.id + FILE_SUFFIX);
+    }
+
+    /**
+     * Validates that a session id is safe to use as a file name.
+     *
+     * @param sessionId The session id
+     * @throws IllegalArgumentException if the id is invalid
+     */
+    private static void validateSessionId(String sessionId) {
+        if (sessionId == null || !SESSION_ID.matcher(sessionId).matches()) {
+            throw new IllegalArgumentException("Invalid session id: must be 1 to 64 letters, digits, '-' or '_'");
+        }
+    }
+}
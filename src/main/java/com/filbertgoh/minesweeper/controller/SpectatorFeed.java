@@ -0,0 +1,233 @@
+package com.filbertgoh.minesweeper.controller;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Cell;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publish/subscribe feed of board updates for spectators of a game.
+ * Each move is sent as a compact JSON delta listing the cells it opened as
+ * run-length encoded index ranges, and a full keyframe is sent periodically.
+ * Every subscriber has a bounded queue; when a slow subscriber's queue overflows
+ * its backlog is dropped and replaced by a keyframe of the current board, so
+ * publishing never blocks the game.
+ */
+public class SpectatorFeed {
+    private final int keyframeInterval;
+    private final List<Subscription> subscriptions;
+    private long sequence;
+
+    /**
+     * Creates a new spectator feed.
+     *
+     * @param keyframeInterval The number of moves between full keyframes
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public SpectatorFeed(int keyframeInterval) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        this.keyframeInterval = keyframeInterval;
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Subscribes a new spectator. The first message it receives is a keyframe.
+     *
+     * @param queueCapacity The maximum number of messages buffered for the spectator
+     * @param board         The current board to send as the first keyframe, or null if no game has started
+     * @return The subscription to read updates from
+     */
+    public synchronized Subscription subscribe(int queueCapacity, Board board) {
+        Subscription subscription = new Subscription(queueCapacity);
+        if (board != null) {
+            subscription.deliver(encodeKeyframe(board), true);
+        }
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Checks if anyone is watching.
+     *
+     * @return true if there is at least one open subscription else false
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Publishes the cells opened by a move.
+     *
+     * @param board       The board the move was made on
+     * @param openedCells The linear indices of the cells the move opened
+     * @param hitMine     Whether the move hit a mine
+     */
+    public synchronized void publishMove(Board board, int[] openedCells, boolean hitMine) {
+        sequence++;
+        if (sequence % keyframeInterval == 0) {
+            publishKeyframe(board);
+            return;
+        }
+
+        String delta = encodeDelta(board, openedCells, hitMine);
+        String keyframe = null;
+
+        for (Subscription subscription : subscriptions) {
+            // A subscriber whose queue overflows gets the whole board in place of its backlog
+            if (subscription.needsKeyframe || !subscription.deliver(delta, false)) {
+                if (keyframe == null) {
+                    keyframe = encodeKeyframe(board);
+                }
+                subscription.deliver(keyframe, true);
+            }
+        }
+    }
+
+    /**
+     * Publishes a full keyframe of the board to every subscriber, for example after
+     * a new game starts or a move is undone.
+     *
+     * @param board The board to publish
+     */
+    public synchronized void publishKeyframe(Board board) {
+        String keyframe = encodeKeyframe(board);
+        for (Subscription subscription : subscriptions) {
+            subscription.deliver(keyframe, true);
+        }
+    }
+
+    /**
+     * Encodes the cells opened by a move as runs of consecutive indices.
+     *
+     * @param board       The board the move was made on
+     * @param openedCells The linear indices of the opened cells
+     * @param hitMine     Whether the move hit a mine
+     * @return The JSON delta message
+     */
+    String encodeDelta(Board board, int[] openedCells, boolean hitMine) {
+        int[] sorted = openedCells.clone();
+        Arrays.sort(sorted);
+
+        StringBuilder runs = new StringBuilder(16 + sorted.length);
+        StringBuilder values = new StringBuilder(sorted.length);
+        int i = 0;
+        while (i < sorted.length) {
+            int start = sorted[i];
+            int length = 1;
+            while (i + length < sorted.length && sorted[i + length] == start + length) {
+                length++;
+            }
+
+            if (runs.length() > 0) {
+                runs.append(',');
+            }
+            runs.append('[').append(start).append(',').append(length).append(']');
+            for (int n = 0; n < length; n++) {
+                values.append(display(board.getCell(start + n)));
+            }
+            i += length;
+        }
+
+        return "{\"type\":\"delta\",\"seq\":" + sequence + ",\"hitMine\":" + hitMine
+                + ",\"runs\":[" + runs + "],\"values\":\"" + values + "\"}";
+    }
+
+    /**
+     * Encodes the full visible state of the board, one character per cell in row-major order.
+     *
+     * @param board The board to encode
+     * @return The JSON keyframe message
+     */
+    String encodeKeyframe(Board board) {
+        StringBuilder cells = new StringBuilder(board.getCellCount());
+        for (int index = 0; index < board.getCellCount(); index++) {
+            cells.append(display(board.getCell(index)));
+        }
+
+        return "{\"type\":\"keyframe\",\"seq\":" + sequence + ",\"rows\":" + board.getRows()
+                + ",\"cols\":" + board.getCols() + ",\"cells\":\"" + cells + "\"}";
+    }
+
+    /**
+     * Gets the character a spectator sees for a cell.
+     *
+     * @param cell The cell
+     * @return '_' for covered cells, '*' for revealed mines, otherwise the adjacent mine count
+     */
+    private char display(Cell cell) {
+        if (cell.isCovered()) {
+            return '_';
+        }
+        return cell.hasMine() ? '*' : (char) ('0' + cell.getAdjacentMines());
+    }
+
+    /**
+     * A spectator's bounded stream of updates.
+     */
+    public class Subscription implements AutoCloseable {
+        private final BlockingQueue<String> queue;
+        private volatile boolean needsKeyframe;
+
+        private Subscription(int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.needsKeyframe = true;
+        }
+
+        /**
+         * Queues a message. If the queue is full the backlog is dropped; a keyframe is then
+         * queued in its place, while a delta is discarded and a keyframe requested.
+         *
+         * @param message    The message to queue
+         * @param isKeyframe Whether the message is a keyframe
+         * @return true if the message was queued else false
+         */
+        private boolean deliver(String message, boolean isKeyframe) {
+            if (queue.offer(message)) {
+                if (isKeyframe) {
+                    needsKeyframe = false;
+                }
+                return true;
+            }
+
+            queue.clear();
+            needsKeyframe = !(isKeyframe && queue.offer(message));
+            return !needsKeyframe;
+        }
+
+        /**
+         * Gets the next update if one is available.
+         *
+         * @return The next message, or null if none is queued
+         */
+        public String poll() {
+            return queue.poll();
+        }
+
+        /**
+         * Waits for the next update.
+         *
+         * @param timeout The maximum time to wait
+         * @param unit    The unit of the timeout
+         * @return The next message, or null if the timeout elapsed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public String poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return queue.poll(timeout, unit);
+        }
+
+        /**
+         * Stops receiving updates.
+         */
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
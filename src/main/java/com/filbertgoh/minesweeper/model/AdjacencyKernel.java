@@ -0,0 +1,20 @@
+package com.filbertgoh.minesweeper.model;
+
+/**
+ * Bulk operations over byte maps of a square-grid board, used for adjacency counting
+ * on large boards.
+ */
+interface AdjacencyKernel {
+
+    /**
+     * Counts the mines adjacent to every cell. The mine map is row-major with a one-cell
+     * border of zeros on every side, so its rows are {@code cols + 2} bytes long and
+     * no cell needs bounds checks.
+     *
+     * @param paddedMines The padded mine map, 1 for a mine and 0 otherwise
+     * @param rows        The number of board rows
+     * @param cols        The number of board columns
+     * @param counts      The row-major output, set to the adjacent mine count of each safe cell and 0 for mines
+     */
+    void countAdjacent(byte[] paddedMines, int rows, int cols, byte[] counts);
+}
@@ -0,0 +1,61 @@
+package com.filbertgoh.minesweeper.model;
+
+/**
+ * Chooses the {@link AdjacencyKernel} implementation. The Vector API kernel is only
+ * compiled by the {@code vector} Maven profile and only loads when the JVM was started
+ * with {@code --add-modules jdk.incubator.vector}; otherwise the scalar kernel is used.
+ * Setting the system property {@code minesweeper.vector} to {@code false} forces the
+ * scalar kernel.
+ */
+final class AdjacencyKernels {
+    private static final String VECTOR_KERNEL = "com.filbertgoh.minesweeper.model.VectorAdjacencyKernel";
+
+    private static final AdjacencyKernel SCALAR = new ScalarAdjacencyKernel();
+    private static final AdjacencyKernel VECTOR = loadVectorKernel();
+
+    private AdjacencyKernels() {}
+
+    /**
+     * Gets the scalar kernel.
+     *
+     * @return The scalar kernel
+     */
+    static AdjacencyKernel scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Gets the Vector API kernel.
+     *
+     * @return The vector kernel, or null if it is not available in this build or JVM
+     */
+    static AdjacencyKernel vector() {
+        return VECTOR;
+    }
+
+    /**
+     * Gets the fastest available kernel.
+     *
+     * @return The vector kernel if available, else the scalar kernel
+     */
+    static AdjacencyKernel best() {
+        return VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    /**
+     * Loads the Vector API kernel if it was compiled in and the incubator module is present.
+     *
+     * @return The vector kernel, or null
+     */
+    private static AdjacencyKernel loadVectorKernel() {
+        if (!Boolean.parseBoolean(System.getProperty("minesweeper.vector", "true"))) {
+            return null;
+        }
+
+        try {
+            return (AdjacencyKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -1,41 +1,189 @@
 package com.filbertgoh.minesweeper.model;
 
+import com.filbertgoh.minesweeper.util.GameConfig;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * Represents the game board in Minesweeper.
+ * Cells are stored in a single row-major array addressed by the linear index
+ * {@code row * cols + col}.
  */
 public class Board {
-    private final int size;
-    private final Cell[][] cells;
+    // Below this size building the mine map costs more than the vector kernel saves
+    private static final int VECTOR_MIN_CELLS = 4096;
+
+    private final int rows;
+    private final int cols;
+    private final Cell[] cells;
     private final int totalMines;
+    private final Topology topology;
+    private final NeighbourProvider neighbours;
+    private final int[] neighbourScratch;
+    private final IntPredicate[] stateTests;
+    private final TileSummary tileSummary;
     private int revealedCount;
+    private int[] revealJournal;
+    private int revealJournalSize;
+    private int[] revealStack;
+    private long mineFingerprint;
 
     /**
-     * Creates a new board with the specified size and number of mines.
+     * Creates a new square board with the specified size and number of mines.
      *
      * @param size      The size of the board
      * @param numMines  The number of mines to place on the board
      */
     public Board(int size, int numMines) {
-        this.size = size;
+        this(size, size, numMines);
+    }
+
+    /**
+     * Creates a new rectangular board with the specified dimensions and number of mines.
+     *
+     * @param rows      The number of rows
+     * @param cols      The number of columns
+     * @param numMines  The number of mines to place on the board
+     */
+    public Board(int rows, int cols, int numMines) {
+        this(rows, cols, numMines, Topology.SQUARE);
+    }
+
+    /**
+     * Creates a new rectangular board with the specified dimensions, number of mines and topology.
+     *
+     * @param rows      The number of rows
+     * @param cols      The number of columns
+     * @param numMines  The number of mines to place on the board
+     * @param topology  The topology that decides which cells are adjacent
+     * @throws IllegalArgumentException if a dimension is negative or the board has more than
+     *         {@link GameConfig#MAX_BOARD_CELLS} cells
+     */
+    public Board(int rows, int cols, int numMines, Topology topology) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > GameConfig.MAX_BOARD_CELLS) {
+            throw new IllegalArgumentException("Board must have at most " + GameConfig.MAX_BOARD_CELLS
+                    + " cells, not " + rows + "x" + cols);
+        }
+
+        this.rows = rows;
+        this.cols = cols;
         this.totalMines = numMines;
-        this.cells = new Cell[size][size];
+        this.cells = new Cell[rows * cols];
+        this.topology = topology;
+        this.neighbours = topology.neighbours(rows, cols);
+        this.neighbourScratch = new int[NeighbourProvider.MAX_NEIGHBOURS];
+        this.stateTests = new IntPredicate[CellState.values().length];
+        for (CellState state : CellState.values()) {
+            stateTests[state.ordinal()] = index -> cells[index].getState() == state;
+        }
+        this.tileSummary = new TileSummary(rows, cols);
         this.revealedCount = 0;
+        this.revealJournal = new int[16];
+        this.revealJournalSize = 0;
+        this.revealStack = new int[16];
 
         initializeCells();
     }
 
+    /**
+     * Creates a copy of another board, including its mines, adjacency counts and reveal state.
+     *
+     * @param other The board to copy
+     */
+    protected Board(Board other) {
+        this(other.rows, other.cols, other.totalMines, other.topology);
+
+        for (int index = 0; index < cells.length; index++) {
+            Cell source = other.cells[index];
+            Cell target = cells[index];
+            target.setMine(source.hasMine());
+            target.setAdjacentMines(source.getAdjacentMines());
+            target.setState(source.getState());
+            if (target.isRevealed()) {
+                tileSummary.cellRevealed(index);
+            }
+        }
+
+        this.revealedCount = other.getRevealedCount();
+        this.mineFingerprint = other.mineFingerprint;
+    }
+
+    /**
+     * Creates an independent copy of this board.
+     *
+     * @return A copy of this board
+     */
+    public Board copy() {
+        return new Board(this);
+    }
+
     /**
      * Initializes all cells on the board.
      */
     private void initializeCells() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                cells[row][col] = new Cell(row, col);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cells[row * cols + col] = new Cell(row, col);
+            }
+        }
+    }
+
+    /**
+     * Calculates adjacent mines of each cell from a padded mine map using a bulk kernel.
+     * Only valid for the square topology.
+     *
+     * @param kernel The kernel to count with
+     */
+    void calculateAdjacentMines(AdjacencyKernel kernel) {
+        byte[] counts = new byte[cells.length];
+        kernel.countAdjacent(paddedMineMap(), rows, cols, counts);
+
+        for (int index = 0; index < cells.length; index++) {
+            cells[index].setAdjacentMines(counts[index]);
+        }
+    }
+
+    /**
+     * Counts the mines on the board by scanning every cell.
+     *
+     * @return The number of cells holding a mine
+     */
+    public int countMines() {
+        int mines = 0;
+        for (Cell cell : cells) {
+            if (cell.hasMine()) {
+                mines++;
+            }
+        }
+        return mines;
+    }
+
+    /**
+     * Builds a row-major mine map with a border of empty cells on every side.
+     *
+     * @return The padded mine map, {@code cols + 2} bytes per row and {@code rows + 2} rows
+     */
+    private byte[] paddedMineMap() {
+        int stride = cols + 2;
+        byte[] padded = new byte[(rows + 2) * stride];
+
+        for (int row = 0; row < rows; row++) {
+            int base = row * cols;
+            int out = (row + 1) * stride + 1;
+            for (int col = 0; col < cols; col++) {
+                if (cells[base + col].hasMine()) {
+                    padded[out + col] = 1;
+                }
             }
         }
+
+        return padded;
     }
 
     /*
@@ -49,12 +197,39 @@ public class Board {
     }
 
     /**
-     * Gets the size of the board.
+     * Gets the size of a square board.
      *
-     * @return The board size
+     * @return The number of rows, which equals the number of columns on a square board
      */
     public int getSize() {
-        return size;
+        return rows;
+    }
+
+    /**
+     * Gets the number of rows on the board.
+     *
+     * @return The number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns on the board.
+     *
+     * @return The number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the total number of cells on the board.
+     *
+     * @return The number of cells
+     */
+    public int getCellCount() {
+        return cells.length;
     }
 
     /**
@@ -66,6 +241,42 @@ public class Board {
         return totalMines;
     }
 
+    /**
+     * Gets the topology of the board.
+     *
+     * @return The topology
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Gets the per-tile counts of revealed cells.
+     *
+     * @return The tile summary, updated as cells are revealed and covered
+     */
+    public TileSummary getTileSummary() {
+        return tileSummary;
+    }
+
+    /**
+     * Gets the fingerprint of the mine layout recorded when the board was generated.
+     *
+     * @return The 64-bit mine layout fingerprint, or 0 if none was recorded
+     */
+    public long getMineFingerprint() {
+        return mineFingerprint;
+    }
+
+    /**
+     * Sets the fingerprint of the mine layout.
+     *
+     * @param mineFingerprint The 64-bit mine layout fingerprint
+     */
+    public void setMineFingerprint(long mineFingerprint) {
+        this.mineFingerprint = mineFingerprint;
+    }
+
     /**
      * Gets the cell at the specified position.
      *
@@ -76,7 +287,29 @@ public class Board {
      */
     public Cell getCell(int row, int col) {
         validateCoordinates(row, col);
-        return cells[row][col];
+        return cells[row * cols + col];
+    }
+
+    /**
+     * Gets the cell at the specified linear index.
+     *
+     * @param index The linear index (row * cols + col)
+     * @return The cell at the specified index
+     * @throws IndexOutOfBoundsException if the index is outside the board
+     */
+    public Cell getCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Gets the linear index of the specified position.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return The linear index (row * cols + col)
+     */
+    public int indexOf(int row, int col) {
+        return row * cols + col;
     }
 
     /**
@@ -87,7 +320,7 @@ public class Board {
      * @return true if the position is valid else false
      */
     public boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < size && col >= 0 && col < size;
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     /**
@@ -103,6 +336,18 @@ public class Board {
         }
     }
 
+    /**
+     * Writes the linear indices of the cells adjacent to a cell into a buffer,
+     * as defined by the board's topology.
+     *
+     * @param index The linear index of the cell
+     * @param out   The buffer to write to, with room for at least {@link NeighbourProvider#MAX_NEIGHBOURS} indices
+     * @return The number of adjacent cells written
+     */
+    protected int collectNeighbours(int index, int[] out) {
+        return neighbours.collectNeighbours(index, out);
+    }
+
     /**
      * Gets all adjacent cells to the specified position.
      *
@@ -112,43 +357,99 @@ public class Board {
      */
     public List<Cell> getAdjacentCells(int row, int col) {
         validateCoordinates(row, col);
-        List<Cell> adjacentCells = new ArrayList<>();
+        int count = collectNeighbours(row * cols + col, neighbourScratch);
+        List<Cell> adjacentCells = new ArrayList<>(count);
 
-        for (int r = Math.max(0, row - 1); r <= Math.min(size - 1, row + 1); r++) {
-            for (int c = Math.max(0, col - 1); c <= Math.min(size - 1, col + 1); c++) {
-                if (r != row || c != col) {
-                    adjacentCells.add(cells[r][c]);
-                }
-            }
+        for (int i = 0; i < count; i++) {
+            adjacentCells.add(cells[neighbourScratch[i]]);
         }
 
         return adjacentCells;
     }
 
+    /**
+     * Passes the linear index of each cell adjacent to the specified position to an action.
+     * Unlike {@link #getAdjacentCells(int, int)} nothing is allocated and no shared buffer
+     * is used, so the action may walk neighbours again or reveal cells.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param action The action to run with each adjacent cell's linear index
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     */
+    public void forEachNeighbour(int row, int col, IntConsumer action) {
+        validateCoordinates(row, col);
+        neighbours.forEachNeighbour(row * cols + col, action);
+    }
+
+    /**
+     * Passes the linear index of each cell adjacent to a cell to an action.
+     *
+     * @param index  The linear index of the cell
+     * @param action The action to run with each adjacent cell's linear index
+     * @throws IndexOutOfBoundsException if the index is outside the board
+     */
+    public void forEachNeighbour(int index, IntConsumer action) {
+        neighbours.forEachNeighbour(Objects.checkIndex(index, cells.length), action);
+    }
+
+    /**
+     * Counts the cells adjacent to a cell that are in a given state.
+     *
+     * @param index The linear index of the cell
+     * @param state The state to count
+     * @return The number of adjacent cells in that state
+     * @throws IndexOutOfBoundsException if the index is outside the board
+     */
+    public int countNeighbours(int index, CellState state) {
+        return neighbours.countNeighbours(Objects.checkIndex(index, cells.length), stateTests[state.ordinal()]);
+    }
+
+    /**
+     * Counts the cells adjacent to a cell that pass a test, such as those a solver has marked.
+     *
+     * @param index The linear index of the cell
+     * @param test  The test applied to each adjacent cell's linear index
+     * @return The number of adjacent cells that pass the test
+     * @throws IndexOutOfBoundsException if the index is outside the board
+     */
+    public int countNeighbours(int index, IntPredicate test) {
+        return neighbours.countNeighbours(Objects.checkIndex(index, cells.length), test);
+    }
+
     /**
      * Calculates adjacent mines of each cell and adds that figure to it
      *
      */
     public void calculateAdjacentMines() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                if (cells[row][col].hasMine()) {
-                    continue;
-                }
+        AdjacencyKernel kernel = AdjacencyKernels.vector();
+        if (kernel != null && topology == Topology.SQUARE && cells.length >= VECTOR_MIN_CELLS) {
+            calculateAdjacentMines(kernel);
+            return;
+        }
 
-                int mineCount = 0;
-                for (Cell adjacentCell : getAdjacentCells(row, col)) {
-                    if (adjacentCell.hasMine()) {
-                        mineCount++;
-                    }
-                }
-                cells[row][col].setAdjacentMines(mineCount);
+        int[] counts = new int[cells.length];
+
+        for (int index = 0; index < cells.length; index++) {
+            if (!cells[index].hasMine()) {
+                continue;
+            }
+
+            int count = collectNeighbours(index, neighbourScratch);
+            for (int i = 0; i < count; i++) {
+                counts[neighbourScratch[i]]++;
             }
         }
+
+        for (int index = 0; index < cells.length; index++) {
+            cells[index].setAdjacentMines(cells[index].hasMine() ? 0 : counts[index]);
+        }
     }
 
     /**
      * Reveals the cell at the specified position.
+     * The indices of every cell opened by this call, including any cascade,
+     * are kept until the next reveal and can be read with {@link #copyLastRevealed()}.
      *
      * @param row The row position
      * @param col The column position
@@ -156,13 +457,14 @@ public class Board {
      */
     public boolean revealCell(int row, int col) {
         Cell cell = getCell(row, col);
+        revealJournalSize = 0;
 
         if (cell.isRevealed()) {
             return false;
         }
 
-        cell.reveal();
-        revealedCount++;
+        int start = row * cols + col;
+        openCell(start);
 
         if (cell.hasMine()) {
             return true;
@@ -170,22 +472,187 @@ public class Board {
 
         // If cell has no adjacent mines, reveal all adjacent cells
         if (cell.getAdjacentMines() == 0) {
-            for (Cell adjacentCell : getAdjacentCells(row, col)) {
-                if (adjacentCell.isCovered()) {
-                    revealCell(adjacentCell.getRow(), adjacentCell.getCol());
-                }
+            cascadeFrom(start);
+        }
+
+        return false;
+    }
+
+    /**
+     * Reveals the cell at the specified position, expanding a large cascade in parallel.
+     * The resulting board state is identical to {@link #revealCell(int, int)};
+     * only the order of the indices in the reveal journal may differ.
+     *
+     * @param row  The row position
+     * @param col  The column position
+     * @param pool The pool to run the cascade on
+     * @return true if the revealed cell has a mine else false
+     */
+    public boolean revealCell(int row, int col, ForkJoinPool pool) {
+        Cell cell = getCell(row, col);
+        revealJournalSize = 0;
+
+        if (cell.isRevealed()) {
+            return false;
+        }
+
+        int start = row * cols + col;
+        openCell(start);
+
+        if (cell.hasMine()) {
+            return true;
+        }
+
+        if (cell.getAdjacentMines() == 0) {
+            int[] opened = new ParallelFloodFill(this, pool).fill(start);
+            revealedCount += opened.length;
+            for (int index : opened) {
+                tileSummary.cellRevealed(index);
+            }
+            if (revealJournalSize + opened.length > revealJournal.length) {
+                revealJournal = Arrays.copyOf(revealJournal, revealJournalSize + opened.length);
             }
+            System.arraycopy(opened, 0, revealJournal, revealJournalSize, opened.length);
+            revealJournalSize += opened.length;
         }
 
         return false;
     }
 
+    /**
+     * Reveals the cell at the specified position and fills a caller-owned result
+     * with the outcome, so no array is allocated for the opened cells.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param result The result to overwrite
+     * @return The given result
+     */
+    public RevealResult revealCell(int row, int col, RevealResult result) {
+        boolean hitMine = revealCell(row, col);
+        result.set(hitMine, revealJournal, getLastRevealedCount());
+        return result;
+    }
+
+    /**
+     * Reveals the cell at the specified position, expanding a large cascade in parallel,
+     * and fills a caller-owned result with the outcome.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param pool   The pool to run the cascade on
+     * @param result The result to overwrite
+     * @return The given result
+     */
+    public RevealResult revealCell(int row, int col, ForkJoinPool pool, RevealResult result) {
+        boolean hitMine = revealCell(row, col, pool);
+        result.set(hitMine, revealJournal, getLastRevealedCount());
+        return result;
+    }
+
+    /**
+     * Reveals every cell reachable from an opened cell with no adjacent mines,
+     * stopping at cells that do have adjacent mines.
+     *
+     * @param start The linear index of the opened cell to cascade from
+     */
+    private void cascadeFrom(int start) {
+        int top = 0;
+        revealStack[top++] = start;
+
+        while (top > 0) {
+            int count = collectNeighbours(revealStack[--top], neighbourScratch);
+
+            for (int i = 0; i < count; i++) {
+                int neighbour = neighbourScratch[i];
+                Cell adjacentCell = cells[neighbour];
+                if (!adjacentCell.isCovered()) {
+                    continue;
+                }
+
+                openCell(neighbour);
+                if (adjacentCell.getAdjacentMines() == 0) {
+                    if (top == revealStack.length) {
+                        revealStack = Arrays.copyOf(revealStack, top * 2);
+                    }
+                    revealStack[top++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reveals a single cell and records it in the reveal journal.
+     *
+     * @param index The linear index of the cell to reveal
+     */
+    private void openCell(int index) {
+        cells[index].reveal();
+        revealedCount++;
+        tileSummary.cellRevealed(index);
+
+        if (revealJournalSize == revealJournal.length) {
+            revealJournal = Arrays.copyOf(revealJournal, revealJournalSize * 2);
+        }
+        revealJournal[revealJournalSize++] = index;
+    }
+
+    /**
+     * Gets the number of cells opened by the last call to {@link #revealCell(int, int)}.
+     *
+     * @return The number of cells opened by the last reveal
+     */
+    public int getLastRevealedCount() {
+        return revealJournalSize;
+    }
+
+    /**
+     * Copies the linear indices (row * cols + col) of the cells opened by the last reveal.
+     *
+     * @return A packed array of the opened cell indices
+     */
+    public int[] copyLastRevealed() {
+        return Arrays.copyOf(revealJournal, revealJournalSize);
+    }
+
+    /**
+     * Covers the cells at the given linear indices again, undoing an earlier reveal.
+     *
+     * @param indices The linear indices (row * cols + col) of the cells to cover
+     */
+    public void coverCells(int[] indices) {
+        for (int index : indices) {
+            Cell cell = cells[index];
+            if (cell.isRevealed()) {
+                cell.setState(CellState.COVERED);
+                revealedCount--;
+                tileSummary.cellCovered(index);
+            }
+        }
+    }
+
+    /**
+     * Reveals the cells at the given linear indices without cascading, replaying an earlier reveal.
+     *
+     * @param indices The linear indices (row * cols + col) of the cells to reveal
+     */
+    public void uncoverCells(int[] indices) {
+        for (int index : indices) {
+            Cell cell = cells[index];
+            if (cell.isCovered()) {
+                cell.reveal();
+                revealedCount++;
+                tileSummary.cellRevealed(index);
+            }
+        }
+    }
+
     /**
      * Checks if the game is won.
      *
      * @return true if all non-mine cells are revealed else false
      */
     public boolean isGameWon() {
-        return revealedCount == (size * size - totalMines);
+        return revealedCount == (cells.length - totalMines);
     }
 }
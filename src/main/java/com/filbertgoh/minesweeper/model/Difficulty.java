@@ -0,0 +1,64 @@
+package com.filbertgoh.minesweeper.model;
+
+/**
+ * Standard difficulty tiers and their board layouts.
+ */
+public enum Difficulty {
+    BEGINNER(9, 9, 10),
+    INTERMEDIATE(16, 16, 40),
+    EXPERT(16, 30, 99);
+
+    private final int rows;
+    private final int cols;
+    private final int mines;
+
+    Difficulty(int rows, int cols, int mines) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+    }
+
+    /**
+     * Gets the number of rows for this tier.
+     *
+     * @return The number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns for this tier.
+     *
+     * @return The number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of mines for this tier.
+     *
+     * @return The number of mines
+     */
+    public int getMines() {
+        return mines;
+    }
+
+    /**
+     * Finds the tier with the given board layout.
+     *
+     * @param rows  The number of rows
+     * @param cols  The number of columns
+     * @param mines The number of mines
+     * @return The matching tier, or null for a custom layout
+     */
+    public static Difficulty of(int rows, int cols, int mines) {
+        for (Difficulty difficulty : values()) {
+            if (difficulty.rows == rows && difficulty.cols == cols && difficulty.mines == mines) {
+                return difficulty;
+            }
+        }
+        return null;
+    }
+}
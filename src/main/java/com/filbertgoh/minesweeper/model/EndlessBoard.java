@@ -0,0 +1,555 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.SplitMix64;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A square-grid board with no edges, for endless games. Rows and columns are signed and
+ * run to {@link GameConfig#ENDLESS_COORDINATE_LIMIT} in every direction, and the first
+ * click is expected near (0, 0), whose surrounding cells never hold a mine.
+ *
+ * <p>The board is split into {@link #CHUNK_SIZE} by {@link #CHUNK_SIZE} chunks. Mines are
+ * never stored: each cell's mine comes from a hash of the seed, its chunk's coordinates and
+ * its position in the chunk, so any cell can be asked about at any time. Only reveal state
+ * is kept, one bit per cell, in chunks created the first time a reveal or print touches
+ * them. At most a fixed number of chunks stay in memory; the least recently used one is
+ * written to the spill directory when that number is exceeded, and read back when touched
+ * again. A chunk with every safe cell revealed is written as a single tag byte, since its
+ * bits follow from the mines. Chunks that were never revealed in are simply dropped.
+ * Chunk files left in the spill directory by an earlier board are deleted when a board
+ * is created, since they may belong to a different seed.
+ *
+ * <p>Not thread-safe.
+ */
+public class EndlessBoard implements AutoCloseable {
+    private static final int CHUNK_SHIFT = 5;
+    /** The width and height of a chunk, in cells. */
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int CHUNK_WORDS = CHUNK_CELLS / Long.SIZE;
+
+    private static final byte TAG_RESOLVED = 1;
+    private static final byte TAG_PARTIAL = 2;
+    private static final String SPILL_GLOB = "chunk_*.bin";
+
+    private final long seed;
+    private final double density;
+    private final long mineThreshold;
+    private final int maxResidentChunks;
+    private final Path spillDirectory;
+    private final LinkedHashMap<Long, Chunk> resident;
+    private Chunk lastChunk;
+    private long[] revealStack;
+    private long revealedCount;
+    private long spilledChunks;
+    private boolean detonated;
+    private int detonatedRow;
+    private int detonatedCol;
+
+    /**
+     * Creates an endless board.
+     *
+     * @param seed              The seed the mines are derived from
+     * @param density           The fraction of cells that hold a mine
+     * @param maxResidentChunks The most chunks kept in memory at once
+     * @param spillDirectory    The directory evicted chunks are written to, created if missing
+     *                          and cleared of chunk files
+     * @throws IllegalArgumentException if the density is outside
+     *         [{@link GameConfig#ENDLESS_MIN_DENSITY}, {@link GameConfig#MAX_MINE_DENSITY_RATIO}]
+     *         or fewer than one chunk may be resident
+     * @throws UncheckedIOException if the spill directory cannot be created or cleared
+     */
+    public EndlessBoard(long seed, double density, int maxResidentChunks, Path spillDirectory) {
+        if (!(density >= GameConfig.ENDLESS_MIN_DENSITY && density <= GameConfig.MAX_MINE_DENSITY_RATIO)) {
+            throw new IllegalArgumentException("Mine density must be between " + GameConfig.ENDLESS_MIN_DENSITY
+                    + " and " + GameConfig.MAX_MINE_DENSITY_RATIO);
+        }
+        if (maxResidentChunks < 1) {
+            throw new IllegalArgumentException("At least one chunk must fit in memory");
+        }
+
+        this.seed = seed;
+        this.density = density;
+        this.mineThreshold = (long) (density * (1L << 53));
+        this.maxResidentChunks = maxResidentChunks;
+        this.spillDirectory = spillDirectory;
+        this.resident = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= EndlessBoard.this.maxResidentChunks) {
+                    return false;
+                }
+                spill(eldest.getValue());
+                return true;
+            }
+        };
+        this.revealStack = new long[16];
+
+        try {
+            Files.createDirectories(spillDirectory);
+            deleteSpillFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the seed the mines are derived from.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the fraction of cells that hold a mine.
+     *
+     * @return The mine density
+     */
+    public double getDensity() {
+        return density;
+    }
+
+    /**
+     * Gets the number of safe cells revealed so far.
+     *
+     * @return The number of revealed cells
+     */
+    public long getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * Gets the number of chunks currently held in memory.
+     *
+     * @return The number of resident chunks
+     */
+    public int getResidentChunkCount() {
+        return resident.size();
+    }
+
+    /**
+     * Gets the number of times a chunk has been written to the spill directory.
+     *
+     * @return The number of chunk writes
+     */
+    public long getSpilledChunkCount() {
+        return spilledChunks;
+    }
+
+    /**
+     * Checks if the specified position is within the board's coordinate range.
+     *
+     * @param row The row position to check
+     * @param col The column position to check
+     * @return true if the position is valid else false
+     */
+    public boolean isValidPosition(int row, int col) {
+        return Math.abs((long) row) <= GameConfig.ENDLESS_COORDINATE_LIMIT
+                && Math.abs((long) col) <= GameConfig.ENDLESS_COORDINATE_LIMIT;
+    }
+
+    /**
+     * Checks if the cell at the specified position holds a mine. No chunk is touched.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the cell holds a mine else false
+     */
+    public boolean hasMine(int row, int col) {
+        if (row >= -1 && row <= 1 && col >= -1 && col <= 1) {
+            return false;
+        }
+        long chunkSeed = SplitMix64.mix(seed ^ SplitMix64.mix(chunkKey(row >> CHUNK_SHIFT, col >> CHUNK_SHIFT)));
+        return SplitMix64.mix(chunkSeed + localIndex(row, col)) >>> 11 < mineThreshold;
+    }
+
+    /**
+     * Counts the mines around the cell at the specified position. No chunk is touched.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return The number of adjacent mines
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     */
+    public int getAdjacentMines(int row, int col) {
+        validateCoordinates(row, col);
+        int mines = 0;
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = col - 1; c <= col + 1; c++) {
+                if ((r != row || c != col) && isValidPosition(r, c) && hasMine(r, c)) {
+                    mines++;
+                }
+            }
+        }
+        return mines;
+    }
+
+    /**
+     * Checks if the cell at the specified position has been revealed.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the cell is revealed else false
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     * @throws UncheckedIOException if an evicted chunk cannot be written or read back
+     */
+    public boolean isRevealed(int row, int col) {
+        validateCoordinates(row, col);
+        return chunk(row >> CHUNK_SHIFT, col >> CHUNK_SHIFT).isRevealed(localIndex(row, col));
+    }
+
+    /**
+     * Checks if the cell at the specified position is the mine that ended the game.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if a reveal hit a mine at that position else false
+     */
+    public boolean isDetonated(int row, int col) {
+        return detonated && detonatedRow == row && detonatedCol == col;
+    }
+
+    /**
+     * Reveals the cell at the specified position, cascading through cells without
+     * adjacent mines across chunk boundaries.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the revealed cell has a mine else false
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     * @throws UncheckedIOException if an evicted chunk cannot be written or read back
+     */
+    public boolean revealCell(int row, int col) {
+        validateCoordinates(row, col);
+        if (hasMine(row, col)) {
+            detonated = true;
+            detonatedRow = row;
+            detonatedCol = col;
+            return true;
+        }
+        if (!open(row, col)) {
+            return false;
+        }
+
+        if (getAdjacentMines(row, col) == 0) {
+            cascadeFrom(row, col);
+        }
+        return false;
+    }
+
+    /**
+     * Drops the resident chunks and deletes the chunk files in the spill directory.
+     *
+     * @throws UncheckedIOException if the spill directory cannot be cleaned
+     */
+    @Override
+    public void close() {
+        resident.clear();
+        lastChunk = null;
+        try {
+            deleteSpillFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes every chunk file in the spill directory.
+     *
+     * @throws IOException if the directory cannot be listed or a file cannot be deleted
+     */
+    private void deleteSpillFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory, SPILL_GLOB)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Reveals every cell reachable from an opened cell with no adjacent mines.
+     *
+     * @param startRow The row of the opened cell
+     * @param startCol The column of the opened cell
+     */
+    private void cascadeFrom(int startRow, int startCol) {
+        int top = 0;
+        revealStack[top++] = pack(startRow, startCol);
+
+        while (top > 0) {
+            long cell = revealStack[--top];
+            int row = (int) (cell >> 32);
+            int col = (int) cell;
+
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if ((r == row && c == col) || !isValidPosition(r, c) || !open(r, c)) {
+                        continue;
+                    }
+                    if (getAdjacentMines(r, c) == 0) {
+                        if (top == revealStack.length) {
+                            revealStack = Arrays.copyOf(revealStack, top * 2);
+                        }
+                        revealStack[top++] = pack(r, c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reveals a single safe cell if it is still covered.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the cell was covered else false
+     */
+    private boolean open(int row, int col) {
+        // The chunk is used before the next lookup, so it cannot have been evicted in between
+        Chunk chunk = chunk(row >> CHUNK_SHIFT, col >> CHUNK_SHIFT);
+        int local = localIndex(row, col);
+        if (chunk.isRevealed(local)) {
+            return false;
+        }
+        chunk.reveal(local);
+        revealedCount++;
+        return true;
+    }
+
+    /**
+     * Gets a chunk, reading it back from the spill directory or creating it if it is not resident.
+     *
+     * @param chunkRow The chunk's row among chunks
+     * @param chunkCol The chunk's column among chunks
+     * @return The chunk
+     */
+    private Chunk chunk(int chunkRow, int chunkCol) {
+        Chunk chunk = lastChunk;
+        if (chunk != null && chunk.chunkRow == chunkRow && chunk.chunkCol == chunkCol) {
+            return chunk;
+        }
+
+        long key = chunkKey(chunkRow, chunkCol);
+        chunk = resident.get(key);
+        if (chunk == null) {
+            chunk = load(chunkRow, chunkCol);
+            resident.put(key, chunk);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    /**
+     * Reads a chunk from the spill directory, or creates an untouched one if it was never written.
+     *
+     * @param chunkRow The chunk's row among chunks
+     * @param chunkCol The chunk's column among chunks
+     * @return The chunk
+     * @throws UncheckedIOException if the chunk file cannot be read or is corrupt
+     */
+    private Chunk load(int chunkRow, int chunkCol) {
+        Chunk chunk = new Chunk(chunkRow, chunkCol);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(spillFile(chunkRow, chunkCol));
+        } catch (NoSuchFileException e) {
+            return chunk;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (bytes.length == 1 && bytes[0] == TAG_RESOLVED) {
+            for (int local = 0; local < CHUNK_CELLS; local++) {
+                if (!chunk.isMine(local)) {
+                    chunk.reveal(local);
+                }
+            }
+        } else if (bytes.length == 1 + CHUNK_WORDS * Long.BYTES && bytes[0] == TAG_PARTIAL) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, CHUNK_WORDS * Long.BYTES);
+            for (int word = 0; word < CHUNK_WORDS; word++) {
+                chunk.revealed[word] = buffer.getLong();
+                chunk.revealedCells += Long.bitCount(chunk.revealed[word]);
+            }
+        } else {
+            throw new UncheckedIOException(new IOException("Corrupt chunk file for chunk (" + chunkRow + ", "
+                    + chunkCol + ")"));
+        }
+        chunk.dirty = false;
+        return chunk;
+    }
+
+    /**
+     * Writes an evicted chunk to the spill directory if it changed since it was last read.
+     *
+     * @param chunk The evicted chunk
+     */
+    private void spill(Chunk chunk) {
+        if (lastChunk == chunk) {
+            lastChunk = null;
+        }
+        if (!chunk.dirty) {
+            return;
+        }
+
+        byte[] bytes;
+        if (chunk.revealedCells == chunk.safeCells()) {
+            bytes = new byte[] {TAG_RESOLVED};
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + CHUNK_WORDS * Long.BYTES).put(TAG_PARTIAL);
+            for (long word : chunk.revealed) {
+                buffer.putLong(word);
+            }
+            bytes = buffer.array();
+        }
+
+        try {
+            Files.write(spillFile(chunk.chunkRow, chunk.chunkCol), bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        spilledChunks++;
+    }
+
+    /**
+     * Gets the spill file of a chunk.
+     *
+     * @param chunkRow The chunk's row among chunks
+     * @param chunkCol The chunk's column among chunks
+     * @return The file path
+     */
+    private Path spillFile(int chunkRow, int chunkCol) {
+        return spillDirectory.resolve("chunk_" + chunkRow + "_" + chunkCol + ".bin");
+    }
+
+    /**
+     * Validates that the specified coordinates are within the board's coordinate range.
+     *
+     * @param row The row position to validate
+     * @param col The column position to validate
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     */
+    private void validateCoordinates(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            throw new IndexOutOfBoundsException("Position (" + row + ", " + col + ") is outside the board boundaries");
+        }
+    }
+
+    /**
+     * Gets the position of a cell within its chunk.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return The row-major index within the chunk
+     */
+    private static int localIndex(int row, int col) {
+        return (row & CHUNK_MASK) << CHUNK_SHIFT | (col & CHUNK_MASK);
+    }
+
+    /**
+     * Packs a chunk's coordinates into a single key.
+     *
+     * @param chunkRow The chunk's row among chunks
+     * @param chunkCol The chunk's column among chunks
+     * @return The key
+     */
+    private static long chunkKey(int chunkRow, int chunkCol) {
+        return pack(chunkRow, chunkCol);
+    }
+
+    /**
+     * Packs a pair of signed coordinates into a long.
+     *
+     * @param row The row
+     * @param col The column
+     * @return The row in the high half and the column in the low half
+     */
+    private static long pack(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The reveal state of one chunk.
+     */
+    private final class Chunk {
+        private final int chunkRow;
+        private final int chunkCol;
+        private final long[] revealed;
+        private int revealedCells;
+        private int safeCells = -1;
+        private boolean dirty;
+
+        /**
+         * Creates a chunk with every cell covered.
+         *
+         * @param chunkRow The chunk's row among chunks
+         * @param chunkCol The chunk's column among chunks
+         */
+        private Chunk(int chunkRow, int chunkCol) {
+            this.chunkRow = chunkRow;
+            this.chunkCol = chunkCol;
+            this.revealed = new long[CHUNK_WORDS];
+        }
+
+        /**
+         * Checks if a cell of this chunk is revealed.
+         *
+         * @param local The cell's index within the chunk
+         * @return true if the cell is revealed else false
+         */
+        private boolean isRevealed(int local) {
+            return (revealed[local >>> 6] & 1L << local) != 0;
+        }
+
+        /**
+         * Marks a covered cell of this chunk as revealed.
+         *
+         * @param local The cell's index within the chunk
+         */
+        private void reveal(int local) {
+            revealed[local >>> 6] |= 1L << local;
+            revealedCells++;
+            dirty = true;
+        }
+
+        /**
+         * Checks if a cell of this chunk holds a mine.
+         *
+         * @param local The cell's index within the chunk
+         * @return true if the cell holds a mine else false
+         */
+        private boolean isMine(int local) {
+            return hasMine(chunkRow << CHUNK_SHIFT | local >>> CHUNK_SHIFT, chunkCol << CHUNK_SHIFT | local & CHUNK_MASK);
+        }
+
+        /**
+         * Gets the number of cells in this chunk without a mine, counted the first time it is needed.
+         *
+         * @return The number of safe cells
+         */
+        private int safeCells() {
+            if (safeCells < 0) {
+                safeCells = 0;
+                for (int local = 0; local < CHUNK_CELLS; local++) {
+                    if (!isMine(local)) {
+                        safeCells++;
+                    }
+                }
+            }
+            return safeCells;
+        }
+    }
+}
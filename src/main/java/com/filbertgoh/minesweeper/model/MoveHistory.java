@@ -0,0 +1,104 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.Arrays;
+
+/**
+ * Bounded undo/redo history of reveal moves.
+ * Each move is stored as the packed array of cell indices it opened, so undoing
+ * or redoing a move costs time proportional to the number of cells it changed.
+ */
+public class MoveHistory {
+    private final int[][] moves;
+    private int start;
+    private int count;
+    private int cursor;
+
+    /**
+     * Creates a new move history.
+     *
+     * @param capacity The maximum number of moves kept; older moves are dropped first
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MoveHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive");
+        }
+        this.moves = new int[capacity][];
+    }
+
+    /**
+     * Records a move, discarding any moves that could have been redone.
+     *
+     * @param openedCells The linear indices of the cells opened by the move
+     */
+    public void record(int[] openedCells) {
+        count = cursor;
+        if (count == moves.length) {
+            moves[start] = null;
+            start = (start + 1) % moves.length;
+            count--;
+            cursor--;
+        }
+
+        moves[(start + count) % moves.length] = openedCells;
+        count++;
+        cursor++;
+    }
+
+    /**
+     * Steps back over the most recent move.
+     *
+     * @return The cells opened by the undone move, or null if there is nothing to undo
+     */
+    public int[] undo() {
+        if (!canUndo()) {
+            return null;
+        }
+
+        cursor--;
+        return moves[(start + cursor) % moves.length];
+    }
+
+    /**
+     * Steps forward over the most recently undone move.
+     *
+     * @return The cells opened by the redone move, or null if there is nothing to redo
+     */
+    public int[] redo() {
+        if (!canRedo()) {
+            return null;
+        }
+
+        int[] openedCells = moves[(start + cursor) % moves.length];
+        cursor++;
+        return openedCells;
+    }
+
+    /**
+     * Checks if there is a move to undo.
+     *
+     * @return true if a move can be undone else false
+     */
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    /**
+     * Checks if there is a move to redo.
+     *
+     * @return true if a move can be redone else false
+     */
+    public boolean canRedo() {
+        return cursor < count;
+    }
+
+    /**
+     * Removes all recorded moves.
+     */
+    public void clear() {
+        Arrays.fill(moves, null);
+        start = 0;
+        count = 0;
+        cursor = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Lists the cells adjacent to a cell on a board of fixed dimensions.
+ */
+public interface NeighbourProvider {
+    /**
+     * The most neighbours a cell may have, which keeps adjacency counts to a single digit.
+     */
+    int MAX_NEIGHBOURS = 8;
+
+    /**
+     * Writes the linear indices of the cells adjacent to a cell into a buffer.
+     *
+     * @param index The linear index of the cell
+     * @param out   The buffer to write to, with room for at least {@link #MAX_NEIGHBOURS} indices
+     * @return The number of adjacent cells written
+     */
+    int collectNeighbours(int index, int[] out);
+
+    /**
+     * Passes the linear index of each cell adjacent to a cell to an action, in the same
+     * order as {@link #collectNeighbours}. No buffer is used, so the action may itself
+     * walk neighbours or reveal cells.
+     *
+     * @param index  The linear index of the cell
+     * @param action The action to run for each adjacent cell
+     */
+    void forEachNeighbour(int index, IntConsumer action);
+
+    /**
+     * Counts the cells adjacent to a cell that pass a test.
+     *
+     * @param index The linear index of the cell
+     * @param test  The test applied to the linear index of each adjacent cell
+     * @return The number of adjacent cells that pass the test
+     */
+    int countNeighbours(int index, IntPredicate test);
+}
@@ -0,0 +1,120 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Neighbours of every cell precomputed into a flat table with a fixed stride of
+ * {@link NeighbourProvider#MAX_NEIGHBOURS} entries per cell, so a lookup is a
+ * single array copy with no bounds or wrap-around checks.
+ */
+final class NeighbourTable implements NeighbourProvider {
+    private final int[] neighbours;
+    private final byte[] counts;
+
+    /**
+     * Creates a table from its precomputed contents.
+     *
+     * @param neighbours The neighbour indices of each cell, {@link #MAX_NEIGHBOURS} slots per cell
+     * @param counts     The number of neighbours of each cell
+     */
+    private NeighbourTable(int[] neighbours, byte[] counts) {
+        this.neighbours = neighbours;
+        this.counts = counts;
+    }
+
+    /**
+     * Builds the table for a board from relative moves. Moves that leave the board are
+     * dropped, or wrap around to the opposite edge when wrapping is enabled; moves that
+     * land on the cell itself or on a cell already listed are skipped.
+     *
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param evenRows The (row, column) moves from cells on even rows
+     * @param oddRows  The (row, column) moves from cells on odd rows
+     * @param wrap     Whether moves wrap around the board edges
+     * @return The neighbour table
+     */
+    static NeighbourTable build(int rows, int cols, int[][] evenRows, int[][] oddRows, boolean wrap) {
+        int cellCount = rows * cols;
+        int[] neighbours = new int[cellCount * MAX_NEIGHBOURS];
+        byte[] counts = new byte[cellCount];
+
+        for (int row = 0; row < rows; row++) {
+            int[][] moves = (row & 1) == 0 ? evenRows : oddRows;
+
+            for (int col = 0; col < cols; col++) {
+                int index = row * cols + col;
+                int base = index * MAX_NEIGHBOURS;
+                int count = 0;
+
+                for (int[] move : moves) {
+                    int r = row + move[0];
+                    int c = col + move[1];
+                    if (wrap) {
+                        r = Math.floorMod(r, rows);
+                        c = Math.floorMod(c, cols);
+                    } else if (r < 0 || r >= rows || c < 0 || c >= cols) {
+                        continue;
+                    }
+
+                    int neighbour = r * cols + c;
+                    if (neighbour != index && !contains(neighbours, base, count, neighbour)) {
+                        neighbours[base + count++] = neighbour;
+                    }
+                }
+
+                counts[index] = (byte) count;
+            }
+        }
+
+        return new NeighbourTable(neighbours, counts);
+    }
+
+    @Override
+    public int collectNeighbours(int index, int[] out) {
+        int count = counts[index];
+        System.arraycopy(neighbours, index * MAX_NEIGHBOURS, out, 0, count);
+        return count;
+    }
+
+    @Override
+    public void forEachNeighbour(int index, IntConsumer action) {
+        int base = index * MAX_NEIGHBOURS;
+        int end = base + counts[index];
+        for (int i = base; i < end; i++) {
+            action.accept(neighbours[i]);
+        }
+    }
+
+    @Override
+    public int countNeighbours(int index, IntPredicate test) {
+        int base = index * MAX_NEIGHBOURS;
+        int end = base + counts[index];
+        int count = 0;
+        for (int i = base; i < end; i++) {
+            if (test.test(neighbours[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a cell is already listed among the neighbours written so far.
+     *
+     * @param neighbours The table being built
+     * @param base       The first slot of the current cell
+     * @param count      The number of neighbours written so far
+     * @param neighbour  The neighbour to look for
+     * @return true if the neighbour is already listed else false
+     */
+    private static boolean contains(int[] neighbours, int base, int count, int neighbour) {
+        for (int i = base; i < base + count; i++) {
+            if (neighbours[i] == neighbour) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Frontier-based parallel flood fill used to reveal very large openings.
+ * Each round expands the current frontier of empty cells on a {@link ForkJoinPool};
+ * workers collect newly opened cells and the next frontier in local buffers,
+ * and cells are claimed through an atomic visited bitmap so that each is opened
+ * by exactly one worker.
+ */
+class ParallelFloodFill {
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    private final Board board;
+    private final ForkJoinPool pool;
+    private final AtomicLongArray visited;
+
+    /**
+     * Creates a flood fill over a board.
+     *
+     * @param board The board to reveal cells on
+     * @param pool  The pool to run large frontiers on
+     */
+    ParallelFloodFill(Board board, ForkJoinPool pool) {
+        this.board = board;
+        this.pool = pool;
+        this.visited = new AtomicLongArray((board.getCellCount() + 63) >>> 6);
+    }
+
+    /**
+     * Reveals every covered cell reachable from an already opened empty cell,
+     * stopping at cells with adjacent mines.
+     *
+     * @param start The linear index of the opened empty cell
+     * @return The linear indices of the cells opened by the fill, excluding the start cell
+     */
+    int[] fill(int start) {
+        claim(start);
+        IntList opened = new IntList(64);
+        IntList frontier = new IntList(1);
+        frontier.add(start);
+
+        while (frontier.size > 0) {
+            Expansion expansion;
+            if (frontier.size <= SPLIT_THRESHOLD) {
+                expansion = expand(frontier.values, 0, frontier.size);
+            } else {
+                expansion = pool.invoke(new ExpandTask(frontier.values, 0, frontier.size));
+            }
+
+            opened.addAll(expansion.opened);
+            frontier = expansion.frontier;
+        }
+
+        return opened.toArray();
+    }
+
+    /**
+     * Expands a slice of the frontier on the calling thread.
+     *
+     * @param frontier The frontier cells
+     * @param from     The first frontier position, inclusive
+     * @param to       The last frontier position, exclusive
+     * @return The cells opened and the next frontier
+     */
+    private Expansion expand(int[] frontier, int from, int to) {
+        int[] neighbours = new int[NeighbourProvider.MAX_NEIGHBOURS];
+        Expansion expansion = new Expansion(new IntList(to - from), new IntList(to - from));
+
+        for (int i = from; i < to; i++) {
+            int count = board.collectNeighbours(frontier[i], neighbours);
+
+            for (int n = 0; n < count; n++) {
+                int neighbour = neighbours[n];
+                Cell cell = board.getCell(neighbour);
+                if (!cell.isCovered() || !claim(neighbour)) {
+                    continue;
+                }
+
+                cell.reveal();
+                expansion.opened.add(neighbour);
+                if (cell.getAdjacentMines() == 0) {
+                    expansion.frontier.add(neighbour);
+                }
+            }
+        }
+
+        return expansion;
+    }
+
+    /**
+     * Atomically marks a cell as visited.
+     *
+     * @param index The linear index of the cell
+     * @return true if this call marked the cell, false if it was already visited
+     */
+    private boolean claim(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+
+        while (true) {
+            long current = visited.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Cells opened and next frontier produced by expanding part of a frontier.
+     */
+    private record Expansion(IntList opened, IntList frontier) {
+    }
+
+    /**
+     * Splits a frontier range in halves until it is small enough to expand directly.
+     */
+    private class ExpandTask extends RecursiveTask<Expansion> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+
+        ExpandTask(int[] frontier, int from, int to) {
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Expansion compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return expand(frontier, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            ExpandTask left = new ExpandTask(frontier, from, mid);
+            left.fork();
+            Expansion right = new ExpandTask(frontier, mid, to).compute();
+            Expansion result = left.join();
+
+            result.opened.addAll(right.opened);
+            result.frontier.addAll(right.frontier);
+            return result;
+        }
+    }
+
+    /**
+     * Minimal growable list of primitive ints.
+     */
+    private static final class IntList {
+        private int[] values;
+        private int size;
+
+        IntList(int capacity) {
+            this.values = new int[Math.max(capacity, 8)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
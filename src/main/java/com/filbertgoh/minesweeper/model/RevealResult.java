@@ -0,0 +1,104 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Outcome of a single reveal: whether it hit a mine and which cells it opened.
+ * The opened cells are kept as linear indices (row * cols + col) packed at the
+ * start of a buffer that is reused from one reveal to the next, so a caller that
+ * keeps one result per game does not allocate per move once the buffer has grown
+ * to fit the largest cascade.
+ */
+public final class RevealResult {
+    private boolean hitMine;
+    private int openedCount;
+    private int[] opened;
+
+    /**
+     * Creates an empty result with a small buffer.
+     */
+    public RevealResult() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty result.
+     *
+     * @param capacity The initial number of opened cells the buffer can hold
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public RevealResult(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.opened = new int[capacity];
+    }
+
+    /**
+     * Checks if the reveal hit a mine.
+     *
+     * @return true if the revealed cell has a mine else false
+     */
+    public boolean hitMine() {
+        return hitMine;
+    }
+
+    /**
+     * Gets the number of cells the reveal opened, including any cascade.
+     * Zero means the cell was already revealed.
+     *
+     * @return The number of opened cells
+     */
+    public int getOpenedCount() {
+        return openedCount;
+    }
+
+    /**
+     * Gets the linear index of one opened cell.
+     *
+     * @param i The position in the result, from 0 to {@link #getOpenedCount()} - 1
+     * @return The linear index of the cell
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public int getOpened(int i) {
+        return opened[Objects.checkIndex(i, openedCount)];
+    }
+
+    /**
+     * Gets the buffer holding the opened cells. Only the first {@link #getOpenedCount()}
+     * entries belong to this reveal, and the buffer may be replaced by a larger one on
+     * the next reveal, so it must not be kept.
+     *
+     * @return The packed buffer of opened cell indices
+     */
+    public int[] getOpenedBuffer() {
+        return opened;
+    }
+
+    /**
+     * Copies the opened cells into an array of their own.
+     *
+     * @return A packed array of the opened cell indices
+     */
+    public int[] copyOpened() {
+        return Arrays.copyOf(opened, openedCount);
+    }
+
+    /**
+     * Replaces the contents of this result, growing the buffer only if it is too small.
+     * Called by boards after a reveal, and by anything replaying recorded reveals.
+     *
+     * @param hitMine true if the reveal hit a mine
+     * @param indices The opened cell indices
+     * @param count   The number of indices to copy from the start of the array
+     */
+    public void set(boolean hitMine, int[] indices, int count) {
+        if (opened.length < count) {
+            opened = new int[Math.max(count, opened.length * 2)];
+        }
+        System.arraycopy(indices, 0, opened, 0, count);
+        this.hitMine = hitMine;
+        this.openedCount = count;
+    }
+}
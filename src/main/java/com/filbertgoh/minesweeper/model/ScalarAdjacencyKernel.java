@@ -0,0 +1,29 @@
+package com.filbertgoh.minesweeper.model;
+
+/**
+ * Plain-loop implementation of {@link AdjacencyKernel}, used when the Vector API is unavailable.
+ */
+final class ScalarAdjacencyKernel implements AdjacencyKernel {
+
+    @Override
+    public void countAdjacent(byte[] paddedMines, int rows, int cols, byte[] counts) {
+        int stride = cols + 2;
+
+        for (int row = 0; row < rows; row++) {
+            int above = row * stride;
+            int middle = above + stride;
+            int below = middle + stride;
+            int out = row * cols;
+
+            for (int col = 0; col < cols; col++) {
+                if (paddedMines[middle + col + 1] != 0) {
+                    counts[out + col] = 0;
+                    continue;
+                }
+                counts[out + col] = (byte) (paddedMines[above + col] + paddedMines[above + col + 1] + paddedMines[above + col + 2]
+                        + paddedMines[middle + col] + paddedMines[middle + col + 2]
+                        + paddedMines[below + col] + paddedMines[below + col + 1] + paddedMines[below + col + 2]);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe board that several players can reveal on at the same time.
+ * The board is split into square tiles, each guarded by its own lock, so reveals
+ * in different parts of the board do not contend. Every cell is claimed under its
+ * tile's lock before it is opened, which guarantees that a cascade crossing tile
+ * boundaries, or racing another player's cascade, opens each cell exactly once.
+ * The board-wide reveal journal is not kept in shared mode; a reveal that passes a
+ * {@link RevealResult} gets the cells its own thread opened. The tile summary is
+ * updated under the same locks, which works because each summary tile lies
+ * inside a single lock tile.
+ */
+public class SharedBoard extends Board {
+    private static final int TILE_SIZE = 64;
+
+    private final Object[] tileLocks;
+    private final int tilesPerRow;
+    private final LongAdder revealed;
+
+    /**
+     * Creates a shared board with the same mines and reveal state as an existing board.
+     *
+     * @param layout The board to copy
+     */
+    public SharedBoard(Board layout) {
+        super(layout);
+
+        int tileRows = (layout.getRows() + TILE_SIZE - 1) / TILE_SIZE;
+        this.tilesPerRow = (layout.getCols() + TILE_SIZE - 1) / TILE_SIZE;
+        this.tileLocks = new Object[tileRows * tilesPerRow];
+        for (int i = 0; i < tileLocks.length; i++) {
+            tileLocks[i] = new Object();
+        }
+
+        this.revealed = new LongAdder();
+        this.revealed.add(layout.getRevealedCount());
+    }
+
+    @Override
+    public int getRevealedCount() {
+        return (int) revealed.sum();
+    }
+
+    @Override
+    public int getLastRevealedCount() {
+        return 0;
+    }
+
+    @Override
+    public int[] copyLastRevealed() {
+        return new int[0];
+    }
+
+    /**
+     * Reveals the cell at the specified position, cascading through cells without adjacent mines.
+     * Safe to call from several threads at once.
+     *
+     * @param row The row position
+     * @param col The column position
+     * @return true if the revealed cell has a mine else false
+     */
+    @Override
+    public boolean revealCell(int row, int col) {
+        Cell cell = getCell(row, col);
+        int start = indexOf(row, col);
+
+        if (!claim(start)) {
+            return false;
+        }
+        if (cell.hasMine()) {
+            return true;
+        }
+        if (cell.getAdjacentMines() == 0) {
+            cascadeFrom(start, null);
+        }
+
+        return false;
+    }
+
+    /**
+     * Reveals the cell at the specified position and reports the cells this call opened.
+     * Cells opened at the same time by another player's cascade are not included.
+     * Safe to call from several threads at once, each with its own result.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param result The result to overwrite
+     * @return The given result
+     */
+    @Override
+    public RevealResult revealCell(int row, int col, RevealResult result) {
+        Cell cell = getCell(row, col);
+        int start = indexOf(row, col);
+
+        if (!claim(start)) {
+            result.set(false, new int[0], 0);
+            return result;
+        }
+        if (cell.hasMine()) {
+            result.set(true, new int[] {start}, 1);
+            return result;
+        }
+
+        Journal journal = new Journal();
+        journal.add(start);
+        if (cell.getAdjacentMines() == 0) {
+            cascadeFrom(start, journal);
+        }
+        result.set(false, journal.indices, journal.size);
+        return result;
+    }
+
+    /**
+     * Reveals the cell at the specified position and reports the cells this call opened.
+     * The pool is not used, as with {@link #revealCell(int, int, ForkJoinPool)}.
+     *
+     * @param row    The row position
+     * @param col    The column position
+     * @param pool   Ignored
+     * @param result The result to overwrite
+     * @return The given result
+     */
+    @Override
+    public RevealResult revealCell(int row, int col, ForkJoinPool pool, RevealResult result) {
+        return revealCell(row, col, result);
+    }
+
+    /**
+     * Reveals the cell at the specified position. Shared boards already spread work
+     * across the players' threads, so the pool is not used.
+     *
+     * @param row  The row position
+     * @param col  The column position
+     * @param pool Ignored
+     * @return true if the revealed cell has a mine else false
+     */
+    @Override
+    public boolean revealCell(int row, int col, ForkJoinPool pool) {
+        return revealCell(row, col);
+    }
+
+    /**
+     * Reveals every cell reachable from an opened cell with no adjacent mines,
+     * using stack and neighbour buffers local to the calling thread.
+     *
+     * @param start   The linear index of the opened cell to cascade from
+     * @param journal The journal to record the cells this thread opens in, or null
+     */
+    private void cascadeFrom(int start, Journal journal) {
+        int[] neighbours = new int[NeighbourProvider.MAX_NEIGHBOURS];
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = start;
+
+        while (top > 0) {
+            int count = collectNeighbours(stack[--top], neighbours);
+
+            for (int i = 0; i < count; i++) {
+                int neighbour = neighbours[i];
+                if (!claim(neighbour)) {
+                    continue;
+                }
+                if (journal != null) {
+                    journal.add(neighbour);
+                }
+
+                if (getCell(neighbour).getAdjacentMines() == 0) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a covered cell under its tile lock.
+     *
+     * @param index The linear index of the cell
+     * @return true if this call opened the cell, false if it was already revealed
+     */
+    private boolean claim(int index) {
+        Cell cell = getCell(index);
+
+        synchronized (lockFor(index)) {
+            if (!cell.isCovered()) {
+                return false;
+            }
+            cell.reveal();
+            getTileSummary().cellRevealed(index);
+        }
+
+        revealed.increment();
+        return true;
+    }
+
+    /**
+     * Gets the lock guarding the tile that contains a cell.
+     *
+     * @param index The linear index of the cell
+     * @return The tile lock
+     */
+    private Object lockFor(int index) {
+        int row = index / getCols();
+        int col = index - row * getCols();
+        return tileLocks[(row / TILE_SIZE) * tilesPerRow + col / TILE_SIZE];
+    }
+
+    @Override
+    public void coverCells(int[] indices) {
+        for (int index : indices) {
+            Cell cell = getCell(index);
+            synchronized (lockFor(index)) {
+                if (!cell.isRevealed()) {
+                    continue;
+                }
+                cell.setState(CellState.COVERED);
+                getTileSummary().cellCovered(index);
+            }
+            revealed.decrement();
+        }
+    }
+
+    @Override
+    public void uncoverCells(int[] indices) {
+        for (int index : indices) {
+            claim(index);
+        }
+    }
+
+    @Override
+    public boolean isGameWon() {
+        return revealed.sum() == getCellCount() - getTotalMines();
+    }
+
+    /**
+     * The cells opened by one reveal, local to the revealing thread.
+     */
+    private static final class Journal {
+        private int[] indices = new int[16];
+        private int size;
+
+        /**
+         * Records an opened cell.
+         *
+         * @param index The linear index of the cell
+         */
+        private void add(int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+    }
+}
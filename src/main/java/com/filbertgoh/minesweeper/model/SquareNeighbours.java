@@ -0,0 +1,96 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * The eight surrounding cells of a square grid without wrap-around.
+ * Interior cells use precomputed offsets for the board's width; only
+ * cells on the border pay for bounds checks.
+ */
+final class SquareNeighbours implements NeighbourProvider {
+    private final int rows;
+    private final int cols;
+    private final int[] offsets;
+
+    /**
+     * Creates the neighbourhood of a square grid.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     */
+    SquareNeighbours(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.offsets = new int[] {-cols - 1, -cols, -cols + 1, -1, 1, cols - 1, cols, cols + 1};
+    }
+
+    @Override
+    public int collectNeighbours(int index, int[] out) {
+        int row = index / cols;
+        int col = index - row * cols;
+
+        if (row > 0 && row < rows - 1 && col > 0 && col < cols - 1) {
+            for (int i = 0; i < 8; i++) {
+                out[i] = index + offsets[i];
+            }
+            return 8;
+        }
+
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                if (r != row || c != col) {
+                    out[count++] = r * cols + c;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void forEachNeighbour(int index, IntConsumer action) {
+        int row = index / cols;
+        int col = index - row * cols;
+
+        if (row > 0 && row < rows - 1 && col > 0 && col < cols - 1) {
+            for (int i = 0; i < 8; i++) {
+                action.accept(index + offsets[i]);
+            }
+            return;
+        }
+
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                if (r != row || c != col) {
+                    action.accept(r * cols + c);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int countNeighbours(int index, IntPredicate test) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int count = 0;
+
+        if (row > 0 && row < rows - 1 && col > 0 && col < cols - 1) {
+            for (int i = 0; i < 8; i++) {
+                if (test.test(index + offsets[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                if ((r != row || c != col) && test.test(r * cols + c)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package com.filbertgoh.minesweeper.model;
+
+/**
+ * Number of revealed cells in each square tile of a board, kept up to date as
+ * cells are revealed and covered so a zoomed-out view never has to scan the board.
+ */
+public class TileSummary {
+    /** Tiles are 2^TILE_SHIFT cells on a side. */
+    public static final int TILE_SHIFT = 4;
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    private final int rows;
+    private final int cols;
+    private final int tileRows;
+    private final int tileCols;
+    private final int[] revealed;
+
+    /**
+     * Creates an empty summary for a board.
+     *
+     * @param rows The number of rows on the board
+     * @param cols The number of columns on the board
+     */
+    public TileSummary(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileRows = (rows + TILE_SIZE - 1) >> TILE_SHIFT;
+        this.tileCols = (cols + TILE_SIZE - 1) >> TILE_SHIFT;
+        this.revealed = new int[tileRows * tileCols];
+    }
+
+    /**
+     * Records that a cell was revealed.
+     *
+     * @param index The linear index of the cell
+     */
+    void cellRevealed(int index) {
+        revealed[tileOf(index)]++;
+    }
+
+    /**
+     * Records that a cell was covered again.
+     *
+     * @param index The linear index of the cell
+     */
+    void cellCovered(int index) {
+        revealed[tileOf(index)]--;
+    }
+
+    /**
+     * Gets the tile that contains a cell.
+     *
+     * @param index The linear index of the cell
+     * @return The linear index of the tile
+     */
+    private int tileOf(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        return (row >> TILE_SHIFT) * tileCols + (col >> TILE_SHIFT);
+    }
+
+    /**
+     * Gets the number of tile rows.
+     *
+     * @return The number of tile rows
+     */
+    public int getTileRows() {
+        return tileRows;
+    }
+
+    /**
+     * Gets the number of tile columns.
+     *
+     * @return The number of tile columns
+     */
+    public int getTileCols() {
+        return tileCols;
+    }
+
+    /**
+     * Gets the number of revealed cells in a tile.
+     *
+     * @param tileRow The tile row
+     * @param tileCol The tile column
+     * @return The number of revealed cells
+     */
+    public int getRevealed(int tileRow, int tileCol) {
+        return revealed[tileRow * tileCols + tileCol];
+    }
+
+    /**
+     * Gets the number of cells in a tile, which is smaller for tiles on the bottom and right edges.
+     *
+     * @param tileRow The tile row
+     * @param tileCol The tile column
+     * @return The number of cells in the tile
+     */
+    public int getCellCount(int tileRow, int tileCol) {
+        int height = Math.min(TILE_SIZE, rows - (tileRow << TILE_SHIFT));
+        int width = Math.min(TILE_SIZE, cols - (tileCol << TILE_SHIFT));
+        return height * width;
+    }
+}
@@ -0,0 +1,144 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The shape of a board: which cells count as adjacent to each other.
+ * The standard square grid keeps its own bounds-checked fast path; every other
+ * topology precomputes its neighbours into a flat table when a board is created.
+ */
+public final class Topology {
+    private static final int[][] KING_MOVES = {
+            {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}
+    };
+    private static final int[][] KNIGHT_MOVES = {
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}
+    };
+    // Pointy-top hexagons with odd rows shifted half a cell to the right
+    private static final int[][] HEX_EVEN_ROW_MOVES = {
+            {-1, -1}, {-1, 0}, {0, -1}, {0, 1}, {1, -1}, {1, 0}
+    };
+    private static final int[][] HEX_ODD_ROW_MOVES = {
+            {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, 0}, {1, 1}
+    };
+
+    /** The standard grid, where each cell touches up to eight surrounding cells. */
+    public static final Topology SQUARE = new Topology("square", KING_MOVES, KING_MOVES, false);
+
+    /** A square grid whose opposite edges are joined, so every cell has eight neighbours. */
+    public static final Topology TORUS = new Topology("torus", KING_MOVES, KING_MOVES, true);
+
+    /** A hexagonal grid laid out in rows, where each cell touches up to six cells. */
+    public static final Topology HEX = new Topology("hex", HEX_EVEN_ROW_MOVES, HEX_ODD_ROW_MOVES, false);
+
+    /** A square grid where cells a knight's move apart are adjacent. */
+    public static final Topology KNIGHT = new Topology("knight", KNIGHT_MOVES, KNIGHT_MOVES, false);
+
+    private final String name;
+    private final int[][] evenRowMoves;
+    private final int[][] oddRowMoves;
+    private final boolean wrap;
+
+    /**
+     * Creates a topology.
+     *
+     * @param name         The topology name
+     * @param evenRowMoves The (row, column) moves to the neighbours of cells on even rows
+     * @param oddRowMoves  The (row, column) moves to the neighbours of cells on odd rows
+     * @param wrap         Whether moves wrap around the board edges
+     */
+    private Topology(String name, int[][] evenRowMoves, int[][] oddRowMoves, boolean wrap) {
+        this.name = name;
+        this.evenRowMoves = evenRowMoves;
+        this.oddRowMoves = oddRowMoves;
+        this.wrap = wrap;
+    }
+
+    /**
+     * Creates a topology from a custom neighbourhood.
+     *
+     * @param name  The topology name
+     * @param moves The (row, column) moves from a cell to each of its neighbours
+     * @param wrap  Whether moves wrap around the board edges
+     * @return The topology
+     * @throws IllegalArgumentException if there are no moves, more than
+     *         {@link NeighbourProvider#MAX_NEIGHBOURS}, or a move is malformed, repeated or (0, 0)
+     */
+    public static Topology custom(String name, int[][] moves, boolean wrap) {
+        if (moves.length == 0 || moves.length > NeighbourProvider.MAX_NEIGHBOURS) {
+            throw new IllegalArgumentException("A neighbourhood must have between 1 and "
+                    + NeighbourProvider.MAX_NEIGHBOURS + " moves");
+        }
+
+        Set<Long> seen = new HashSet<>();
+        int[][] copy = new int[moves.length][];
+        for (int i = 0; i < moves.length; i++) {
+            int[] move = moves[i];
+            if (move.length != 2 || (move[0] == 0 && move[1] == 0)) {
+                throw new IllegalArgumentException("Each move must be a non-zero (row, column) pair");
+            }
+            if (!seen.add(((long) move[0] << 32) | (move[1] & 0xFFFFFFFFL))) {
+                throw new IllegalArgumentException("Duplicate move (" + move[0] + ", " + move[1] + ")");
+            }
+            copy[i] = move.clone();
+        }
+
+        return new Topology(name, copy, copy, wrap);
+    }
+
+    /**
+     * Gets a built-in topology by name.
+     *
+     * @param name The topology name: square, torus, hex or knight (case-insensitive)
+     * @return The topology
+     * @throws IllegalArgumentException if there is no built-in topology with that name
+     */
+    public static Topology forName(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "square" -> SQUARE;
+            case "torus" -> TORUS;
+            case "hex" -> HEX;
+            case "knight" -> KNIGHT;
+            default -> throw new IllegalArgumentException("Unknown topology: " + name);
+        };
+    }
+
+    /**
+     * Gets the name of this topology.
+     *
+     * @return The topology name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if moves off one edge of the board come back on the opposite edge.
+     *
+     * @return true if the board wraps around else false
+     */
+    public boolean wrapsAround() {
+        return wrap;
+    }
+
+    /**
+     * Creates the neighbour provider for a board of this topology.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @return The neighbour provider
+     */
+    NeighbourProvider neighbours(int rows, int cols) {
+        if (this == SQUARE) {
+            return new SquareNeighbours(rows, cols);
+        }
+        return NeighbourTable.build(rows, cols, evenRowMoves, oddRowMoves, wrap);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,330 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Cell;
+import com.filbertgoh.minesweeper.model.RevealResult;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.util.RowLabels;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders the board on an ANSI terminal, as an alternative to {@link BoardPrinter}.
+ * The board is drawn once; after that only the cells opened by a move are rewritten,
+ * each reached with a cursor-positioning escape sequence. Every frame is assembled in
+ * a single reusable byte buffer, sized for the frame up front, and written in one call.
+ * After each frame the cursor is left on the line below the board with the rest of the
+ * screen cleared, so prompts and messages appear underneath.
+ */
+public class AnsiBoardRenderer {
+    private static final byte ESC = 0x1B;
+    private static final byte[] CLEAR_SCREEN = ascii("\u001b[2J\u001b[H");
+    private static final byte[] CLEAR_BELOW = ascii("\u001b[0J");
+    private static final byte[] RESET = ascii("\u001b[0m");
+    private static final int MAX_COLOUR_LENGTH = 7;
+    private static final int MAX_CURSOR_LENGTH = 2 + 10 + 1 + 10 + 1;
+
+    // Colour for each adjacency count, then covered cells and mines
+    private static final byte[][] NUMBER_COLOURS = {
+            ascii("\u001b[90m"),   // 0 grey
+            ascii("\u001b[94m"),   // 1 blue
+            ascii("\u001b[32m"),   // 2 green
+            ascii("\u001b[91m"),   // 3 red
+            ascii("\u001b[34m"),   // 4 dark blue
+            ascii("\u001b[31m"),   // 5 dark red
+            ascii("\u001b[36m"),   // 6 cyan
+            ascii("\u001b[35m"),   // 7 magenta
+            ascii("\u001b[37m")    // 8 white
+    };
+    private static final byte[] COVERED_COLOUR = ascii("\u001b[2m");
+    private static final byte[] MINE_COLOUR = ascii("\u001b[1;31m");
+
+    private final OutputStream out;
+    private byte[] frame;
+    private int length;
+    private byte[] currentColour;
+    private Board drawnBoard;
+    private int cellWidth;
+    private int labelWidth;
+    private int hexShift;
+
+    /**
+     * Creates a renderer writing to a terminal.
+     *
+     * @param out The stream connected to the terminal
+     */
+    public AnsiBoardRenderer(OutputStream out) {
+        this.out = out;
+        this.frame = new byte[1024];
+    }
+
+    /**
+     * Clears the screen and draws the whole board.
+     *
+     * @param board The board to draw
+     * @throws UncheckedIOException if the frame cannot be written
+     */
+    public void drawBoard(Board board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        drawnBoard = board;
+        cellWidth = String.valueOf(cols).length();
+        labelWidth = RowLabels.width(rows);
+        hexShift = board.getTopology() == Topology.HEX ? (cellWidth + 1) / 2 : 0;
+
+        int lineLength = labelWidth + 1 + hexShift + cols * (RESET.length + MAX_COLOUR_LENGTH + cellWidth + 1)
+                + RESET.length + 1;
+        startFrame(CLEAR_SCREEN.length + (rows + 1) * lineLength + MAX_CURSOR_LENGTH + CLEAR_BELOW.length);
+        put(CLEAR_SCREEN);
+
+        // Column headers
+        putPadded("", labelWidth);
+        for (int col = 1; col <= cols; col++) {
+            putPadded(col, cellWidth);
+        }
+        put((byte) '\n');
+
+        for (int row = 0; row < rows; row++) {
+            putPadded(RowLabels.format(row), labelWidth);
+            if ((row & 1) == 1) {
+                putSpaces(hexShift);
+            }
+            for (int col = 0; col < cols; col++) {
+                putCell(board.getCell(row, col));
+                put((byte) ' ');
+            }
+            put(RESET);
+            currentColour = null;
+            put((byte) '\n');
+        }
+
+        endFrame(rows);
+    }
+
+    /**
+     * Redraws only the given cells. Falls back to a full redraw if a different board
+     * was drawn last, for example after the board was regenerated on the first move.
+     *
+     * @param board   The board to draw
+     * @param indices The linear indices of the cells that changed
+     * @throws UncheckedIOException if the frame cannot be written
+     */
+    public void drawCells(Board board, int[] indices) {
+        drawCells(board, indices, indices.length);
+    }
+
+    /**
+     * Redraws only the cells opened by a move.
+     *
+     * @param board  The board to draw
+     * @param result The outcome of the move
+     * @throws UncheckedIOException if the frame cannot be written
+     */
+    public void drawCells(Board board, RevealResult result) {
+        drawCells(board, result.getOpenedBuffer(), result.getOpenedCount());
+    }
+
+    /**
+     * Redraws the cells at the start of a packed index buffer.
+     *
+     * @param board   The board to draw
+     * @param indices The buffer of linear indices
+     * @param count   The number of indices in use
+     * @throws UncheckedIOException if the frame cannot be written
+     */
+    private void drawCells(Board board, int[] indices, int count) {
+        if (board != drawnBoard) {
+            drawBoard(board);
+            return;
+        }
+
+        int cols = board.getCols();
+        startFrame(count * (MAX_CURSOR_LENGTH + RESET.length + MAX_COLOUR_LENGTH + cellWidth)
+                + RESET.length + MAX_CURSOR_LENGTH + CLEAR_BELOW.length);
+
+        for (int i = 0; i < count; i++) {
+            int index = indices[i];
+            int row = index / cols;
+            int col = index - row * cols;
+            int shift = (row & 1) == 1 ? hexShift : 0;
+            // Screen positions are 1-based and the first line holds the column headers
+            putCursor(row + 2, labelWidth + 2 + shift + col * (cellWidth + 1));
+            putCell(board.getCell(index));
+        }
+        put(RESET);
+        currentColour = null;
+
+        endFrame(board.getRows());
+    }
+
+    /**
+     * Gets the number of bytes in the last frame written.
+     *
+     * @return The frame length in bytes
+     */
+    public int getLastFrameLength() {
+        return length;
+    }
+
+    /**
+     * Appends a cell's symbol in its colour, switching colour only when it changes.
+     *
+     * @param cell The cell to append
+     */
+    private void putCell(Cell cell) {
+        byte[] colour;
+        byte symbol;
+        if (cell.isCovered()) {
+            colour = COVERED_COLOUR;
+            symbol = '_';
+        } else if (cell.hasMine()) {
+            colour = MINE_COLOUR;
+            symbol = '*';
+        } else {
+            colour = NUMBER_COLOURS[cell.getAdjacentMines()];
+            symbol = (byte) ('0' + cell.getAdjacentMines());
+        }
+
+        if (colour != currentColour) {
+            // Bold and dim would carry over into the next colour, so clear them first
+            if (currentColour != null) {
+                put(RESET);
+            }
+            put(colour);
+            currentColour = colour;
+        }
+        put(symbol);
+        putSpaces(cellWidth - 1);
+    }
+
+    /**
+     * Starts a new frame, growing the buffer if the frame may not fit.
+     *
+     * @param maxLength The maximum number of bytes the frame can take
+     */
+    private void startFrame(int maxLength) {
+        if (frame.length < maxLength) {
+            frame = new byte[maxLength];
+        }
+        length = 0;
+        currentColour = null;
+    }
+
+    /**
+     * Moves the cursor below the board, clears the rest of the screen and writes the frame.
+     *
+     * @param rows The number of board rows
+     * @throws UncheckedIOException if the frame cannot be written
+     */
+    private void endFrame(int rows) {
+        putCursor(rows + 2, 1);
+        put(CLEAR_BELOW);
+
+        try {
+            out.write(frame, 0, length);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a cursor-positioning escape sequence.
+     *
+     * @param row The 1-based screen row
+     * @param col The 1-based screen column
+     */
+    private void putCursor(int row, int col) {
+        put(ESC);
+        put((byte) '[');
+        putInt(row);
+        put((byte) ';');
+        putInt(col);
+        put((byte) 'H');
+    }
+
+    /**
+     * Appends a non-negative number without allocating.
+     *
+     * @param value The number to append
+     */
+    private void putInt(int value) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            frame[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    /**
+     * Appends a number left-aligned in a column of the given width, followed by a separator.
+     *
+     * @param value The number to append
+     * @param width The column width
+     */
+    private void putPadded(int value, int width) {
+        int start = length;
+        putInt(value);
+        putSpaces(width - (length - start) + 1);
+    }
+
+    /**
+     * Appends an ASCII string left-aligned in a column of the given width, followed by a separator.
+     *
+     * @param value The string to append
+     * @param width The column width
+     */
+    private void putPadded(String value, int width) {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+        putSpaces(width - value.length() + 1);
+    }
+
+    /**
+     * Appends spaces.
+     *
+     * @param count The number of spaces
+     */
+    private void putSpaces(int count) {
+        for (int i = 0; i < count; i++) {
+            frame[length++] = ' ';
+        }
+    }
+
+    /**
+     * Appends a byte sequence.
+     *
+     * @param bytes The bytes to append
+     */
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, frame, length, bytes.length);
+        length += bytes.length;
+    }
+
+    /**
+     * Appends a byte.
+     *
+     * @param b The byte to append
+     */
+    private void put(byte b) {
+        frame[length++] = b;
+    }
+
+    /**
+     * Encodes an escape sequence or other ASCII text.
+     *
+     * @param text The text to encode
+     * @return The ASCII bytes
+     */
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
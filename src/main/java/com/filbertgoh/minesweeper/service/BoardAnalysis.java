@@ -0,0 +1,10 @@
+package com.filbertgoh.minesweeper.service;
+
+/**
+ * Result of analysing a board layout.
+ *
+ * @param openings The number of connected regions of cells with no adjacent mines
+ * @param threeBV  The minimum number of clicks needed to clear the board (3BV)
+ */
+public record BoardAnalysis(int openings, int threeBV) {
+}
@@ -0,0 +1,139 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Cell;
+
+/**
+ * Service for computing difficulty statistics of a board layout.
+ */
+public class BoardAnalyzer {
+
+    /**
+     * Analyses the mine layout of a board. The board's reveal state is ignored.
+     *
+     * @param board The board to analyse
+     * @return The analysis of the board
+     */
+    public BoardAnalysis analyze(Board board) {
+        int cellCount = board.getCellCount();
+        boolean[] marked = new boolean[cellCount];
+        int[] stack = new int[cellCount + 1];
+        int openings = 0;
+        int threeBV = 0;
+
+        // Every opening is cleared by one click, together with its numbered border
+        for (int index = 0; index < cellCount; index++) {
+            if (marked[index] || !isEmpty(board.getCell(index))) {
+                continue;
+            }
+
+            openings++;
+            markOpening(board, index, marked, stack);
+        }
+
+        // Every remaining safe cell needs its own click
+        for (int index = 0; index < cellCount; index++) {
+            if (!marked[index] && !board.getCell(index).hasMine()) {
+                threeBV++;
+            }
+        }
+
+        return new BoardAnalysis(openings, threeBV + openings);
+    }
+
+    /**
+     * Checks if a layout can be cleared from a safe start cell without ever guessing,
+     * using only single-point deduction: a number whose covered neighbours are exactly
+     * the mines it still needs marks them all as mines, and a number with all its mines
+     * marked opens the rest of its neighbours. Boards that need reasoning across several
+     * numbers at once are reported as needing a guess. The layout itself is not changed.
+     *
+     * @param layout   The layout to check
+     * @param startRow The row of the first click
+     * @param startCol The column of the first click
+     * @return true if the board can be cleared by deduction alone else false
+     */
+    public boolean solvesWithoutGuessing(Board layout, int startRow, int startCol) {
+        Board board = layout.copy();
+        if (board.revealCell(startRow, startCol)) {
+            return false;
+        }
+
+        int cellCount = board.getCellCount();
+        boolean[] flagged = new boolean[cellCount];
+        boolean progress = true;
+        while (progress && !board.isGameWon()) {
+            progress = false;
+            for (int index = 0; index < cellCount; index++) {
+                Cell cell = board.getCell(index);
+                if (!cell.isRevealed() || cell.getAdjacentMines() == 0) {
+                    continue;
+                }
+
+                int flags = board.countNeighbours(index, neighbour -> flagged[neighbour]);
+                int covered = board.countNeighbours(index,
+                        neighbour -> !flagged[neighbour] && board.getCell(neighbour).isCovered());
+                if (covered == 0) {
+                    continue;
+                }
+
+                if (flags == cell.getAdjacentMines()) {
+                    board.forEachNeighbour(index, neighbour -> {
+                        if (!flagged[neighbour] && board.getCell(neighbour).isCovered()) {
+                            board.revealCell(neighbour / board.getCols(), neighbour % board.getCols());
+                        }
+                    });
+                    progress = true;
+                } else if (flags + covered == cell.getAdjacentMines()) {
+                    board.forEachNeighbour(index, neighbour -> {
+                        if (board.getCell(neighbour).isCovered()) {
+                            flagged[neighbour] = true;
+                        }
+                    });
+                    progress = true;
+                }
+            }
+        }
+
+        return board.isGameWon();
+    }
+
+    /**
+     * Marks an opening and its bordering cells starting from an empty cell.
+     *
+     * @param board  The board being analysed
+     * @param start  The linear index of the empty cell to start from
+     * @param marked The cells already covered by an opening
+     * @param stack  Scratch space for the flood fill, one slot longer than the board
+     */
+    private void markOpening(Board board, int start, boolean[] marked, int[] stack) {
+        // The first slot holds the stack size, so the neighbour callback can push
+        stack[0] = 1;
+        stack[1] = start;
+        marked[start] = true;
+
+        while (stack[0] > 0) {
+            int index = stack[stack[0]--];
+            if (!isEmpty(board.getCell(index))) {
+                continue;
+            }
+
+            board.forEachNeighbour(index, adjacentIndex -> {
+                if (!marked[adjacentIndex]) {
+                    marked[adjacentIndex] = true;
+                    stack[++stack[0]] = adjacentIndex;
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks if a cell is safe and has no adjacent mines.
+     *
+     * @param cell The cell to check
+     * @return true if the cell is empty else false
+     */
+    private boolean isEmpty(Cell cell) {
+        return !cell.hasMine() && cell.getAdjacentMines() == 0;
+    }
+}
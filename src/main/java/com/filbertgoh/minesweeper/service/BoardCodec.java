@@ -0,0 +1,375 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.util.GameConfig;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary codec for boards.
+ * The header names the board's topology, so built-in topologies are restored on
+ * decode; a board with a custom topology must be decoded with that topology. The
+ * mine layout is stored either as a sparse list of gaps between mine positions
+ * or as a raw bitset, whichever is smaller for the board's density. The reveal state
+ * is stored as alternating run lengths of covered and revealed cells. Adjacency
+ * counts are not stored; they are recomputed on decode. All integers other than the
+ * fingerprint are unsigned LEB128 varints.
+ */
+public class BoardCodec {
+    private static final byte FORMAT_VERSION = 2;
+    private static final int MAX_TOPOLOGY_NAME_BYTES = 255;
+    private static final byte MINES_SPARSE = 0;
+    private static final byte MINES_BITSET = 1;
+
+    /**
+     * Receives the contents of an encoded board as it is decoded, without
+     * materialising any cells.
+     */
+    public interface Visitor {
+        /**
+         * Called once before any mines or runs.
+         *
+         * @param topology    The name of the board's topology
+         * @param rows        The number of rows
+         * @param cols        The number of columns
+         * @param totalMines  The board's declared number of mines
+         * @param fingerprint The board's mine layout fingerprint
+         */
+        void header(String topology, int rows, int cols, int totalMines, long fingerprint);
+
+        /**
+         * Called for each mine, in increasing index order.
+         *
+         * @param index The linear index of the mine
+         */
+        void mine(int index);
+
+        /**
+         * Called for each run of revealed cells, in increasing index order.
+         *
+         * @param start  The linear index of the first revealed cell
+         * @param length The number of consecutive revealed cells
+         */
+        void revealedRun(int start, int length);
+    }
+
+    /**
+     * Gets an upper bound on the encoded size of a board.
+     *
+     * @param board The board
+     * @return The maximum number of bytes {@link #encode(Board, ByteBuffer)} can write
+     */
+    public int maxEncodedSize(Board board) {
+        int cellCount = board.getCellCount();
+        int nameBytes = topologyName(board).length;
+        // Header, the bitset size (sparse is only used when smaller), and reveal runs,
+        // where a run of length L never needs more than L bytes except the leading empty run
+        return 1 + 5 + nameBytes + 3 * 5 + 8 + 1 + 5 + (cellCount + 7) / 8 + cellCount + 1;
+    }
+
+    /**
+     * Encodes a board into a new byte array.
+     *
+     * @param board The board to encode
+     * @return The encoded board
+     */
+    public byte[] encode(Board board) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedSize(board));
+        encode(board, buffer);
+        buffer.flip();
+
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Encodes a board into a buffer at its current position.
+     *
+     * @param board The board to encode
+     * @param out   The buffer to write to
+     * @return The number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     * @throws IllegalArgumentException if the topology name is longer than 255 bytes
+     */
+    public int encode(Board board, ByteBuffer out) {
+        int startPosition = out.position();
+        int cellCount = board.getCellCount();
+        byte[] name = topologyName(board);
+
+        out.put(FORMAT_VERSION);
+        putVarint(out, name.length);
+        out.put(name);
+        putVarint(out, board.getRows());
+        putVarint(out, board.getCols());
+        putVarint(out, board.getTotalMines());
+        out.putLong(board.getMineFingerprint());
+
+        // Size the sparse encoding exactly and fall back to a bitset when it is smaller
+        int mineCount = 0;
+        int sparseBytes = 0;
+        int previous = -1;
+        for (int index = 0; index < cellCount; index++) {
+            if (board.getCell(index).hasMine()) {
+                sparseBytes += varintLength(index - previous - 1);
+                previous = index;
+                mineCount++;
+            }
+        }
+
+        if (sparseBytes <= (cellCount + 7) / 8) {
+            out.put(MINES_SPARSE);
+            putVarint(out, mineCount);
+            previous = -1;
+            for (int index = 0; index < cellCount; index++) {
+                if (board.getCell(index).hasMine()) {
+                    putVarint(out, index - previous - 1);
+                    previous = index;
+                }
+            }
+        } else {
+            out.put(MINES_BITSET);
+            for (int base = 0; base < cellCount; base += 8) {
+                int bits = 0;
+                for (int bit = 0; bit < 8 && base + bit < cellCount; bit++) {
+                    if (board.getCell(base + bit).hasMine()) {
+                        bits |= 1 << bit;
+                    }
+                }
+                out.put((byte) bits);
+            }
+        }
+
+        // Alternating covered/revealed run lengths, starting with covered
+        boolean revealed = false;
+        int runLength = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (board.getCell(index).isRevealed() != revealed) {
+                putVarint(out, runLength);
+                revealed = !revealed;
+                runLength = 0;
+            }
+            runLength++;
+        }
+        putVarint(out, runLength);
+
+        return out.position() - startPosition;
+    }
+
+    /**
+     * Decodes a board with a built-in topology from a buffer at its current position.
+     *
+     * @param in The buffer to read from
+     * @return The decoded board, with adjacency counts recomputed
+     * @throws IllegalArgumentException if the data is not a valid encoded board or
+     *         the board has a custom topology
+     */
+    public Board decode(ByteBuffer in) {
+        return decode(in, (Topology) null);
+    }
+
+    /**
+     * Decodes a board of the given topology from a buffer at its current position.
+     *
+     * @param in       The buffer to read from
+     * @param topology The topology of the encoded board, or null to look up a built-in topology by name
+     * @return The decoded board, with adjacency counts recomputed
+     * @throws IllegalArgumentException if the data is not a valid encoded board or was
+     *         encoded with a topology of a different name
+     */
+    public Board decode(ByteBuffer in, Topology topology) {
+        Board[] board = new Board[1];
+        int[][] revealedCells = new int[1][];
+        int[] revealedSize = new int[1];
+
+        decode(in, new Visitor() {
+            @Override
+            public void header(String name, int rows, int cols, int totalMines, long fingerprint) {
+                Topology decoded = topology == null ? Topology.forName(name) : topology;
+                if (!decoded.getName().equals(name)) {
+                    throw new IllegalArgumentException("Board was encoded with topology " + name
+                            + ", not " + decoded.getName());
+                }
+                board[0] = new Board(rows, cols, totalMines, decoded);
+                board[0].setMineFingerprint(fingerprint);
+                revealedCells[0] = new int[0];
+            }
+
+            @Override
+            public void mine(int index) {
+                board[0].getCell(index).setMine(true);
+            }
+
+            @Override
+            public void revealedRun(int start, int length) {
+                int[] cells = revealedCells[0];
+                if (revealedSize[0] + length > cells.length) {
+                    cells = Arrays.copyOf(cells, Math.max(cells.length * 2, revealedSize[0] + length));
+                    revealedCells[0] = cells;
+                }
+                for (int i = 0; i < length; i++) {
+                    cells[revealedSize[0]++] = start + i;
+                }
+            }
+        });
+
+        board[0].calculateAdjacentMines();
+        board[0].uncoverCells(Arrays.copyOf(revealedCells[0], revealedSize[0]));
+        return board[0];
+    }
+
+    /**
+     * Decodes a board from a buffer at its current position, streaming its contents to a visitor.
+     *
+     * @param in      The buffer to read from
+     * @param visitor The visitor to receive the board's contents
+     * @throws IllegalArgumentException if the data is not a valid encoded board
+     */
+    public void decode(ByteBuffer in, Visitor visitor) {
+        try {
+            if (in.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported board encoding version");
+            }
+
+            int nameLength = getVarint(in);
+            if (nameLength > MAX_TOPOLOGY_NAME_BYTES) {
+                throw new IllegalArgumentException("Encoded topology name is too long");
+            }
+            byte[] name = new byte[nameLength];
+            in.get(name);
+            int rows = getVarint(in);
+            int cols = getVarint(in);
+            int totalMines = getVarint(in);
+            long fingerprint = in.getLong();
+            int cellCount = Math.multiplyExact(rows, cols);
+
+            // Check the dimensions against the data before the visitor allocates a board for them
+            byte minesEncoding = in.get();
+            if (minesEncoding != MINES_SPARSE && minesEncoding != MINES_BITSET) {
+                throw new IllegalArgumentException("Unknown mine encoding " + minesEncoding);
+            }
+            int mineCount = minesEncoding == MINES_SPARSE ? getVarint(in) : 0;
+            if (cellCount > GameConfig.MAX_BOARD_CELLS || totalMines > cellCount || mineCount > cellCount) {
+                throw new IllegalArgumentException("Encoded board of " + rows + "x" + cols + " is too large");
+            }
+            // Every mine gap takes a byte, a bitset one byte per 8 cells, and the reveal runs at least one more
+            long minimumBytes = (minesEncoding == MINES_BITSET ? (cellCount + 7) / 8 : mineCount) + 1L;
+            if (in.remaining() < minimumBytes) {
+                throw new BufferUnderflowException();
+            }
+            visitor.header(new String(name, StandardCharsets.UTF_8), rows, cols, totalMines, fingerprint);
+
+            if (minesEncoding == MINES_SPARSE) {
+                int index = -1;
+                for (int i = 0; i < mineCount; i++) {
+                    index += getVarint(in) + 1;
+                    checkIndex(index, cellCount);
+                    visitor.mine(index);
+                }
+            } else {
+                for (int base = 0; base < cellCount; base += 8) {
+                    int bits = in.get() & 0xFF;
+                    while (bits != 0) {
+                        int index = base + Integer.numberOfTrailingZeros(bits);
+                        checkIndex(index, cellCount);
+                        visitor.mine(index);
+                        bits &= bits - 1;
+                    }
+                }
+            }
+
+            boolean revealed = false;
+            int index = 0;
+            while (index < cellCount) {
+                int runLength = getVarint(in);
+                if (runLength > cellCount - index) {
+                    throw new IllegalArgumentException("Encoded reveal run extends past the board");
+                }
+                if (revealed && runLength > 0) {
+                    visitor.revealedRun(index, runLength);
+                }
+                index += runLength;
+                revealed = !revealed;
+            }
+        } catch (BufferUnderflowException | ArithmeticException e) {
+            throw new IllegalArgumentException("Truncated or corrupt board encoding", e);
+        }
+    }
+
+    /**
+     * Gets the encoded name of a board's topology.
+     *
+     * @param board The board
+     * @return The topology name as UTF-8
+     * @throws IllegalArgumentException if the name is longer than 255 bytes
+     */
+    private byte[] topologyName(Board board) {
+        byte[] name = board.getTopology().getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_TOPOLOGY_NAME_BYTES) {
+            throw new IllegalArgumentException("Topology name is too long to encode");
+        }
+        return name;
+    }
+
+    /**
+     * Checks that a decoded index lies on the board.
+     *
+     * @param index     The decoded index
+     * @param cellCount The number of cells on the board
+     * @throws IllegalArgumentException if the index is out of range
+     */
+    private void checkIndex(int index, int cellCount) {
+        if (index < 0 || index >= cellCount) {
+            throw new IllegalArgumentException("Encoded cell index " + index + " is outside the board");
+        }
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param out   The buffer to write to
+     * @param value The non-negative value
+     */
+    private void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param in The buffer to read from
+     * @return The value read
+     */
+    private int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Encoded value out of range");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Gets the number of bytes needed to write a value as a varint.
+     *
+     * @param value The non-negative value
+     * @return The encoded length in bytes
+     */
+    private int varintLength(int value) {
+        return value < (1 << 7) ? 1 : value < (1 << 14) ? 2 : value < (1 << 21) ? 3 : value < (1 << 28) ? 4 : 5;
+    }
+}
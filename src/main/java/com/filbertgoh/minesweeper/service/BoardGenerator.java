@@ -1,68 +1,173 @@
 package com.filbertgoh.minesweeper.service;
 
 import com.filbertgoh.minesweeper.model.Board;
-import com.filbertgoh.minesweeper.model.Cell;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.util.BoardFingerprint;
 import com.filbertgoh.minesweeper.util.GameConfig;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
 
 /**
  * Service for generating and initializing the game board.
+ * Any {@link RandomGenerator} can drive mine placement. Positions are drawn with
+ * {@link RandomGenerator#nextInt(int)}, which is free of modulo bias.
  */
 public class BoardGenerator {
-    private final Random random;
+    private final RandomGenerator random;
+    private final boolean legacyPlacement;
 
     /**
-     * Creates a new board generator.
+     * Creates a new board generator using the platform's default random algorithm.
      */
     public BoardGenerator() {
-        this.random = new Random();
+        this(RandomGenerator.getDefault(), false);
     }
 
     /**
      * Creates a new board generator with a specified random seed for testing.
+     * Mines are always placed by rejection sampling from {@link Random}, whatever the
+     * density, so a seed gives the same layout it did before placement strategies existed.
      *
      * @param seed The random seed
      */
     public BoardGenerator(long seed) {
-        this.random = new Random(seed);
+        this(new Random(seed), true);
+    }
+
+    /**
+     * Creates a new board generator using a named algorithm with a specified seed,
+     * e.g. "L64X128MixRandom" or "Xoshiro256PlusPlus". Seeded runs are reproducible per algorithm.
+     *
+     * @param algorithm The name of the random algorithm
+     * @param seed      The random seed
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public BoardGenerator(String algorithm, long seed) {
+        this(RandomGeneratorFactory.of(algorithm).create(seed), false);
+    }
+
+    /**
+     * Creates a new board generator drawing from the given random source.
+     *
+     * @param random The random source
+     */
+    public BoardGenerator(RandomGenerator random) {
+        this(random, false);
+    }
+
+    /**
+     * Creates a new board generator.
+     *
+     * @param random          The random source
+     * @param legacyPlacement Whether to place mines by rejection sampling at every density
+     */
+    private BoardGenerator(RandomGenerator random, boolean legacyPlacement) {
+        this.random = random;
+        this.legacyPlacement = legacyPlacement;
+    }
+
+    /**
+     * Creates an independent generator for use on another thread, by splitting or
+     * jumping this generator's random source.
+     *
+     * @return A new board generator with its own random stream
+     * @throws UnsupportedOperationException if the random source can be neither split nor jumped
+     */
+    public BoardGenerator split() {
+        if (random instanceof RandomGenerator.SplittableGenerator splittable) {
+            return new BoardGenerator(splittable.split());
+        }
+        if (random instanceof RandomGenerator.JumpableGenerator jumpable) {
+            return new BoardGenerator(jumpable.copyAndJump());
+        }
+        throw new UnsupportedOperationException("Random source " + random.getClass().getSimpleName()
+                + " cannot be split for parallel generation");
+    }
+
+    /**
+     * Generates several boards in parallel. Each board gets its own generator, split
+     * from this one in order before any work starts, so seeded runs stay reproducible.
+     *
+     * @param count    The number of boards
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     * @return The generated boards, in split order
+     * @throws UnsupportedOperationException if the random source cannot be split
+     */
+    public List<Board> generateBoards(int count, int rows, int cols, int numMines) {
+        validateBoardParameters(rows, cols, numMines);
+        List<BoardGenerator> workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workers.add(split());
+        }
+
+        return IntStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> workers.get(i).generateBoard(rows, cols, numMines))
+                .toList();
     }
 
     /**
-     * Validates the input parameters for board creation.
+     * Validates the input parameters for square board creation.
      *
      * @param size     The board size
      * @param numMines The number of mines
      * @throws IllegalArgumentException if the parameters are invalid
      */
     public void validateBoardParameters(int size, int numMines) {
-        if (size <= 0) {
+        validateBoardParameters(size, size, numMines);
+    }
+
+    /**
+     * Validates the input parameters for rectangular board creation.
+     *
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     * @throws IllegalArgumentException if the parameters are invalid
+     */
+    public void validateBoardParameters(int rows, int cols, int numMines) {
+        if (rows <= 0 || cols <= 0) {
             throw new IllegalArgumentException("Board size must be positive");
         }
 
-        int maxMines = (int) (size * size * GameConfig.MAX_MINE_DENSITY_RATIO);
+        int maxMines = GameConfig.maxMines(rows, cols);
         if (numMines <= 0 || numMines > maxMines) {
             throw new IllegalArgumentException("Number of mines must be between 1 and " + maxMines);
         }
     }
 
     /**
-     * Generates a new board with randomly placed mines.
+     * Generates a new square board with randomly placed mines.
      *
      * @param size     The board size
      * @param numMines The number of mines
      * @return The generated board
      */
     public Board generateBoard(int size, int numMines) {
-        validateBoardParameters(size, numMines);
-        Board board = new Board(size, numMines);
-        placeMines(board, numMines, -1, -1);
-        board.calculateAdjacentMines();
-        return board;
+        return generateBoard(size, size, numMines);
     }
 
     /**
-     * Generates a new board with randomly placed mines, excluding the first clicked position.
+     * Generates a new rectangular board with randomly placed mines.
+     *
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     * @return The generated board
+     */
+    public Board generateBoard(int rows, int cols, int numMines) {
+        return generateBoard(rows, cols, numMines, -1, -1);
+    }
+
+    /**
+     * Generates a new square board with randomly placed mines, excluding the first clicked position.
      *
      * @param size         The board size
      * @param numMines     The number of mines
@@ -71,35 +176,194 @@ public class BoardGenerator {
      * @return The generated board
      */
     public Board generateBoard(int size, int numMines, int excludeRow, int excludeCol) {
-        validateBoardParameters(size, numMines);
-        Board board = new Board(size, numMines);
-        placeMines(board, numMines, excludeRow, excludeCol);
+        return generateBoard(size, size, numMines, excludeRow, excludeCol);
+    }
+
+    /**
+     * Generates a new rectangular board with randomly placed mines, excluding the first clicked position.
+     *
+     * @param rows         The number of rows
+     * @param cols         The number of columns
+     * @param numMines     The number of mines
+     * @param excludeRow   The row to exclude from mine placement
+     * @param excludeCol   The column to exclude from mine placement
+     * @return The generated board
+     */
+    public Board generateBoard(int rows, int cols, int numMines, int excludeRow, int excludeCol) {
+        return generateBoard(rows, cols, numMines, excludeRow, excludeCol, 0);
+    }
+
+    /**
+     * Generates a new rectangular board with randomly placed mines, keeping every cell within
+     * a radius of the first clicked position free of mines. The placement strategy is chosen
+     * from the mine density with {@link PlacementStrategy#forDensity(int, int)}, except on
+     * generators built from a plain {@code long} seed.
+     *
+     * @param rows           The number of rows
+     * @param cols           The number of columns
+     * @param numMines       The number of mines
+     * @param excludeRow     The row of the first clicked position, or -1 for none
+     * @param excludeCol     The column of the first clicked position, or -1 for none
+     * @param safeZoneRadius The radius around the first clicked position to keep free of mines
+     * @return The generated board
+     * @throws IllegalArgumentException if the parameters are invalid or the mines do not fit outside the safe zone
+     */
+    public Board generateBoard(int rows, int cols, int numMines, int excludeRow, int excludeCol, int safeZoneRadius) {
+        return generateBoard(Topology.SQUARE, rows, cols, numMines, excludeRow, excludeCol, safeZoneRadius);
+    }
+
+    /**
+     * Generates a new board of the given topology with randomly placed mines.
+     *
+     * @param topology The board topology
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @param numMines The number of mines
+     * @return The generated board
+     * @throws IllegalArgumentException if the parameters are invalid
+     */
+    public Board generateBoard(Topology topology, int rows, int cols, int numMines) {
+        return generateBoard(topology, rows, cols, numMines, -1, -1, 0);
+    }
+
+    /**
+     * Generates a new board of the given topology, keeping every cell within a radius of the
+     * first clicked position free of mines. The safe zone is measured in rows and columns
+     * and does not wrap around the board edges.
+     *
+     * @param topology       The board topology
+     * @param rows           The number of rows
+     * @param cols           The number of columns
+     * @param numMines       The number of mines
+     * @param excludeRow     The row of the first clicked position, or -1 for none
+     * @param excludeCol     The column of the first clicked position, or -1 for none
+     * @param safeZoneRadius The radius around the first clicked position to keep free of mines
+     * @return The generated board
+     * @throws IllegalArgumentException if the parameters are invalid or the mines do not fit outside the safe zone
+     */
+    public Board generateBoard(Topology topology, int rows, int cols, int numMines, int excludeRow, int excludeCol,
+                               int safeZoneRadius) {
+        validateBoardParameters(rows, cols, numMines);
+        Board board = new Board(rows, cols, numMines, topology);
+
+        int candidateCells = board.getCellCount() - countSafeZone(board, excludeRow, excludeCol, safeZoneRadius);
+        if (numMines > candidateCells) {
+            throw new IllegalArgumentException("Not enough cells outside the safe zone for " + numMines + " mines");
+        }
+
+        long fingerprint;
+        if (!legacyPlacement && PlacementStrategy.forDensity(candidateCells, numMines) == PlacementStrategy.SHUFFLE) {
+            fingerprint = shuffleMines(board, numMines, candidateCells, excludeRow, excludeCol, safeZoneRadius);
+        } else {
+            fingerprint = sampleMines(board, numMines, excludeRow, excludeCol, safeZoneRadius);
+        }
+
+        board.setMineFingerprint(BoardFingerprint.finish(fingerprint, topology, rows, cols, numMines));
         board.calculateAdjacentMines();
         return board;
     }
 
     /**
-     * Places mines randomly on the board.
+     * Places mines by drawing random cells and rejecting mined or safe-zone cells.
      *
-     * @param board      The board to place mines on
-     * @param numMines   The number of mines to place
-     * @param excludeRow The row to exclude from mine placement
-     * @param excludeCol The column to exclude from mine placement
+     * @param board          The board to place mines on
+     * @param numMines       The number of mines to place
+     * @param excludeRow     The row of the first clicked position
+     * @param excludeCol     The column of the first clicked position
+     * @param safeZoneRadius The radius of the safe zone
+     * @return The accumulated fingerprint of the placed mines
      */
-    private void placeMines(Board board, int numMines, int excludeRow, int excludeCol) {
-        int size = board.getSize();
+    private long sampleMines(Board board, int numMines, int excludeRow, int excludeCol, int safeZoneRadius) {
+        int cellCount = board.getCellCount();
         int minesPlaced = 0;
+        long fingerprint = 0;
 
         while (minesPlaced < numMines) {
-            int row = random.nextInt(size);
-            int col = random.nextInt(size);
+            int index = random.nextInt(cellCount);
 
-            if ((row == excludeRow && col == excludeCol) || board.getCell(row, col).hasMine()) {
+            if (board.getCell(index).hasMine() || isInSafeZone(board, index, excludeRow, excludeCol, safeZoneRadius)) {
                 continue;
             }
 
-            board.getCell(row, col).setMine(true);
+            board.getCell(index).setMine(true);
+            fingerprint ^= BoardFingerprint.mineKey(index);
             minesPlaced++;
         }
+
+        return fingerprint;
+    }
+
+    /**
+     * Places mines with a partial Fisher-Yates shuffle of the cells outside the safe zone.
+     *
+     * @param board          The board to place mines on
+     * @param numMines       The number of mines to place
+     * @param candidateCells The number of cells outside the safe zone
+     * @param excludeRow     The row of the first clicked position
+     * @param excludeCol     The column of the first clicked position
+     * @param safeZoneRadius The radius of the safe zone
+     * @return The accumulated fingerprint of the placed mines
+     */
+    private long shuffleMines(Board board, int numMines, int candidateCells, int excludeRow, int excludeCol,
+                              int safeZoneRadius) {
+        int[] candidates = new int[candidateCells];
+        int count = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (!isInSafeZone(board, index, excludeRow, excludeCol, safeZoneRadius)) {
+                candidates[count++] = index;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int i = 0; i < numMines; i++) {
+            int j = i + random.nextInt(candidateCells - i);
+            int index = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = index;
+
+            board.getCell(index).setMine(true);
+            fingerprint ^= BoardFingerprint.mineKey(index);
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * Counts the cells of the safe zone that lie on the board.
+     *
+     * @param board          The board
+     * @param excludeRow     The row of the first clicked position
+     * @param excludeCol     The column of the first clicked position
+     * @param safeZoneRadius The radius of the safe zone
+     * @return The number of cells in the safe zone
+     */
+    private int countSafeZone(Board board, int excludeRow, int excludeCol, int safeZoneRadius) {
+        if (!board.isValidPosition(excludeRow, excludeCol)) {
+            return 0;
+        }
+
+        int zoneRows = Math.min(board.getRows() - 1, excludeRow + safeZoneRadius) - Math.max(0, excludeRow - safeZoneRadius) + 1;
+        int zoneCols = Math.min(board.getCols() - 1, excludeCol + safeZoneRadius) - Math.max(0, excludeCol - safeZoneRadius) + 1;
+        return zoneRows * zoneCols;
+    }
+
+    /**
+     * Checks if a cell lies within the safe zone around the first clicked position.
+     *
+     * @param board          The board
+     * @param index          The linear index of the cell
+     * @param excludeRow     The row of the first clicked position
+     * @param excludeCol     The column of the first clicked position
+     * @param safeZoneRadius The radius of the safe zone
+     * @return true if no mine may be placed on the cell else false
+     */
+    private boolean isInSafeZone(Board board, int index, int excludeRow, int excludeCol, int safeZoneRadius) {
+        if (!board.isValidPosition(excludeRow, excludeCol)) {
+            return false;
+        }
+
+        int row = index / board.getCols();
+        int col = index % board.getCols();
+        return Math.abs(row - excludeRow) <= safeZoneRadius && Math.abs(col - excludeCol) <= safeZoneRadius;
     }
 }
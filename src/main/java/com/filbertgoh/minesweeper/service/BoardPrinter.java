@@ -3,41 +3,216 @@ package com.filbertgoh.minesweeper.service;
 import com.filbertgoh.minesweeper.model.Board;
 import com.filbertgoh.minesweeper.model.Cell;
 import com.filbertgoh.minesweeper.model.CellState;
+import com.filbertgoh.minesweeper.model.EndlessBoard;
+import com.filbertgoh.minesweeper.model.TileSummary;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.RowLabels;
 
 /**
  * Service for printing the board to the console.
  */
 public class BoardPrinter {
 
+    private static final char[] MINIMAP_SHADES = {'_', '.', ':', '+', '#'};
+    private static final char MINIMAP_CLEARED = '@';
+
     /**
      * Prints the current state of the board to the console.
+     * Columns are padded to the width of the largest column number so that
+     * boards wider than nine columns stay aligned. Odd rows of a hexagonal
+     * board are shifted right by half a column.
      *
      * @param board The board to print
      */
     public String printBoard(Board board) {
-        StringBuilder output = new StringBuilder();
-        int size = board.getSize();
+        StringBuilder output = new StringBuilder((board.getRows() + 1) * (board.getCols() + 1)
+                * (String.valueOf(board.getCols()).length() + 1));
+        appendWindow(output, board, 0, 0, board.getRows(), board.getCols());
+        return output.toString();
+    }
+
+    /**
+     * Prints a window of the board centred as closely as possible on a cell.
+     * Only the cells inside the window are visited, so the cost depends on the
+     * window size rather than the board size.
+     *
+     * @param board     The board to print
+     * @param centreRow The row to centre on
+     * @param centreCol The column to centre on
+     * @param viewRows  The maximum number of rows to show
+     * @param viewCols  The maximum number of columns to show
+     * @return The window, preceded by a line saying which part of the board it shows
+     */
+    public String printViewport(Board board, int centreRow, int centreCol, int viewRows, int viewCols) {
+        int height = Math.min(viewRows, board.getRows());
+        int width = Math.min(viewCols, board.getCols());
+        int top = windowStart(centreRow, height, board.getRows());
+        int left = windowStart(centreCol, width, board.getCols());
+
+        StringBuilder output = new StringBuilder((height + 2) * (width + 1) * (String.valueOf(board.getCols()).length() + 1));
+        output.append("Rows ").append(RowLabels.format(top)).append('-').append(RowLabels.format(top + height - 1))
+                .append(", columns ").append(left + 1).append('-').append(left + width)
+                .append(" of ").append(board.getRows()).append('x').append(board.getCols()).append('\n');
+        appendWindow(output, board, top, left, height, width);
+        return output.toString();
+    }
+
+    /**
+     * Prints a window of an endless board centred on a cell. Rows and columns are labelled
+     * with their signed numbers, and the chunks under the window are created if needed.
+     *
+     * @param board     The board to print
+     * @param centreRow The row to centre on
+     * @param centreCol The column to centre on
+     * @param viewRows  The number of rows to show
+     * @param viewCols  The number of columns to show
+     * @return The window, preceded by a line saying which part of the board it shows
+     */
+    public String printViewport(EndlessBoard board, int centreRow, int centreCol, int viewRows, int viewCols) {
+        int limit = GameConfig.ENDLESS_COORDINATE_LIMIT;
+        int top = Math.max(-limit, Math.min(centreRow - viewRows / 2, limit - viewRows + 1));
+        int left = Math.max(-limit, Math.min(centreCol - viewCols / 2, limit - viewCols + 1));
+        int bottom = top + viewRows - 1;
+        int right = left + viewCols - 1;
+        int cellWidth = Math.max(String.valueOf(left).length(), String.valueOf(right).length());
+        int labelWidth = Math.max(String.valueOf(top).length(), String.valueOf(bottom).length());
+
+        StringBuilder output = new StringBuilder((viewRows + 2) * (viewCols + 1) * (cellWidth + 1) + 64);
+        output.append("Rows ").append(top).append(" to ").append(bottom)
+                .append(", columns ").append(left).append(" to ").append(right)
+                .append(", ").append(board.getRevealedCount()).append(" squares cleared\n");
+
+        appendPadded(output, "", labelWidth);
+        for (int col = left; col <= right; col++) {
+            appendPadded(output, String.valueOf(col), cellWidth);
+        }
+        output.append("\n");
+
+        for (int row = top; row <= bottom; row++) {
+            appendPadded(output, String.valueOf(row), labelWidth);
+            for (int col = left; col <= right; col++) {
+                String display;
+                if (board.isRevealed(row, col)) {
+                    display = String.valueOf(board.getAdjacentMines(row, col));
+                } else if (board.isDetonated(row, col)) {
+                    display = "*";
+                } else {
+                    display = "_";
+                }
+                appendPadded(output, display, cellWidth);
+            }
+            output.append("\n");
+        }
+        return output.toString();
+    }
+
+    /**
+     * Prints a zoomed-out map of the board with one character per tile of
+     * {@link TileSummary#TILE_SIZE} by {@link TileSummary#TILE_SIZE} cells, read
+     * from the board's incrementally maintained tile summary.
+     *
+     * @param board The board to summarise
+     * @return The map, followed by a legend
+     */
+    public String printMinimap(Board board) {
+        TileSummary summary = board.getTileSummary();
+        int labelWidth = RowLabels.width(board.getRows());
+        StringBuilder output = new StringBuilder((summary.getTileRows() + 1) * (summary.getTileCols() + labelWidth + 2) + 96);
+
+        for (int tileRow = 0; tileRow < summary.getTileRows(); tileRow++) {
+            appendPadded(output, RowLabels.format(tileRow << TileSummary.TILE_SHIFT), labelWidth);
+            for (int tileCol = 0; tileCol < summary.getTileCols(); tileCol++) {
+                output.append(shade(summary.getRevealed(tileRow, tileCol), summary.getCellCount(tileRow, tileCol)));
+            }
+            output.append('\n');
+        }
+
+        output.append("Each character is a ").append(TileSummary.TILE_SIZE).append('x').append(TileSummary.TILE_SIZE)
+                .append(" block: _ untouched, . : + # partly revealed, @ fully revealed\n");
+        return output.toString();
+    }
+
+    /**
+     * Appends a rectangular window of the board with column headers and row labels.
+     *
+     * @param output The output to append to
+     * @param board  The board to print
+     * @param top    The first row of the window
+     * @param left   The first column of the window
+     * @param height The number of rows in the window
+     * @param width  The number of columns in the window
+     */
+    private void appendWindow(StringBuilder output, Board board, int top, int left, int height, int width) {
+        int cellWidth = String.valueOf(board.getCols()).length();
+        int labelWidth = RowLabels.width(board.getRows());
+        String hexShift = board.getTopology() == Topology.HEX ? " ".repeat((cellWidth + 1) / 2) : "";
 
         // Print column headers
-        output.append("  ");
-        for (int col = 1; col <= size; col++) {
-            output.append(col).append(" ");
+        appendPadded(output, "", labelWidth);
+        for (int col = left + 1; col <= left + width; col++) {
+            appendPadded(output, String.valueOf(col), cellWidth);
         }
         output.append("\n");
 
         // Print rows
-        for (int row = 0; row < size; row++) {
-            // Print row header (A, B, C, ...)
-            output.append((char) ('A' + row)).append(" ");
+        for (int row = top; row < top + height; row++) {
+            // Print row header (A, B, C, ..., AA, AB, ...)
+            appendPadded(output, RowLabels.format(row), labelWidth);
+            if ((row & 1) == 1) {
+                output.append(hexShift);
+            }
 
             // Print cells
-            for (int col = 0; col < size; col++) {
-                output.append(getCellDisplay(board.getCell(row, col))).append(" ");
+            for (int col = left; col < left + width; col++) {
+                appendPadded(output, getCellDisplay(board.getCell(row, col)), cellWidth);
             }
             output.append("\n");
         }
+    }
 
-        return output.toString();
+    /**
+     * Gets the first row or column of a window centred as closely as possible on a position.
+     *
+     * @param centre The row or column to centre on
+     * @param size   The window size along that axis
+     * @param limit  The board size along that axis
+     * @return The first row or column of the window
+     */
+    private static int windowStart(int centre, int size, int limit) {
+        return Math.max(0, Math.min(centre - size / 2, limit - size));
+    }
+
+    /**
+     * Gets the minimap character for a tile.
+     *
+     * @param revealed  The number of revealed cells in the tile
+     * @param cellCount The number of cells in the tile
+     * @return The shade character
+     */
+    private static char shade(int revealed, int cellCount) {
+        if (revealed >= cellCount) {
+            return MINIMAP_CLEARED;
+        }
+        if (revealed == 0) {
+            return MINIMAP_SHADES[0];
+        }
+        return MINIMAP_SHADES[1 + revealed * (MINIMAP_SHADES.length - 1) / cellCount];
+    }
+
+    /**
+     * Appends a value left-aligned in a column of the given width, followed by a separator.
+     *
+     * @param output The output to append to
+     * @param value  The value to append
+     * @param width  The column width
+     */
+    private void appendPadded(StringBuilder output, String value, int width) {
+        output.append(value);
+        for (int i = value.length(); i < width; i++) {
+            output.append(' ');
+        }
+        output.append(' ');
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+
+/**
+ * Quality figures of a candidate puzzle, as scored by {@link CurationPipeline}.
+ *
+ * @param sequence            The candidate's position in the pipeline's seed sequence
+ * @param seed                The seed the layout was generated from
+ * @param layout              The untouched layout
+ * @param openings            The number of connected regions of cells with no adjacent mines
+ * @param threeBV             The minimum number of clicks needed to clear the board (3BV)
+ * @param noGuess             true if the board can be cleared from its start cell without guessing
+ * @param expectedSolveMillis The estimated time a typical player needs to clear the board
+ */
+public record BoardScore(long sequence, long seed, Board layout, int openings, int threeBV, boolean noGuess,
+                         long expectedSolveMillis) {
+}
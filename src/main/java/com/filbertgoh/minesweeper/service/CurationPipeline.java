@@ -0,0 +1,585 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.SplitMix64;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Scores large numbers of candidate puzzles and keeps the good ones in a binary catalogue.
+ * Candidates flow through five stages connected by bounded queues: a seed source, board
+ * generation, analysis, a filter and a single sink writing to the catalogue. Generation,
+ * analysis and filtering each run on their own number of threads; a full queue blocks
+ * the stage feeding it, so a slow stage throttles everything upstream.
+ *
+ * <p>Candidate {@code n} is generated from a seed derived from the catalogue seed and
+ * {@code n}, with the centre cell kept free of mines as the start cell. The sink writes
+ * candidates in sequence order, which makes the catalogue identical for any thread
+ * counts and lets a checkpoint be a single sequence number and file length. The catalogue
+ * is forced to disk before each checkpoint is written, and the checkpoint before it replaces
+ * the previous one, so a checkpoint never points past data lost in a crash. After a
+ * restart the catalogue is cut back to its last checkpoint and the run carries on from
+ * there. The catalogue header and the checkpoint record a hash of the catalogue seed,
+ * difficulty and filter name, and a restart with different parameters is refused.
+ * Analyses are cached by mine fingerprint, so a layout generated more than once is only
+ * analysed once.
+ */
+public class CurationPipeline {
+    private static final int MAGIC = 0x4D534354;
+    private static final byte FORMAT_VERSION = 2;
+    private static final int HEADER_LENGTH = Integer.BYTES + 1 + Long.BYTES;
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The stages of the pipeline, in the order candidates pass through them.
+     */
+    public enum Stage {
+        SOURCE,
+        GENERATE,
+        ANALYSE,
+        FILTER,
+        SINK
+    }
+
+    /**
+     * Thread counts and buffer sizes of a pipeline.
+     *
+     * @param generators         The number of threads generating boards
+     * @param analysers          The number of threads scoring boards
+     * @param filters            The number of threads applying the filter
+     * @param queueCapacity      The number of candidates each queue between stages can hold
+     * @param checkpointInterval The number of candidates between checkpoints
+     */
+    public record Tuning(int generators, int analysers, int filters, int queueCapacity, int checkpointInterval) {
+
+        /**
+         * Validates the settings.
+         *
+         * @throws IllegalArgumentException if any setting is not positive
+         */
+        public Tuning {
+            if (generators <= 0 || analysers <= 0 || filters <= 0) {
+                throw new IllegalArgumentException("Every stage needs at least one thread");
+            }
+            if (queueCapacity <= 0 || checkpointInterval <= 0) {
+                throw new IllegalArgumentException("Queue capacity and checkpoint interval must be positive");
+            }
+        }
+
+        /**
+         * Gets settings with one generating and one scoring thread per processor.
+         *
+         * @return The default settings
+         */
+        public static Tuning defaults() {
+            int processors = Runtime.getRuntime().availableProcessors();
+            return new Tuning(processors, processors, 1, GameConfig.CURATION_QUEUE_CAPACITY,
+                    GameConfig.CURATION_CHECKPOINT_INTERVAL);
+        }
+    }
+
+    /**
+     * A candidate on its way through the pipeline. Each stage fills in its part.
+     */
+    private static final class Candidate {
+        private final long sequence;
+        private final long seed;
+        private Board layout;
+        private BoardScore score;
+        private boolean accepted;
+
+        private Candidate(long sequence, long seed) {
+            this.sequence = sequence;
+            this.seed = seed;
+        }
+    }
+
+    /**
+     * The analysis of one layout from the centre start cell.
+     *
+     * @param analysis The openings and 3BV of the layout
+     * @param noGuess  Whether the layout can be solved without guessing
+     */
+    private record LayoutAnalysis(BoardAnalysis analysis, boolean noGuess) {
+    }
+
+    // Tells a worker that its stage has no more input
+    private static final Candidate END = new Candidate(-1, 0);
+
+    private final Difficulty difficulty;
+    private final long catalogueSeed;
+    private final Predicate<BoardScore> filter;
+    private final long parametersHash;
+    private final Path catalogue;
+    private final Path checkpoint;
+    private final Tuning tuning;
+    private final BoardAnalyzer boardAnalyzer;
+    private final LayoutCache<Long, LayoutAnalysis> analyses;
+    private final BoardCodec codec;
+    private final Map<Stage, LongAdder> counters;
+    private volatile long startNanos;
+
+    /**
+     * Creates a pipeline. Its checkpoint is kept next to the catalogue.
+     *
+     * @param difficulty    The tier of the candidate boards
+     * @param catalogueSeed The seed every candidate seed is derived from
+     * @param filter        The test a scored candidate must pass to be written
+     * @param filterName    The name identifying the filter, recorded with the catalogue
+     * @param catalogue     The file accepted boards are written to
+     * @param tuning        The thread counts and buffer sizes
+     */
+    public CurationPipeline(Difficulty difficulty, long catalogueSeed, Predicate<BoardScore> filter,
+                            String filterName, Path catalogue, Tuning tuning) {
+        this.difficulty = difficulty;
+        this.catalogueSeed = catalogueSeed;
+        this.filter = filter;
+        this.parametersHash = parametersHash(difficulty, catalogueSeed, filterName);
+        this.catalogue = catalogue;
+        this.checkpoint = catalogue.resolveSibling(catalogue.getFileName() + CHECKPOINT_SUFFIX);
+        this.tuning = tuning;
+        this.boardAnalyzer = new BoardAnalyzer();
+        this.analyses = new LayoutCache<>(GameConfig.CURATION_ANALYSIS_CACHE_SIZE);
+        this.codec = new BoardCodec();
+        this.counters = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            counters.put(stage, new LongAdder());
+        }
+    }
+
+    /**
+     * Runs the pipeline until the first {@code candidates} candidates have been scored,
+     * resuming from the checkpoint if there is one. Blocks until the run is finished.
+     *
+     * @param candidates The total number of candidates, counting those from earlier runs
+     * @return The number of boards written to the catalogue by this run
+     * @throws IllegalArgumentException if candidates is negative, the catalogue does not match its checkpoint
+     *         or it was started with a different seed, difficulty or filter
+     * @throws UncheckedIOException if the catalogue or checkpoint cannot be read or written
+     * @throws InterruptedException if the calling thread is interrupted; the stage threads are stopped
+     */
+    public long run(long candidates) throws InterruptedException {
+        if (candidates < 0) {
+            throw new IllegalArgumentException("Candidate count cannot be negative");
+        }
+        for (LongAdder counter : counters.values()) {
+            counter.reset();
+        }
+        startNanos = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(catalogue, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long first = recover(channel);
+            if (first >= candidates) {
+                return 0;
+            }
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE));
+            return process(first, candidates, out, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of candidates a stage has handled since the last run started.
+     * For the sink this is the number of boards written.
+     *
+     * @param stage The stage
+     * @return The number of candidates handled
+     */
+    public long getCount(Stage stage) {
+        return counters.get(stage).sum();
+    }
+
+    /**
+     * Gets the rate at which a stage has handled candidates since the last run started.
+     *
+     * @param stage The stage
+     * @return The number of candidates handled per second
+     */
+    public double getThroughput(Stage stage) {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0.0 : getCount(stage) * 1e9 / elapsed;
+    }
+
+    /**
+     * Reads every board in a catalogue, in the order they were written.
+     *
+     * @param catalogue The catalogue file
+     * @param consumer  The receiver of each board
+     * @throws IllegalArgumentException if the file is not a catalogue or ends in the middle of a board
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static void readCatalogue(Path catalogue, Consumer<BoardScore> consumer) {
+        BoardCodec codec = new BoardCodec();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(catalogue)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Not a board catalogue: " + catalogue);
+            }
+            in.readLong();
+            while (true) {
+                long sequence;
+                try {
+                    sequence = in.readLong();
+                } catch (EOFException e) {
+                    return;
+                }
+                consumer.accept(readEntry(in, sequence, codec));
+            }
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Catalogue ends in the middle of a board: " + catalogue);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts every stage, waits for them to finish and stops them all if one fails.
+     *
+     * @param first      The first candidate to score
+     * @param candidates The candidate to stop before
+     * @param out        The stream over the catalogue, positioned at its end
+     * @param channel    The catalogue's channel
+     * @return The number of boards written
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private long process(long first, long candidates, DataOutputStream out, FileChannel channel)
+            throws InterruptedException {
+        BlockingQueue<Candidate> seeds = new ArrayBlockingQueue<>(tuning.queueCapacity());
+        BlockingQueue<Candidate> generated = new ArrayBlockingQueue<>(tuning.queueCapacity());
+        BlockingQueue<Candidate> analysed = new ArrayBlockingQueue<>(tuning.queueCapacity());
+        BlockingQueue<Candidate> filtered = new ArrayBlockingQueue<>(tuning.queueCapacity());
+        int workers = tuning.generators() + tuning.analysers() + tuning.filters();
+        // Caps how far candidates may overtake each other, so the sink's reorder buffer stays bounded
+        Semaphore inFlight = new Semaphore(4 * tuning.queueCapacity() + workers);
+        long[] written = new long[1];
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 2);
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        try {
+            completion.submit(() -> {
+                for (long sequence = first; sequence < candidates; sequence++) {
+                    inFlight.acquire();
+                    seeds.put(new Candidate(sequence, SplitMix64.mix(catalogueSeed + sequence)));
+                    counters.get(Stage.SOURCE).increment();
+                }
+                for (int i = 0; i < tuning.generators(); i++) {
+                    seeds.put(END);
+                }
+                return null;
+            });
+            submitStage(completion, Stage.GENERATE, tuning.generators(), this::generate, seeds, generated,
+                    tuning.analysers());
+            submitStage(completion, Stage.ANALYSE, tuning.analysers(), this::analyse, generated, analysed,
+                    tuning.filters());
+            submitStage(completion, Stage.FILTER, tuning.filters(), this::filter, analysed, filtered, 1);
+            completion.submit(() -> {
+                written[0] = sink(first, filtered, inFlight, out, channel);
+                return null;
+            });
+
+            for (int i = 0; i < workers + 2; i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    if (cause instanceof IOException io) {
+                        throw new UncheckedIOException(io);
+                    }
+                    throw new IllegalStateException("Pipeline stage failed", cause);
+                }
+            }
+            return written[0];
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts the workers of one stage. The last worker to run out of input passes one
+     * end marker to each worker of the next stage.
+     *
+     * @param completion  The service to run the workers on
+     * @param stage       The stage
+     * @param threads     The number of workers
+     * @param step        The work done on each candidate
+     * @param in          The queue the stage reads from
+     * @param out         The queue the stage writes to
+     * @param nextWorkers The number of workers in the next stage
+     */
+    private void submitStage(CompletionService<Void> completion, Stage stage, int threads, Consumer<Candidate> step,
+                             BlockingQueue<Candidate> in, BlockingQueue<Candidate> out, int nextWorkers) {
+        AtomicInteger running = new AtomicInteger(threads);
+        LongAdder counter = counters.get(stage);
+        Callable<Void> worker = () -> {
+            for (Candidate candidate = in.take(); candidate != END; candidate = in.take()) {
+                step.accept(candidate);
+                counter.increment();
+                out.put(candidate);
+            }
+            if (running.decrementAndGet() == 0) {
+                for (int i = 0; i < nextWorkers; i++) {
+                    out.put(END);
+                }
+            }
+            return null;
+        };
+        for (int i = 0; i < threads; i++) {
+            completion.submit(worker);
+        }
+    }
+
+    /**
+     * Generates a candidate's board, keeping the centre cell free of mines.
+     *
+     * @param candidate The candidate
+     */
+    private void generate(Candidate candidate) {
+        candidate.layout = new BoardGenerator(new SplitMix64(candidate.seed)).generateBoard(difficulty.getRows(),
+                difficulty.getCols(), difficulty.getMines(), difficulty.getRows() / 2, difficulty.getCols() / 2);
+    }
+
+    /**
+     * Scores a candidate's board, reusing the analysis of an earlier candidate with the same layout.
+     *
+     * @param candidate The candidate
+     */
+    private void analyse(Candidate candidate) {
+        Board layout = candidate.layout;
+        LayoutAnalysis cached = analyses.get(layout.getMineFingerprint(), fingerprint -> new LayoutAnalysis(
+                boardAnalyzer.analyze(layout),
+                boardAnalyzer.solvesWithoutGuessing(layout, layout.getRows() / 2, layout.getCols() / 2)));
+        BoardAnalysis analysis = cached.analysis();
+        long expectedMillis = Math.round(analysis.threeBV() * 1000 / GameConfig.CURATION_THREE_BV_PER_SECOND);
+        candidate.score = new BoardScore(candidate.sequence, candidate.seed, layout, analysis.openings(),
+                analysis.threeBV(), cached.noGuess(), expectedMillis);
+    }
+
+    /**
+     * Gets the cache of layout analyses, keyed by mine fingerprint.
+     *
+     * @return The analysis cache
+     */
+    LayoutCache<Long, ?> getAnalysisCache() {
+        return analyses;
+    }
+
+    /**
+     * Decides whether a candidate is written.
+     *
+     * @param candidate The candidate
+     */
+    private void filter(Candidate candidate) {
+        candidate.accepted = filter.test(candidate.score);
+    }
+
+    /**
+     * Writes accepted candidates in sequence order, checkpointing at a fixed interval and at the end.
+     *
+     * @param first    The first candidate of this run
+     * @param in       The queue of filtered candidates
+     * @param inFlight The permits released as candidates leave the pipeline
+     * @param out      The stream over the catalogue
+     * @param channel  The catalogue's channel
+     * @return The number of boards written
+     * @throws IOException if the catalogue or checkpoint cannot be written
+     * @throws InterruptedException if the sink is stopped
+     */
+    private long sink(long first, BlockingQueue<Candidate> in, Semaphore inFlight, DataOutputStream out,
+                      FileChannel channel) throws IOException, InterruptedException {
+        Map<Long, Candidate> waiting = new HashMap<>();
+        LongAdder counter = counters.get(Stage.SINK);
+        long next = first;
+        long written = 0;
+
+        for (Candidate arrived = in.take(); arrived != END; arrived = in.take()) {
+            waiting.put(arrived.sequence, arrived);
+            Candidate candidate;
+            while ((candidate = waiting.remove(next)) != null) {
+                if (candidate.accepted) {
+                    writeEntry(out, candidate.score);
+                    counter.increment();
+                    written++;
+                }
+                next++;
+                inFlight.release();
+                if ((next - first) % tuning.checkpointInterval() == 0) {
+                    saveCheckpoint(next, out, channel);
+                }
+            }
+        }
+
+        saveCheckpoint(next, out, channel);
+        return written;
+    }
+
+    /**
+     * Cuts the catalogue back to its last checkpoint, or starts a new one.
+     *
+     * @param channel The catalogue's channel
+     * @return The first candidate still to be scored
+     * @throws IOException if the files cannot be read or written
+     * @throws IllegalArgumentException if the catalogue is shorter than its checkpoint says, or it or
+     *         its checkpoint was written with different parameters
+     */
+    private long recover(FileChannel channel) throws IOException {
+        if (Files.exists(checkpoint)) {
+            long checkpointHash;
+            long next;
+            long length;
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(checkpoint))) {
+                checkpointHash = in.readLong();
+                next = in.readLong();
+                length = in.readLong();
+            } catch (EOFException e) {
+                throw new IllegalArgumentException("Checkpoint is truncated: " + checkpoint);
+            }
+            if (channel.size() < length || length < HEADER_LENGTH) {
+                throw new IllegalArgumentException("Catalogue is shorter than its checkpoint: " + catalogue);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining()) {
+                channel.read(header, header.position());
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Not a board catalogue: " + catalogue);
+            }
+            if (header.getLong() != parametersHash || checkpointHash != parametersHash) {
+                throw new IllegalArgumentException("Catalogue was started with a different seed, difficulty or filter: "
+                        + catalogue);
+            }
+            // Anything after the checkpoint was written by a run that did not finish
+            channel.truncate(length);
+            channel.position(length);
+            return next;
+        }
+
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).put(FORMAT_VERSION)
+                .putLong(parametersHash).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        return 0;
+    }
+
+    /**
+     * Flushes the catalogue to disk and atomically replaces the checkpoint.
+     *
+     * @param next    The first candidate not yet handled by the sink
+     * @param out     The stream over the catalogue
+     * @param channel The catalogue's channel
+     * @throws IOException if a file cannot be written
+     */
+    private void saveCheckpoint(long next, DataOutputStream out, FileChannel channel) throws IOException {
+        out.flush();
+        // The boards must be on disk before a checkpoint that counts them, or a crash could lose them
+        channel.force(false);
+
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        ByteBuffer record = ByteBuffer.allocate(3 * Long.BYTES).putLong(parametersHash).putLong(next)
+                .putLong(channel.position()).flip();
+        try (FileChannel checkpointChannel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (record.hasRemaining()) {
+                checkpointChannel.write(record);
+            }
+            checkpointChannel.force(false);
+        }
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Appends one board to the catalogue.
+     *
+     * @param out   The stream over the catalogue
+     * @param score The board and its score
+     * @throws IOException if the catalogue cannot be written
+     */
+    private void writeEntry(DataOutputStream out, BoardScore score) throws IOException {
+        byte[] layout = codec.encode(score.layout());
+        out.writeLong(score.sequence());
+        out.writeLong(score.seed());
+        out.writeInt(score.openings());
+        out.writeInt(score.threeBV());
+        out.writeBoolean(score.noGuess());
+        out.writeLong(score.expectedSolveMillis());
+        out.writeInt(layout.length);
+        out.write(layout);
+    }
+
+    /**
+     * Reads the rest of one board after its sequence number.
+     *
+     * @param data     The stream over the catalogue
+     * @param sequence The sequence number already read
+     * @param codec    The codec to decode the layout with
+     * @return The board and its score
+     * @throws IOException if the catalogue cannot be read
+     */
+    private static BoardScore readEntry(DataInputStream data, long sequence, BoardCodec codec) throws IOException {
+        long seed = data.readLong();
+        int openings = data.readInt();
+        int threeBV = data.readInt();
+        boolean noGuess = data.readBoolean();
+        long expectedMillis = data.readLong();
+        byte[] layout = new byte[data.readInt()];
+        data.readFully(layout);
+        return new BoardScore(sequence, seed, codec.decode(ByteBuffer.wrap(layout)), openings, threeBV, noGuess,
+                expectedMillis);
+    }
+
+    /**
+     * Hashes the parameters that decide which boards end up in a catalogue.
+     *
+     * @param difficulty    The tier of the candidate boards
+     * @param catalogueSeed The seed every candidate seed is derived from
+     * @param filterName    The name identifying the filter
+     * @return The hash recorded in the catalogue header and checkpoint
+     */
+    private static long parametersHash(Difficulty difficulty, long catalogueSeed, String filterName) {
+        long hash = SplitMix64.mix(catalogueSeed);
+        for (byte b : (difficulty.name() + '\0' + filterName).getBytes(StandardCharsets.UTF_8)) {
+            hash = SplitMix64.mix(hash ^ (b & 0xFF));
+        }
+        return hash;
+    }
+}
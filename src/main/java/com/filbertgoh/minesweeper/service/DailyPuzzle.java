@@ -0,0 +1,30 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+
+import java.time.LocalDate;
+
+/**
+ * A pre-generated board of the day.
+ *
+ * @param date       The day the puzzle is for
+ * @param difficulty The difficulty tier
+ * @param seed       The seed the layout was generated from
+ * @param layout     The untouched layout; never played on directly
+ * @param analysis   The analysis of the layout
+ * @param startRow   The row of the cell that is guaranteed to be safe
+ * @param startCol   The column of the cell that is guaranteed to be safe
+ */
+public record DailyPuzzle(LocalDate date, Difficulty difficulty, long seed, Board layout,
+                          BoardAnalysis analysis, int startRow, int startCol) {
+
+    /**
+     * Creates a fresh copy of the puzzle's board to play on.
+     *
+     * @return A new board with the puzzle's layout
+     */
+    public Board newBoard() {
+        return layout.copy();
+    }
+}
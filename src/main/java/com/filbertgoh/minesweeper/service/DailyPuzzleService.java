@@ -0,0 +1,145 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.util.SplitMix64;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the same "board of the day" to every user without storing boards.
+ * Each puzzle is derived from a seed computed from its date and difficulty and
+ * generated with {@link SplitMix64}, so every instance produces identical boards.
+ * Upcoming puzzles are generated and analysed ahead of time on a scheduled
+ * executor and kept in a bounded cache, so the day rolling over causes no spike.
+ */
+public class DailyPuzzleService {
+    private static final long SEED_SALT = 0x6D696E6573776565L;
+    private static final System.Logger LOGGER = System.getLogger(DailyPuzzleService.class.getName());
+
+    private final Clock clock;
+    private final int daysAhead;
+    private final BoardAnalyzer boardAnalyzer;
+    private final LayoutCache<PuzzleKey, DailyPuzzle> cache;
+
+    private record PuzzleKey(LocalDate date, Difficulty difficulty) {
+    }
+
+    /**
+     * Creates a new daily puzzle service.
+     *
+     * @param clock     The clock that decides which day it is
+     * @param daysAhead The number of days after today to pre-generate
+     * @throws IllegalArgumentException if daysAhead is negative
+     */
+    public DailyPuzzleService(Clock clock, int daysAhead) {
+        if (daysAhead < 0) {
+            throw new IllegalArgumentException("Days ahead cannot be negative");
+        }
+
+        this.clock = clock;
+        this.daysAhead = daysAhead;
+        this.boardAnalyzer = new BoardAnalyzer();
+        // Yesterday, today and the days ahead, for every tier
+        this.cache = new LayoutCache<>((daysAhead + 2) * Difficulty.values().length);
+    }
+
+    /**
+     * Derives the seed of a puzzle from its date and difficulty.
+     *
+     * @param date       The day of the puzzle
+     * @param difficulty The difficulty tier
+     * @return The puzzle seed
+     */
+    public static long seedFor(LocalDate date, Difficulty difficulty) {
+        return SplitMix64.mix(SplitMix64.mix(date.toEpochDay() ^ SEED_SALT) + difficulty.ordinal());
+    }
+
+    /**
+     * Starts pre-generating upcoming puzzles, once immediately and then at a fixed interval.
+     * A run that fails is logged and the next run goes ahead as scheduled.
+     *
+     * @param scheduler The executor to run pre-generation on
+     * @param interval  The time between pre-generation runs
+     * @return The scheduled task, which can be cancelled to stop pre-generation
+     */
+    public ScheduledFuture<?> start(ScheduledExecutorService scheduler, Duration interval) {
+        return scheduler.scheduleAtFixedRate(this::precomputeScheduled, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Makes sure today's and the upcoming days' puzzles are in the cache.
+     */
+    public void precompute() {
+        LocalDate today = LocalDate.now(clock);
+        for (int day = 0; day <= daysAhead; day++) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                getPuzzle(today.plusDays(day), difficulty);
+            }
+        }
+    }
+
+    /**
+     * Runs {@link #precompute()} from the scheduler. An exception escaping a periodic task
+     * would cancel every later run, so failures are logged instead.
+     */
+    private void precomputeScheduled() {
+        try {
+            precompute();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Daily puzzle pre-generation failed", e);
+        }
+    }
+
+    /**
+     * Gets today's puzzle.
+     *
+     * @param difficulty The difficulty tier
+     * @return Today's puzzle
+     */
+    public DailyPuzzle getTodaysPuzzle(Difficulty difficulty) {
+        return getPuzzle(LocalDate.now(clock), difficulty);
+    }
+
+    /**
+     * Gets the puzzle for a day, generating it if it is not cached.
+     *
+     * @param date       The day of the puzzle
+     * @param difficulty The difficulty tier
+     * @return The puzzle
+     */
+    public DailyPuzzle getPuzzle(LocalDate date, Difficulty difficulty) {
+        return cache.get(new PuzzleKey(date, difficulty), this::generate);
+    }
+
+    /**
+     * Gets the cache holding generated puzzles, for monitoring its hit rate.
+     *
+     * @return The puzzle cache
+     */
+    public LayoutCache<?, DailyPuzzle> getCache() {
+        return cache;
+    }
+
+    /**
+     * Generates and analyses a puzzle, keeping the centre cell free of mines as the start cell.
+     *
+     * @param key The day and difficulty
+     * @return The generated puzzle
+     */
+    private DailyPuzzle generate(PuzzleKey key) {
+        Difficulty difficulty = key.difficulty();
+        long seed = seedFor(key.date(), difficulty);
+        int startRow = difficulty.getRows() / 2;
+        int startCol = difficulty.getCols() / 2;
+
+        Board layout = new BoardGenerator(new SplitMix64(seed))
+                .generateBoard(difficulty.getRows(), difficulty.getCols(), difficulty.getMines(), startRow, startCol);
+        return new DailyPuzzle(key.date(), difficulty, seed, layout, boardAnalyzer.analyze(layout), startRow, startCol);
+    }
+}
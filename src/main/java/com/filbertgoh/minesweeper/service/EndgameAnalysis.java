@@ -0,0 +1,29 @@
+package com.filbertgoh.minesweeper.service;
+
+import java.util.List;
+
+/**
+ * Result of an exact endgame search.
+ *
+ * @param bestCell       The linear index of the best move, or -1 if no move was evaluated
+ * @param winProbability The chance of winning with perfect play after the best move, or NaN if
+ *                       the search ran out of time before the best move was evaluated exactly
+ * @param layouts        The number of mine layouts consistent with the visible board
+ * @param moves          The evaluated moves, best first
+ * @param complete       true if every move was evaluated exactly within the time budget
+ */
+public record EndgameAnalysis(int bestCell, double winProbability, int layouts, List<MoveOdds> moves,
+                              boolean complete) {
+
+    /**
+     * The odds of one move.
+     *
+     * @param cell            The linear index of the cell to reveal
+     * @param safeProbability The chance that the cell has no mine
+     * @param winProbability  The chance of winning with perfect play after revealing the cell,
+     *                        or NaN if the search ran out of time
+     * @param exact           true if the win probability was searched to the end
+     */
+    public record MoveOdds(int cell, double safeProbability, double winProbability, boolean exact) {
+    }
+}
@@ -0,0 +1,724 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Cell;
+import com.filbertgoh.minesweeper.service.EndgameAnalysis.MoveOdds;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.SplitMix64;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Finds the move with the best chance of winning in an endgame, searching the game
+ * tree exactly instead of ranking cells by how likely they are to hold a mine.
+ *
+ * <p>Only what a player can see is used: the revealed numbers and the total number
+ * of mines. Covered cells that the numbers alone prove to be mines are set aside, and
+ * every mine layout of the remaining covered cells that fits the numbers is listed;
+ * all of them are equally likely. A search state is the set of cells still covered
+ * together with the layouts that are still possible. Revealing a cell splits the
+ * layouts by what the player would see, the cell's number and any cascade it starts,
+ * and the value of a state is the best average over those outcomes. States are
+ * memoised by a hash of the covered cells and the surviving layouts in a fixed-size
+ * transposition table shared by all threads. Each first move is searched as its own
+ * task on a {@link ForkJoinPool}, and the search gives up on moves not finished within
+ * the time budget.
+ */
+public class EndgameSolver {
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+    // Exact results first, by chance of winning; unfinished moves after them by chance of being safe
+    private static final Comparator<MoveOdds> BEST_FIRST = Comparator.comparing(MoveOdds::exact).reversed()
+            .thenComparing(Comparator.comparingDouble(EndgameSolver::score).reversed())
+            .thenComparingInt(MoveOdds::cell);
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver that runs on the common fork-join pool.
+     */
+    public EndgameSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param pool The pool to search first moves on
+     */
+    public EndgameSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Analyses a position within the default time budget of
+     * {@link GameConfig#ENDGAME_TIME_BUDGET_MILLIS} milliseconds.
+     *
+     * @param board The board in play
+     * @return The odds of every move that may be safe
+     * @throws IllegalArgumentException if the game is over or the position is too open for an exact search
+     */
+    public EndgameAnalysis analyze(Board board) {
+        return analyze(board, Duration.ofMillis(GameConfig.ENDGAME_TIME_BUDGET_MILLIS));
+    }
+
+    /**
+     * Analyses a position. Moves whose search does not finish within the budget are
+     * reported with only their chance of being safe.
+     *
+     * @param board  The board in play
+     * @param budget The time to spend searching
+     * @return The odds of every move that may be safe
+     * @throws IllegalArgumentException if the game is over or the position is too open for an exact search
+     */
+    public EndgameAnalysis analyze(Board board, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        Position position = Position.of(board);
+        TranspositionTable table = new TranspositionTable(GameConfig.ENDGAME_TABLE_SIZE);
+
+        long[] layouts = position.layouts;
+        int[] all = new int[layouts.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        long allMine = -1L;
+        for (long layout : layouts) {
+            allMine &= layout;
+        }
+
+        long candidates = position.covered & ~allMine;
+        List<ForkJoinTask<Double>> tasks = new ArrayList<>();
+        List<Integer> cells = new ArrayList<>();
+        for (long rest = candidates; rest != 0; rest &= rest - 1) {
+            int unknown = Long.numberOfTrailingZeros(rest);
+            cells.add(unknown);
+            tasks.add(pool.submit(() -> new Search(position, table, deadline)
+                    .firstMove(unknown, all, all.length)));
+        }
+
+        List<MoveOdds> moves = new ArrayList<>();
+        boolean complete = true;
+        for (int i = 0; i < tasks.size(); i++) {
+            int unknown = cells.get(i);
+            double safe = (double) countSafe(layouts, all, all.length, unknown) / layouts.length;
+            int cell = position.cells[unknown];
+            try {
+                moves.add(new MoveOdds(cell, safe, tasks.get(i).join(), true));
+            } catch (OutOfTime e) {
+                moves.add(new MoveOdds(cell, safe, Double.NaN, false));
+                complete = false;
+            }
+        }
+
+        moves.sort(BEST_FIRST);
+
+        if (moves.isEmpty()) {
+            return new EndgameAnalysis(-1, Double.NaN, layouts.length, List.copyOf(moves), complete);
+        }
+        MoveOdds best = moves.get(0);
+        return new EndgameAnalysis(best.cell(), best.winProbability(), layouts.length, List.copyOf(moves), complete);
+    }
+
+    /**
+     * Gets the figure a move is ranked by.
+     *
+     * @param odds The odds of the move
+     * @return The win probability if it is exact, otherwise the safe probability
+     */
+    private static double score(MoveOdds odds) {
+        return odds.exact() ? odds.winProbability() : odds.safeProbability();
+    }
+
+    /**
+     * Counts the layouts in which a cell has no mine.
+     *
+     * @param layouts The mine layouts
+     * @param ids     The positions of the layouts to count
+     * @param count   The number of positions in use
+     * @param unknown The cell, as a position in the undecided cells
+     * @return The number of layouts in which the cell is safe
+     */
+    private static int countSafe(long[] layouts, int[] ids, int count, int unknown) {
+        long bit = 1L << unknown;
+        int safe = 0;
+        for (int i = 0; i < count; i++) {
+            if ((layouts[ids[i]] & bit) == 0) {
+                safe++;
+            }
+        }
+        return safe;
+    }
+
+    /**
+     * What the player knows about a position. Undecided cells are numbered 0 to 63 and
+     * handled as bit masks; every mine among them is listed in each layout.
+     */
+    private static final class Position {
+        private final int[] cells;
+        private final long[] neighbours;
+        private final int[] knownMineNeighbours;
+        private final long covered;
+        private final long[] layouts;
+
+        private Position(int[] cells, long[] neighbours, int[] knownMineNeighbours, long[] layouts) {
+            this.cells = cells;
+            this.neighbours = neighbours;
+            this.knownMineNeighbours = knownMineNeighbours;
+            this.covered = cells.length == 64 ? -1L : (1L << cells.length) - 1;
+            this.layouts = layouts;
+        }
+
+        /**
+         * Reads a position from a board, looking only at what the player can see.
+         *
+         * @param board The board in play
+         * @return The position
+         * @throws IllegalArgumentException if the game is over or the position is too open
+         */
+        private static Position of(Board board) {
+            if (board.isGameWon()) {
+                throw new IllegalArgumentException("The game is already over");
+            }
+
+            int cellCount = board.getCellCount();
+            int[][] adjacent = new int[cellCount][];
+            for (int index = 0; index < cellCount; index++) {
+                Cell cell = board.getCell(index);
+                if (cell.isRevealed() && cell.hasMine()) {
+                    throw new IllegalArgumentException("The game is already over");
+                }
+                int[] neighbours = new int[board.countNeighbours(index, neighbour -> true)];
+                int[] filled = new int[1];
+                board.forEachNeighbour(index, neighbour -> neighbours[filled[0]++] = neighbour);
+                adjacent[index] = neighbours;
+            }
+
+            boolean[] knownMine = deduceMines(board, adjacent);
+            int knownMines = 0;
+            for (boolean mine : knownMine) {
+                if (mine) {
+                    knownMines++;
+                }
+            }
+
+            // Cells next to a number first, so the numbers prune the enumeration early
+            int[] unknownOf = new int[cellCount];
+            Arrays.fill(unknownOf, -1);
+            int[] cells = new int[64];
+            int count = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int index = 0; index < cellCount; index++) {
+                    if (!board.getCell(index).isCovered() || knownMine[index] || unknownOf[index] >= 0
+                            || (pass == 0) != touchesNumber(board, adjacent, index)) {
+                        continue;
+                    }
+                    if (count == cells.length) {
+                        throw new IllegalArgumentException("Too many undecided cells for an exact search: must be at most "
+                                + cells.length);
+                    }
+                    unknownOf[index] = count;
+                    cells[count++] = index;
+                }
+            }
+            cells = Arrays.copyOf(cells, count);
+
+            long[] neighbours = new long[count];
+            int[] knownMineNeighbours = new int[count];
+            for (int unknown = 0; unknown < count; unknown++) {
+                for (int neighbour : adjacent[cells[unknown]]) {
+                    if (unknownOf[neighbour] >= 0) {
+                        neighbours[unknown] |= 1L << unknownOf[neighbour];
+                    } else if (knownMine[neighbour]) {
+                        knownMineNeighbours[unknown]++;
+                    }
+                }
+            }
+
+            List<long[]> constraints = new ArrayList<>();
+            for (int index = 0; index < cellCount; index++) {
+                if (!board.getCell(index).isRevealed()) {
+                    continue;
+                }
+                long mask = 0;
+                int need = board.getCell(index).getAdjacentMines();
+                for (int neighbour : adjacent[index]) {
+                    if (unknownOf[neighbour] >= 0) {
+                        mask |= 1L << unknownOf[neighbour];
+                    } else if (knownMine[neighbour]) {
+                        need--;
+                    }
+                }
+                if (mask != 0) {
+                    constraints.add(new long[] {mask, need});
+                }
+            }
+
+            long[] layouts = new LayoutEnumerator(count, constraints, board.getTotalMines() - knownMines).enumerate();
+            if (layouts.length == 0) {
+                throw new IllegalArgumentException("The revealed numbers do not fit any mine layout");
+            }
+            return new Position(cells, neighbours, knownMineNeighbours, layouts);
+        }
+
+        /**
+         * Finds covered cells that must be mines, repeatedly applying two rules to each
+         * revealed number: if its undecided neighbours are exactly the mines it still
+         * needs they are all mines, and if it needs no more mines they are all safe.
+         *
+         * @param board    The board in play
+         * @param adjacent The neighbours of each cell
+         * @return The cells proven to be mines
+         */
+        private static boolean[] deduceMines(Board board, int[][] adjacent) {
+            int cellCount = board.getCellCount();
+            boolean[] mine = new boolean[cellCount];
+            boolean[] safe = new boolean[cellCount];
+            boolean changed = true;
+
+            while (changed) {
+                changed = false;
+                for (int index = 0; index < cellCount; index++) {
+                    Cell cell = board.getCell(index);
+                    if (!cell.isRevealed()) {
+                        continue;
+                    }
+
+                    int need = cell.getAdjacentMines();
+                    int open = 0;
+                    for (int neighbour : adjacent[index]) {
+                        if (mine[neighbour]) {
+                            need--;
+                        } else if (board.getCell(neighbour).isCovered() && !safe[neighbour]) {
+                            open++;
+                        }
+                    }
+                    if (open == 0 || (need != open && need != 0)) {
+                        continue;
+                    }
+
+                    for (int neighbour : adjacent[index]) {
+                        if (!mine[neighbour] && !safe[neighbour] && board.getCell(neighbour).isCovered()) {
+                            if (need == 0) {
+                                safe[neighbour] = true;
+                            } else {
+                                mine[neighbour] = true;
+                            }
+                        }
+                    }
+                    changed = true;
+                }
+            }
+
+            return mine;
+        }
+
+        /**
+         * Checks if a cell is next to a revealed number.
+         *
+         * @param board    The board in play
+         * @param adjacent The neighbours of each cell
+         * @param index    The cell
+         * @return true if a neighbour is revealed else false
+         */
+        private static boolean touchesNumber(Board board, int[][] adjacent, int index) {
+            for (int neighbour : adjacent[index]) {
+                if (board.getCell(neighbour).isRevealed()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Lists every mine layout of the undecided cells that fits the revealed numbers and
+     * the number of mines left, assigning cells in order and backtracking as soon as a
+     * number can no longer be met.
+     */
+    private static final class LayoutEnumerator {
+        private final int cellCount;
+        private final int[][] constraintsOf;
+        private final int[] need;
+        private final int[] placed;
+        private final int[] open;
+        private final int mines;
+        private long[] layouts;
+        private int layoutCount;
+
+        private LayoutEnumerator(int cellCount, List<long[]> constraints, int mines) {
+            this.cellCount = cellCount;
+            this.mines = mines;
+            this.need = new int[constraints.size()];
+            this.placed = new int[constraints.size()];
+            this.open = new int[constraints.size()];
+            this.layouts = new long[64];
+
+            int[] perCell = new int[cellCount];
+            for (int k = 0; k < constraints.size(); k++) {
+                long mask = constraints.get(k)[0];
+                need[k] = (int) constraints.get(k)[1];
+                open[k] = Long.bitCount(mask);
+                for (long rest = mask; rest != 0; rest &= rest - 1) {
+                    perCell[Long.numberOfTrailingZeros(rest)]++;
+                }
+            }
+            this.constraintsOf = new int[cellCount][];
+            for (int cell = 0; cell < cellCount; cell++) {
+                constraintsOf[cell] = new int[perCell[cell]];
+                perCell[cell] = 0;
+            }
+            for (int k = 0; k < constraints.size(); k++) {
+                for (long rest = constraints.get(k)[0]; rest != 0; rest &= rest - 1) {
+                    int cell = Long.numberOfTrailingZeros(rest);
+                    constraintsOf[cell][perCell[cell]++] = k;
+                }
+            }
+        }
+
+        /**
+         * Lists the layouts.
+         *
+         * @return The layouts, as masks of the cells holding a mine
+         * @throws IllegalArgumentException if there are more than {@link GameConfig#ENDGAME_MAX_LAYOUTS}
+         */
+        private long[] enumerate() {
+            if (mines >= 0) {
+                assign(0, 0L, mines);
+            }
+            return Arrays.copyOf(layouts, layoutCount);
+        }
+
+        /**
+         * Tries both values for a cell and recurses to the next one.
+         *
+         * @param cell       The cell to assign
+         * @param layout     The mines placed so far
+         * @param minesLeft  The mines still to place
+         */
+        private void assign(int cell, long layout, int minesLeft) {
+            if (minesLeft > cellCount - cell) {
+                return;
+            }
+            if (cell == cellCount) {
+                if (layoutCount == GameConfig.ENDGAME_MAX_LAYOUTS) {
+                    throw new IllegalArgumentException("Too many possible mine layouts for an exact search: must be at most "
+                            + GameConfig.ENDGAME_MAX_LAYOUTS);
+                }
+                if (layoutCount == layouts.length) {
+                    layouts = Arrays.copyOf(layouts, layoutCount * 2);
+                }
+                layouts[layoutCount++] = layout;
+                return;
+            }
+
+            int[] constraints = constraintsOf[cell];
+            if (minesLeft > 0) {
+                boolean fits = true;
+                for (int k : constraints) {
+                    placed[k]++;
+                    open[k]--;
+                    fits &= placed[k] <= need[k];
+                }
+                if (fits) {
+                    assign(cell + 1, layout | 1L << cell, minesLeft - 1);
+                }
+                for (int k : constraints) {
+                    placed[k]--;
+                    open[k]++;
+                }
+            }
+
+            boolean fits = true;
+            for (int k : constraints) {
+                open[k]--;
+                fits &= placed[k] + open[k] >= need[k];
+            }
+            if (fits) {
+                assign(cell + 1, layout, minesLeft);
+            }
+            for (int k : constraints) {
+                open[k]++;
+            }
+        }
+    }
+
+    /**
+     * Search state of one thread. The transposition table is shared; the node counter,
+     * used to look at the clock only every few nodes, is not.
+     */
+    private static final class Search {
+        private final Position position;
+        private final long[] layouts;
+        private final TranspositionTable table;
+        private final long deadline;
+        private int nodes;
+        private long signature;
+
+        private Search(Position position, TranspositionTable table, long deadline) {
+            this.position = position;
+            this.layouts = position.layouts;
+            this.table = table;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Searches one first move to the end.
+         *
+         * @param unknown The cell to reveal
+         * @param ids     The positions of the possible layouts
+         * @param count   The number of possible layouts
+         * @return The chance of winning after revealing the cell
+         * @throws OutOfTime if the deadline passes
+         */
+        private double firstMove(int unknown, int[] ids, int count) {
+            if (System.nanoTime() > deadline) {
+                throw OutOfTime.INSTANCE;
+            }
+            return reveal(position.covered, ids, count, unknown, -1.0);
+        }
+
+        /**
+         * Gets the chance of winning from a state with perfect play.
+         *
+         * @param covered The undecided cells still covered
+         * @param ids     The positions of the layouts still possible, in increasing order
+         * @param count   The number of layouts still possible
+         * @return The chance of winning
+         * @throws OutOfTime if the deadline passes
+         */
+        private double value(long covered, int[] ids, int count) {
+            // Once the layout is known every safe cell can be opened without risk
+            if (count == 1) {
+                return 1.0;
+            }
+
+            long anyMine = 0;
+            long allMine = -1L;
+            for (int i = 0; i < count; i++) {
+                anyMine |= layouts[ids[i]];
+                allMine &= layouts[ids[i]];
+            }
+
+            long key = hash(covered, ids, count);
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+            if ((++nodes & (DEADLINE_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() > deadline) {
+                throw OutOfTime.INSTANCE;
+            }
+
+            double best;
+            long safe = covered & ~anyMine;
+            if (safe != 0) {
+                // Opening a cell that is safe in every layout only adds information
+                best = reveal(covered, ids, count, Long.numberOfTrailingZeros(safe), -1.0);
+            } else {
+                best = 0.0;
+                int[] order = candidatesBySafety(covered & ~allMine, ids, count);
+                for (int i = 0; i < order.length; i++) {
+                    int unknown = order[i] & 0xFF;
+                    // No move can win more often than it is safe
+                    if ((double) (order[i] >>> 8) / count <= best) {
+                        break;
+                    }
+                    best = Math.max(best, reveal(covered, ids, count, unknown, best));
+                }
+            }
+
+            table.put(key, best);
+            return best;
+        }
+
+        /**
+         * Gets the chance of winning after revealing a cell, splitting the layouts in
+         * which it is safe by what the player would then see.
+         *
+         * @param covered The undecided cells still covered
+         * @param ids     The positions of the layouts still possible
+         * @param count   The number of layouts still possible
+         * @param unknown The cell to reveal
+         * @param cutoff  The chance already reached by another move; once this move
+         *                cannot beat it the search stops and returns a value at most the cutoff
+         * @return The chance of winning, exact if it is above the cutoff
+         * @throws OutOfTime if the deadline passes
+         */
+        private double reveal(long covered, int[] ids, int count, int unknown, double cutoff) {
+            long bit = 1L << unknown;
+            int[] safeIds = new int[count];
+            long[] signatures = new long[count];
+            long[] opened = new long[count];
+            int safeCount = 0;
+            for (int i = 0; i < count; i++) {
+                long layout = layouts[ids[i]];
+                if ((layout & bit) != 0) {
+                    continue;
+                }
+                safeIds[safeCount] = ids[i];
+                opened[safeCount] = observe(covered, layout, unknown);
+                signatures[safeCount] = signature;
+                safeCount++;
+            }
+
+            double wins = 0.0;
+            int unseen = safeCount;
+            boolean[] grouped = new boolean[safeCount];
+            int[] group = new int[safeCount];
+            for (int i = 0; i < safeCount; i++) {
+                if (grouped[i]) {
+                    continue;
+                }
+                int size = 0;
+                for (int j = i; j < safeCount; j++) {
+                    if (!grouped[j] && signatures[j] == signatures[i] && opened[j] == opened[i]) {
+                        grouped[j] = true;
+                        group[size++] = safeIds[j];
+                    }
+                }
+                wins += size * value(covered & ~opened[i], group.length == size ? group : Arrays.copyOf(group, size), size);
+                unseen -= size;
+                // Even winning every outcome not yet searched would not be enough
+                if ((wins + unseen) / count <= cutoff) {
+                    return (wins + unseen) / count;
+                }
+            }
+            return wins / count;
+        }
+
+        /**
+         * Works out what the player sees on revealing a safe cell in a layout: the cells
+         * opened, including any cascade, and their numbers, whose hash is left in
+         * {@link #signature}.
+         *
+         * @param covered The undecided cells still covered
+         * @param layout  The mines
+         * @param unknown The cell to reveal
+         * @return The mask of opened cells
+         */
+        private long observe(long covered, long layout, int unknown) {
+            long opened = 0;
+            long pending = 1L << unknown;
+            long signature = 0;
+            while (pending != 0) {
+                int cell = Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                opened |= 1L << cell;
+
+                long neighbours = position.neighbours[cell];
+                int number = position.knownMineNeighbours[cell] + Long.bitCount(neighbours & layout);
+                signature = SplitMix64.mix(signature ^ ((long) cell << 8 | number));
+                if (number == 0) {
+                    pending |= neighbours & covered & ~opened;
+                }
+            }
+            this.signature = signature;
+            return opened;
+        }
+
+        /**
+         * Lists the cells that may be safe, most often safe first, each packed with the
+         * number of layouts in which it is safe above its low 8 bits.
+         *
+         * @param candidates The cells that are safe in at least one layout
+         * @param ids        The positions of the layouts still possible
+         * @param count      The number of layouts still possible
+         * @return The packed cells in decreasing order of safety
+         */
+        private int[] candidatesBySafety(long candidates, int[] ids, int count) {
+            int[] order = new int[Long.bitCount(candidates)];
+            int n = 0;
+            for (long rest = candidates; rest != 0; rest &= rest - 1) {
+                int unknown = Long.numberOfTrailingZeros(rest);
+                order[n++] = countSafe(layouts, ids, count, unknown) << 8 | unknown;
+            }
+            Arrays.sort(order);
+            for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            return order;
+        }
+
+        /**
+         * Hashes a state. Layout positions are kept in increasing order, so equal states
+         * always hash alike.
+         *
+         * @param covered The undecided cells still covered
+         * @param ids     The positions of the layouts still possible
+         * @param count   The number of layouts still possible
+         * @return The hash
+         */
+        private static long hash(long covered, int[] ids, int count) {
+            long hash = SplitMix64.mix(covered);
+            for (int i = 0; i < count; i++) {
+                hash = SplitMix64.mix(hash ^ ids[i]);
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Fixed-size, always-replace table of state values that threads share without locks.
+     * Each slot stores the key xor-ed with the value next to the value, so a slot torn by
+     * two threads writing at once fails the key check instead of returning a wrong value.
+     * Distinct states whose 64-bit hashes collide are not told apart.
+     */
+    private static final class TranspositionTable {
+        private final long[] keys;
+        private final long[] values;
+        private final int mask;
+
+        private TranspositionTable(int size) {
+            this.keys = new long[size];
+            this.values = new long[size];
+            this.mask = size - 1;
+        }
+
+        /**
+         * Looks up a state.
+         *
+         * @param key The state's hash
+         * @return The stored value, or NaN if the state is not stored
+         */
+        private double get(long key) {
+            int slot = (int) key & mask;
+            long value = values[slot];
+            // Empty slots hold zeros, which would otherwise match a key of zero
+            if (key == 0 || (keys[slot] ^ value) != key) {
+                return Double.NaN;
+            }
+            return Double.longBitsToDouble(value);
+        }
+
+        /**
+         * Stores a state's value, replacing whatever was in its slot.
+         *
+         * @param key   The state's hash
+         * @param value The value
+         */
+        private void put(long key, double value) {
+            int slot = (int) key & mask;
+            long bits = Double.doubleToRawLongBits(value);
+            keys[slot] = key ^ bits;
+            values[slot] = bits;
+        }
+    }
+
+    /**
+     * Thrown through the search when the time budget runs out.
+     */
+    private static final class OutOfTime extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private static final OutOfTime INSTANCE = new OutOfTime();
+
+        private OutOfTime() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+
+/**
+ * A won game submitted to the leaderboard.
+ *
+ * @param difficulty    The difficulty tier of the board
+ * @param elapsedMillis The time from the first move to the win, in milliseconds
+ * @param threeBV       The 3BV of the board
+ * @param finishedAt    The time the game was won, in milliseconds since the epoch
+ */
+public record GameResult(Difficulty difficulty, long elapsedMillis, int threeBV, long finishedAt) {
+
+    /**
+     * Validates the result.
+     *
+     * @throws IllegalArgumentException if a field is out of range
+     */
+    public GameResult {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null");
+        }
+        if (elapsedMillis < 0 || threeBV < 0) {
+            throw new IllegalArgumentException("Elapsed time and 3BV cannot be negative");
+        }
+    }
+
+    /**
+     * Gets the solving speed in 3BV per second.
+     *
+     * @return The 3BV per second, with sub-millisecond games counted as one millisecond
+     */
+    public double threeBVPerSecond() {
+        return threeBV * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Formats the result as one line of the leaderboard journal.
+     *
+     * @return The journal line, without a line terminator
+     */
+    public String toJournalLine() {
+        return difficulty.name() + "," + elapsedMillis + "," + threeBV + "," + finishedAt;
+    }
+
+    /**
+     * Parses a line of the leaderboard journal.
+     *
+     * @param line The journal line
+     * @return The result
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    public static GameResult fromJournalLine(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Malformed leaderboard entry: " + line);
+        }
+
+        try {
+            return new GameResult(Difficulty.valueOf(fields[0]), Long.parseLong(fields[1]),
+                    Integer.parseInt(fields[2]), Long.parseLong(fields[3]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed leaderboard entry: " + line, e);
+        }
+    }
+}
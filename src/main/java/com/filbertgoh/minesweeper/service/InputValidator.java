@@ -1,6 +1,7 @@
 package com.filbertgoh.minesweeper.service;
 
 import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.RowLabels;
 
 /**
  * Service for validating user input.
@@ -20,6 +21,7 @@ public class InputValidator {
             if (size < 2) {
                 throw new IllegalArgumentException("Board size must be positive and or greater than 1");
             }
+            validateCellCount(size, size);
             return size;
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid board size: must be a positive integer");
@@ -27,7 +29,45 @@ public class InputValidator {
     }
 
     /**
-     * Validates the number of mines input.
+     * Validates the board dimensions input, either a single size for a square board
+     * (e.g. "9") or rows by columns for a rectangular board (e.g. "16x30").
+     *
+     * @param dimensionsStr The dimensions input string
+     * @return An array containing [rows, cols]
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public int[] validateBoardDimensions(String dimensionsStr) {
+        String[] parts = dimensionsStr.trim().toLowerCase().split("\\s*x\\s*", -1);
+        if (parts.length == 1) {
+            int size = validateBoardSize(parts[0]);
+            return new int[] {size, size};
+        }
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid board size: use N or ROWSxCOLS, e.g. 16x30");
+        }
+
+        int rows = validateBoardSize(parts[0]);
+        int cols = validateBoardSize(parts[1]);
+        validateCellCount(rows, cols);
+        return new int[] {rows, cols};
+    }
+
+    /**
+     * Validates that a board of the given dimensions is not too large to create.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @throws IllegalArgumentException if the board has more than {@link GameConfig#MAX_BOARD_CELLS} squares
+     */
+    private void validateCellCount(int rows, int cols) {
+        if ((long) rows * cols > GameConfig.MAX_BOARD_CELLS) {
+            throw new IllegalArgumentException("Invalid board size: at most " + GameConfig.MAX_BOARD_CELLS
+                    + " squares are allowed");
+        }
+    }
+
+    /**
+     * Validates the number of mines input for a square board.
      *
      * @param minesStr The mines input string
      * @param boardSize The board size
@@ -35,9 +75,36 @@ public class InputValidator {
      * @throws IllegalArgumentException if the input is invalid
      */
     public int validateMineCount(String minesStr, int boardSize) {
+        return validateMineCount(minesStr, boardSize, boardSize);
+    }
+
+    /**
+     * Validates the number of mines input for a rectangular board.
+     *
+     * @param minesStr The mines input string
+     * @param rows     The number of rows
+     * @param cols     The number of columns
+     * @return The parsed number of mines
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public int validateMineCount(String minesStr, int rows, int cols) {
+        return validateMineCount(minesStr, rows, cols, GameConfig.MAX_MINE_DENSITY_RATIO);
+    }
+
+    /**
+     * Validates the number of mines input for a rectangular board against a density cap.
+     *
+     * @param minesStr   The mines input string
+     * @param rows       The number of rows
+     * @param cols       The number of columns
+     * @param maxDensity The maximum fraction of cells that may hold a mine
+     * @return The parsed number of mines
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public int validateMineCount(String minesStr, int rows, int cols, double maxDensity) {
         try {
             int mines = Integer.parseInt(minesStr.trim());
-            int maxMines = (int) (boardSize * boardSize * GameConfig.MAX_MINE_DENSITY_RATIO);
+            int maxMines = GameConfig.maxMines(rows, cols, maxDensity);
 
             if (mines <= 0 || mines > maxMines) {
                 throw new IllegalArgumentException("Number of mines must be between 1 and " + maxMines);
@@ -50,7 +117,7 @@ public class InputValidator {
     }
 
     /**
-     * Validates and parses a cell coordinate input.
+     * Validates and parses a cell coordinate input for a square board.
      *
      * @param input The cell coordinate input (e.g., "A1")
      * @param boardSize The board size
@@ -58,6 +125,19 @@ public class InputValidator {
      * @throws IllegalArgumentException if the input is invalid
      */
     public int[] validateCellCoordinate(String input, int boardSize) {
+        return validateCellCoordinate(input, boardSize, boardSize);
+    }
+
+    /**
+     * Validates and parses a cell coordinate input for a rectangular board.
+     *
+     * @param input The cell coordinate input (e.g., "A1", or "AB12" on boards with more than 26 rows)
+     * @param rows  The number of rows
+     * @param cols  The number of columns
+     * @return An array containing [row, col] indices
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public int[] validateCellCoordinate(String input, int rows, int cols) {
         if (input == null || input.trim().isEmpty()) {
             throw new IllegalArgumentException("Cell coordinate cannot be empty");
         }
@@ -67,25 +147,61 @@ public class InputValidator {
             throw new IllegalArgumentException("Invalid cell coordinate format. Example: A1");
         }
 
-        char rowChar = input.charAt(0);
-        String colStr = input.substring(1);
+        int letters = 0;
+        while (letters < input.length() && Character.isLetter(input.charAt(letters))) {
+            letters++;
+        }
+        String colStr = input.substring(letters);
 
-        // Parse row (letter)
-        int row = rowChar - 'A';
-        if (row < 0 || row >= boardSize) {
-            throw new IllegalArgumentException("Row must be between A and " + (char) ('A' + boardSize - 1));
+        // Parse row (letters, AA after Z)
+        int row = RowLabels.parse(input.substring(0, letters));
+        if (row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Row must be between A and " + RowLabels.format(rows - 1));
         }
 
         // Parse column (number)
         try {
             int col = Integer.parseInt(colStr) - 1;
-            if (col < 0 || col >= boardSize) {
-                throw new IllegalArgumentException("Column must be between 1 and " + boardSize);
+            if (col < 0 || col >= cols) {
+                throw new IllegalArgumentException("Column must be between 1 and " + cols);
             }
 
             return new int[] {row, col};
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid column: must be a number between 1 and " + boardSize);
+            throw new IllegalArgumentException("Invalid column: must be a number between 1 and " + cols);
+        }
+    }
+
+    /**
+     * Validates and parses a cell coordinate on an endless board, given as a signed
+     * row and column separated by a comma or spaces (e.g. "0,0" or "-12 40").
+     *
+     * @param input The cell coordinate input
+     * @return An array containing [row, col]
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public int[] validateEndlessCoordinate(String input) {
+        if (input == null || input.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cell coordinate cannot be empty");
+        }
+
+        String[] parts = input.trim().split("\\s*,\\s*|\\s+", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cell coordinate format. Example: -3,12");
+        }
+
+        int limit = GameConfig.ENDLESS_COORDINATE_LIMIT;
+        int[] coordinates = new int[2];
+        for (int i = 0; i < 2; i++) {
+            try {
+                coordinates[i] = Integer.parseInt(parts[i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cell coordinate: row and column must be whole numbers");
+            }
+            if (coordinates[i] < -limit || coordinates[i] > limit) {
+                throw new IllegalArgumentException("Row and column must be between -" + limit + " and " + limit);
+            }
         }
+        return coordinates;
     }
 }
@@ -0,0 +1,151 @@
+package com.filbertgoh.minesweeper.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe LRU cache for generated board layouts and their analysis results.
+ * Callers choose the key, such as the date and tier of a daily puzzle or a mine fingerprint.
+ * Cached values are shared between callers and must not be modified; copy a cached
+ * board with {@link com.filbertgoh.minesweeper.model.Board#copy()} before playing on it.
+ *
+ * @param <K> The key type
+ * @param <V> The cached value type
+ */
+public class LayoutCache<K, V> {
+    private final Map<K, V> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Creates a new layout cache.
+     *
+     * @param maxEntries The maximum number of entries kept before the least recently used is evicted
+     * @throws IllegalArgumentException if the maximum is not positive
+     */
+    public LayoutCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the value for a key, loading and caching it on a miss.
+     * The loader runs outside the cache lock, so concurrent misses on the same key
+     * may both load; the first value stored wins.
+     *
+     * @param key    The key to look up
+     * @param loader Function that creates the value on a miss
+     * @return The cached or newly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        V loaded = loader.apply(key);
+        synchronized (entries) {
+            V existing = entries.putIfAbsent(key, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    /**
+     * Gets the value for a key if it is cached.
+     *
+     * @param key The key to look up
+     * @return The cached value, or null if absent
+     */
+    public V getIfPresent(K key) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value, replacing any existing value for the key.
+     *
+     * @param key   The key
+     * @param value The value to cache
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found no cached value.
+     *
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to stay within the size bound.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that were hits.
+     *
+     * @return The hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,270 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks won games per difficulty tier by completion time and by 3BV per second.
+ * Game threads submit results to one of several lock-free queues and return at once.
+ * A merge, normally run on a scheduled executor, drains the queues into bounded
+ * heaps, publishes an immutable snapshot of the standings and appends the new
+ * results to a journal file. Reads only see the latest snapshot and never block.
+ */
+public class Leaderboard {
+    private static final Comparator<GameResult> FASTEST_FIRST = Comparator
+            .comparingLong(GameResult::elapsedMillis)
+            .thenComparingLong(GameResult::finishedAt);
+    private static final Comparator<GameResult> HIGHEST_RATE_FIRST = Comparator
+            .comparingDouble(GameResult::threeBVPerSecond).reversed()
+            .thenComparingLong(GameResult::finishedAt);
+
+    /**
+     * The orders a leaderboard can be read in.
+     */
+    public enum Ranking {
+        TIME,
+        THREE_BV_PER_SECOND
+    }
+
+    private record Standings(List<GameResult> fastest, List<GameResult> highestRate) {
+    }
+
+    private final int capacity;
+    private final Path journal;
+    private final ConcurrentLinkedQueue<GameResult>[] stripes;
+    private final Map<Difficulty, PriorityQueue<GameResult>> fastestHeaps;
+    private final Map<Difficulty, PriorityQueue<GameResult>> highestRateHeaps;
+    private final List<GameResult> unwritten;
+    private final Object mergeLock;
+    private volatile Map<Difficulty, Standings> standings;
+
+    /**
+     * Creates an in-memory leaderboard.
+     *
+     * @param capacity The number of results kept per tier and ranking
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public Leaderboard(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Creates a leaderboard persisted to a journal, replaying the journal if it exists.
+     *
+     * @param capacity The number of results kept per tier and ranking
+     * @param journal  The file results are appended to, or null to keep them in memory only
+     * @throws IllegalArgumentException if capacity is not positive or the journal is malformed
+     * @throws UncheckedIOException if the journal cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public Leaderboard(int capacity, Path journal) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Leaderboard capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.journal = journal;
+        int stripeCount = Runtime.getRuntime().availableProcessors();
+        this.stripes = (ConcurrentLinkedQueue<GameResult>[]) new ConcurrentLinkedQueue<?>[stripeCount];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.fastestHeaps = new EnumMap<>(Difficulty.class);
+        this.highestRateHeaps = new EnumMap<>(Difficulty.class);
+        for (Difficulty difficulty : Difficulty.values()) {
+            // Worst result at the head so it is the one dropped when the heap overflows
+            fastestHeaps.put(difficulty, new PriorityQueue<>(capacity + 1, FASTEST_FIRST.reversed()));
+            highestRateHeaps.put(difficulty, new PriorityQueue<>(capacity + 1, HIGHEST_RATE_FIRST.reversed()));
+        }
+        this.unwritten = new ArrayList<>();
+        this.mergeLock = new Object();
+        this.standings = Collections.emptyMap();
+
+        if (journal != null && Files.exists(journal)) {
+            replay(journal);
+        }
+    }
+
+    /**
+     * Submits a won game. Safe to call from any thread; never blocks.
+     * The result shows up in the standings after the next merge.
+     *
+     * @param result The result to submit
+     */
+    public void submit(GameResult result) {
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].offer(result);
+    }
+
+    /**
+     * Starts merging submitted results, waiting a fixed interval between merges.
+     * A merge whose journal write fails keeps the results and retries the write next time.
+     *
+     * @param scheduler The executor to run merges on
+     * @param interval  The time between merges
+     * @return The scheduled task, which can be cancelled to stop merging
+     */
+    public ScheduledFuture<?> start(ScheduledExecutorService scheduler, Duration interval) {
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                merge();
+            } catch (UncheckedIOException e) {
+                // Kept in the unwritten list and retried on the next merge
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drains submitted results into the standings and appends them to the journal.
+     *
+     * @return The number of results merged
+     * @throws UncheckedIOException if the journal cannot be written; the standings are still updated
+     */
+    public int merge() {
+        synchronized (mergeLock) {
+            int merged = 0;
+            for (ConcurrentLinkedQueue<GameResult> stripe : stripes) {
+                GameResult result;
+                while ((result = stripe.poll()) != null) {
+                    insert(result);
+                    unwritten.add(result);
+                    merged++;
+                }
+            }
+
+            if (merged > 0) {
+                publish();
+            }
+            if (journal != null && !unwritten.isEmpty()) {
+                append(unwritten);
+            }
+            unwritten.clear();
+            return merged;
+        }
+    }
+
+    /**
+     * Gets the best results of a tier from the latest snapshot.
+     *
+     * @param difficulty The difficulty tier
+     * @param ranking    The order to rank results in
+     * @param limit      The maximum number of results to return
+     * @return The best results, best first
+     */
+    public List<GameResult> top(Difficulty difficulty, Ranking ranking, int limit) {
+        Standings tier = standings.get(difficulty);
+        if (tier == null) {
+            return List.of();
+        }
+
+        List<GameResult> ranked = ranking == Ranking.TIME ? tier.fastest() : tier.highestRate();
+        return ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size()));
+    }
+
+    /**
+     * Adds a result to the heaps of its tier, dropping the worst entry of a full heap.
+     *
+     * @param result The result to add
+     */
+    private void insert(GameResult result) {
+        offerBounded(fastestHeaps.get(result.difficulty()), result);
+        offerBounded(highestRateHeaps.get(result.difficulty()), result);
+    }
+
+    /**
+     * Adds a result to a heap ordered worst first, keeping at most {@code capacity} entries.
+     *
+     * @param heap   The heap
+     * @param result The result to add
+     */
+    private void offerBounded(PriorityQueue<GameResult> heap, GameResult result) {
+        heap.offer(result);
+        if (heap.size() > capacity) {
+            heap.poll();
+        }
+    }
+
+    /**
+     * Publishes a new immutable snapshot built from the heaps.
+     */
+    private void publish() {
+        Map<Difficulty, Standings> snapshot = new EnumMap<>(Difficulty.class);
+        for (Difficulty difficulty : Difficulty.values()) {
+            snapshot.put(difficulty, new Standings(
+                    sorted(fastestHeaps.get(difficulty), FASTEST_FIRST),
+                    sorted(highestRateHeaps.get(difficulty), HIGHEST_RATE_FIRST)));
+        }
+        standings = Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Copies a heap into an immutable sorted list.
+     *
+     * @param heap  The heap
+     * @param order The order of the list
+     * @return The sorted list
+     */
+    private static List<GameResult> sorted(PriorityQueue<GameResult> heap, Comparator<GameResult> order) {
+        List<GameResult> list = new ArrayList<>(heap);
+        list.sort(order);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Appends results to the journal.
+     *
+     * @param results The results to append
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    private void append(List<GameResult> results) {
+        try (BufferedWriter writer = Files.newBufferedWriter(journal, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (GameResult result : results) {
+                writer.write(result.toJournalLine());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads the standings from an existing journal.
+     *
+     * @param journal The journal to read
+     * @throws UncheckedIOException if the journal cannot be read
+     */
+    private void replay(Path journal) {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    insert(GameResult.fromJournalLine(line.trim()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        publish();
+    }
+}
@@ -0,0 +1,48 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.util.GameConfig;
+
+/**
+ * Algorithms for placing mines on a board.
+ */
+public enum PlacementStrategy {
+    /**
+     * Draws random cells and rejects those already mined or excluded. Needs no
+     * extra memory and is cheapest when mines are sparse.
+     */
+    SPARSE_SAMPLING,
+
+    /**
+     * Partially shuffles the list of candidate cells. Costs a pass over the board
+     * but never retries a draw, so its time is fixed at high density.
+     */
+    SHUFFLE;
+
+    /**
+     * Chooses the strategy for a mine density.
+     *
+     * @param candidateCells The number of cells mines may be placed on
+     * @param mines          The number of mines
+     * @return {@link #SPARSE_SAMPLING} below {@link GameConfig#SPARSE_SAMPLING_MAX_DENSITY}, else {@link #SHUFFLE}
+     */
+    public static PlacementStrategy forDensity(int candidateCells, int mines) {
+        return mines < candidateCells * GameConfig.SPARSE_SAMPLING_MAX_DENSITY ? SPARSE_SAMPLING : SHUFFLE;
+    }
+
+    /**
+     * Estimates the number of elementary steps (random draws and array writes) needed to place the mines.
+     *
+     * @param candidateCells The number of cells mines may be placed on
+     * @param mines          The number of mines
+     * @return The expected cost
+     */
+    public double expectedCost(int candidateCells, int mines) {
+        if (this == SHUFFLE) {
+            // Fill the candidate list, then one draw and swap per mine
+            return (double) candidateCells + 2.0 * mines;
+        }
+
+        // Coupon-collector style: the i-th mine needs N / (N - i) draws on average
+        return candidateCells * Math.log((double) candidateCells / (candidateCells - mines));
+    }
+}
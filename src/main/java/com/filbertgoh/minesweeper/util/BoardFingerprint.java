@@ -0,0 +1,93 @@
+package com.filbertgoh.minesweeper.util;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Topology;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Zobrist-style 64-bit fingerprints of board mine layouts.
+ * Each mine contributes an independent key that is XOR-ed into an accumulator,
+ * so the fingerprint can be built incrementally while mines are placed.
+ */
+public class BoardFingerprint {
+
+    private BoardFingerprint() {}
+
+    /**
+     * Gets the key contributed by a mine at the given linear index.
+     *
+     * @param index The linear index (row * cols + col) of the mine
+     * @return The 64-bit key for that position
+     */
+    public static long mineKey(int index) {
+        return SplitMix64.mix(index + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Finalises an accumulated fingerprint of a square board so that layouts on different
+     * board sizes do not collide.
+     *
+     * @param accumulator The XOR of the keys of every mine
+     * @param rows        The number of rows
+     * @param cols        The number of columns
+     * @param numMines    The number of mines
+     * @return The fingerprint of the layout
+     */
+    public static long finish(long accumulator, int rows, int cols, int numMines) {
+        return finish(accumulator, Topology.SQUARE, rows, cols, numMines);
+    }
+
+    /**
+     * Finalises an accumulated fingerprint so that layouts on different board sizes or
+     * topologies do not collide.
+     *
+     * @param accumulator The XOR of the keys of every mine
+     * @param topology    The board topology
+     * @param rows        The number of rows
+     * @param cols        The number of columns
+     * @param numMines    The number of mines
+     * @return The fingerprint of the layout
+     */
+    public static long finish(long accumulator, Topology topology, int rows, int cols, int numMines) {
+        return SplitMix64.mix(accumulator ^ SplitMix64.mix(((long) rows << 32) | cols) ^ numMines
+                ^ topologyKey(topology));
+    }
+
+    /**
+     * Computes the fingerprint of a board by scanning all of its cells.
+     *
+     * @param board The board to fingerprint
+     * @return The fingerprint of the board's mine layout
+     */
+    public static long of(Board board) {
+        long accumulator = 0;
+
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.getCell(index).hasMine()) {
+                accumulator ^= mineKey(index);
+            }
+        }
+
+        return finish(accumulator, board.getTopology(), board.getRows(), board.getCols(), board.getTotalMines());
+    }
+
+    /**
+     * Gets the key mixed in for a topology. Square boards contribute nothing, so their
+     * fingerprints are the same as before topologies existed.
+     *
+     * @param topology The board topology
+     * @return The 64-bit key for the topology, identified by its name
+     */
+    private static long topologyKey(Topology topology) {
+        if (topology == Topology.SQUARE) {
+            return 0;
+        }
+
+        long key = 0;
+        for (byte b : topology.getName().getBytes(StandardCharsets.UTF_8)) {
+            key = SplitMix64.mix(key ^ (b & 0xFF));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,137 @@
+package com.filbertgoh.minesweeper.util;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.service.PlacementStrategy;
+
+/**
+ * A difficulty profile: either a preset board layout, or a custom profile whose
+ * dimensions and mine count are chosen by the player (rows, cols and mines are 0).
+ *
+ * @param name           The profile name
+ * @param rows           The number of rows, or 0 for a custom profile
+ * @param cols           The number of columns, or 0 for a custom profile
+ * @param mines          The number of mines, or 0 for a custom profile
+ * @param maxDensity     The maximum fraction of cells that may hold a mine
+ * @param safeZoneRadius The radius around the first click that is kept free of mines
+ */
+public record DifficultyProfile(String name, int rows, int cols, int mines, double maxDensity, int safeZoneRadius) {
+
+    /**
+     * Validates the profile.
+     *
+     * @throws IllegalArgumentException if the profile is inconsistent
+     */
+    public DifficultyProfile {
+        if (maxDensity <= 0 || maxDensity > GameConfig.MAX_MINE_DENSITY_RATIO) {
+            throw new IllegalArgumentException("Profile " + name + ": density cap must be between 0 and "
+                    + GameConfig.MAX_MINE_DENSITY_RATIO);
+        }
+        if (safeZoneRadius < 0) {
+            throw new IllegalArgumentException("Profile " + name + ": safe zone radius cannot be negative");
+        }
+
+        boolean preset = rows != 0 || cols != 0 || mines != 0;
+        if (preset) {
+            if (rows < 2 || cols < 2) {
+                throw new IllegalArgumentException("Profile " + name + ": board must be at least 2x2");
+            }
+            int maxMines = GameConfig.maxMines(rows, cols, maxDensity);
+            if (mines <= 0 || mines > maxMines) {
+                throw new IllegalArgumentException("Profile " + name + ": number of mines must be between 1 and " + maxMines);
+            }
+            if (!fitsOutsideSafeZone(rows, cols, mines, safeZoneRadius)) {
+                throw new IllegalArgumentException("Profile " + name + ": mines do not fit outside the safe zone");
+            }
+        }
+    }
+
+    /**
+     * Checks if this profile fixes the board layout.
+     *
+     * @return true for a preset, false for a custom profile
+     */
+    public boolean isPreset() {
+        return rows > 0;
+    }
+
+    /**
+     * Gets the leaderboard tier of this preset, matched by name rather than layout so
+     * that a preset keeps its tier when its board is changed in the profiles file.
+     *
+     * @return The tier, or null for a custom profile or a preset that is not a standard tier
+     */
+    public Difficulty tier() {
+        if (!isPreset()) {
+            return null;
+        }
+        for (Difficulty difficulty : Difficulty.values()) {
+            if (difficulty.name().equalsIgnoreCase(name)) {
+                return difficulty;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the safe zone radius to use on a board, shrunk from this profile's radius
+     * where needed so the mines still fit outside the zone around any first move.
+     *
+     * @param rows  The number of rows
+     * @param cols  The number of columns
+     * @param mines The number of mines
+     * @return The largest radius up to this profile's radius that leaves room for the mines
+     */
+    public int safeZoneRadiusFor(int rows, int cols, int mines) {
+        int radius = safeZoneRadius;
+        while (radius > 0 && !fitsOutsideSafeZone(rows, cols, mines, radius)) {
+            radius--;
+        }
+        return radius;
+    }
+
+    /**
+     * Checks if the mines fit outside a safe zone wherever the first move is made.
+     *
+     * @param rows   The number of rows
+     * @param cols   The number of columns
+     * @param mines  The number of mines
+     * @param radius The safe zone radius
+     * @return true if the cells outside the largest possible zone can hold the mines else false
+     */
+    private static boolean fitsOutsideSafeZone(int rows, int cols, int mines, int radius) {
+        int zoneSide = 2 * radius + 1;
+        return mines <= rows * cols - Math.min(rows, zoneSide) * Math.min(cols, zoneSide);
+    }
+
+    /**
+     * Gets the mine placement strategy best suited to this preset's density.
+     *
+     * @return The placement strategy
+     * @throws IllegalStateException if this is a custom profile
+     */
+    public PlacementStrategy placementStrategy() {
+        requirePreset();
+        return PlacementStrategy.forDensity(rows * cols, mines);
+    }
+
+    /**
+     * Estimates the cost of generating a board for this preset with its placement strategy.
+     *
+     * @return The expected number of elementary generation steps
+     * @throws IllegalStateException if this is a custom profile
+     */
+    public double expectedGenerationCost() {
+        return placementStrategy().expectedCost(rows * cols, mines);
+    }
+
+    /**
+     * Ensures this profile is a preset.
+     *
+     * @throws IllegalStateException if this is a custom profile
+     */
+    private void requirePreset() {
+        if (!isPreset()) {
+            throw new IllegalStateException("Profile " + name + " has no fixed layout");
+        }
+    }
+}
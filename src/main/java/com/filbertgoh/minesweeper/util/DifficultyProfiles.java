@@ -0,0 +1,148 @@
+package com.filbertgoh.minesweeper.util;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Difficulty profiles loaded from a properties file.
+ * The file lists profile names under {@code profiles} and describes each with
+ * {@code profile.<name>.rows}, {@code .cols}, {@code .mines}, {@code .maxDensity}
+ * and {@code .safeZoneRadius}. Profiles without dimensions are custom profiles.
+ */
+public class DifficultyProfiles {
+    public static final String CUSTOM = "custom";
+
+    private final Map<String, DifficultyProfile> profiles;
+
+    /**
+     * Creates a set of profiles.
+     *
+     * @param profiles The profiles keyed by lower-case name
+     */
+    private DifficultyProfiles(Map<String, DifficultyProfile> profiles) {
+        this.profiles = Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * Loads the profiles bundled with the application.
+     *
+     * @return The bundled profiles
+     * @throws IllegalStateException if the bundled file is missing or invalid
+     */
+    public static DifficultyProfiles load() {
+        try (InputStream input = DifficultyProfiles.class.getResourceAsStream(GameConfig.DIFFICULTY_PROFILES_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing " + GameConfig.DIFFICULTY_PROFILES_RESOURCE);
+            }
+            return load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads profiles from a properties stream.
+     *
+     * @param input The properties stream
+     * @return The loaded profiles
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if a profile is invalid
+     */
+    public static DifficultyProfiles load(InputStream input) throws IOException {
+        Properties properties = new Properties();
+        properties.load(input);
+        return fromProperties(properties);
+    }
+
+    /**
+     * Builds profiles from properties.
+     *
+     * @param properties The properties describing the profiles
+     * @return The profiles
+     * @throws IllegalArgumentException if a profile is invalid
+     */
+    public static DifficultyProfiles fromProperties(Properties properties) {
+        Map<String, DifficultyProfile> profiles = new LinkedHashMap<>();
+
+        for (String rawName : properties.getProperty("profiles", "").split(",")) {
+            String name = rawName.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            String prefix = "profile." + name + ".";
+            try {
+                profiles.put(name, new DifficultyProfile(name,
+                        Integer.parseInt(properties.getProperty(prefix + "rows", "0").trim()),
+                        Integer.parseInt(properties.getProperty(prefix + "cols", "0").trim()),
+                        Integer.parseInt(properties.getProperty(prefix + "mines", "0").trim()),
+                        Double.parseDouble(properties.getProperty(prefix + "maxDensity",
+                                String.valueOf(GameConfig.MAX_MINE_DENSITY_RATIO)).trim()),
+                        Integer.parseInt(properties.getProperty(prefix + "safeZoneRadius", "0").trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Profile " + name + ": invalid number", e);
+            }
+        }
+
+        profiles.putIfAbsent(CUSTOM, new DifficultyProfile(CUSTOM, 0, 0, 0, GameConfig.MAX_MINE_DENSITY_RATIO, 0));
+        return new DifficultyProfiles(profiles);
+    }
+
+    /**
+     * Gets a profile by name.
+     *
+     * @param name The profile name, case-insensitive
+     * @return The profile, or null if there is none with that name
+     */
+    public DifficultyProfile get(String name) {
+        return name == null ? null : profiles.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets a preset profile by name.
+     *
+     * @param name The profile name, case-insensitive
+     * @return The preset, or null if there is no preset with that name
+     */
+    public DifficultyProfile getPreset(String name) {
+        DifficultyProfile profile = get(name);
+        return profile != null && profile.isPreset() ? profile : null;
+    }
+
+    /**
+     * Gets the profile for a standard difficulty tier.
+     *
+     * @param difficulty The difficulty tier
+     * @return The profile, or null if the tier is not configured
+     */
+    public DifficultyProfile forDifficulty(Difficulty difficulty) {
+        return get(difficulty.name());
+    }
+
+    /**
+     * Gets the profile applied to player-chosen board sizes.
+     *
+     * @return The custom profile
+     */
+    public DifficultyProfile getCustom() {
+        return profiles.get(CUSTOM);
+    }
+
+    /**
+     * Gets all profiles in file order.
+     *
+     * @return The profiles
+     */
+    public Collection<DifficultyProfile> all() {
+        return profiles.values();
+    }
+}
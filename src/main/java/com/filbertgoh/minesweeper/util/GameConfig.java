@@ -5,4 +5,85 @@ public class GameConfig {
     private GameConfig() {}
 
     public static final double MAX_MINE_DENSITY_RATIO = 0.35;
+
+    // 4096x4096; every cell is an object, so larger boards do not fit a normal heap
+    public static final int MAX_BOARD_CELLS = 1 << 24;
+
+    public static final double SPARSE_SAMPLING_MAX_DENSITY = 0.05;
+
+    public static final String DIFFICULTY_PROFILES_RESOURCE = "/difficulty.properties";
+
+    public static final int MOVE_HISTORY_CAPACITY = 256;
+
+    public static final int PARALLEL_REVEAL_MIN_CELLS = 1 << 20;
+
+    public static final int SPECTATOR_KEYFRAME_INTERVAL = 64;
+
+    public static final int LEADERBOARD_CAPACITY = 100;
+
+    public static final int SESSION_BYTES_PER_CELL = 40;
+
+    public static final int VIEWPORT_ROWS = 20;
+
+    public static final int VIEWPORT_COLS = 30;
+
+    public static final int HTTP_MAX_GAMES = 10_000;
+
+    // 256x256; a client cannot make the server allocate a board larger than this
+    public static final int HTTP_MAX_CELLS = 1 << 16;
+
+    public static final int HTTP_IDLE_TIMEOUT_MINUTES = 30;
+
+    // Time a finished game is kept for clients to fetch its final board
+    public static final int HTTP_FINISHED_GAME_SECONDS = 60;
+
+    public static final int HTTP_DELTA_HISTORY = 64;
+
+    public static final long ENDGAME_TIME_BUDGET_MILLIS = 200;
+
+    public static final int ENDGAME_MAX_LAYOUTS = 1 << 16;
+
+    // Entries in the endgame transposition table; must be a power of two
+    public static final int ENDGAME_TABLE_SIZE = 1 << 16;
+
+    public static final int CURATION_QUEUE_CAPACITY = 1024;
+
+    public static final int CURATION_CHECKPOINT_INTERVAL = 4096;
+
+    public static final int CURATION_ANALYSIS_CACHE_SIZE = 1 << 14;
+
+    // Clearing speed of a typical player, used to estimate how long a curated board takes
+    public static final double CURATION_THREE_BV_PER_SECOND = 1.5;
+
+    // Below this density an opening on an endless board may never stop cascading
+    public static final double ENDLESS_MIN_DENSITY = 0.15;
+
+    public static final double ENDLESS_DEFAULT_DENSITY = 0.2;
+
+    public static final int ENDLESS_MAX_RESIDENT_CHUNKS = 1024;
+
+    public static final int ENDLESS_COORDINATE_LIMIT = 1 << 30;
+
+    /**
+     * Gets the maximum number of mines allowed on a board at the default density cap.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @return The maximum number of mines
+     */
+    public static int maxMines(int rows, int cols) {
+        return maxMines(rows, cols, MAX_MINE_DENSITY_RATIO);
+    }
+
+    /**
+     * Gets the maximum number of mines allowed on a board at a given density cap.
+     *
+     * @param rows       The number of rows
+     * @param cols       The number of columns
+     * @param maxDensity The maximum fraction of cells that may hold a mine
+     * @return The maximum number of mines
+     */
+    public static int maxMines(int rows, int cols, double maxDensity) {
+        return (int) ((long) rows * cols * maxDensity);
+    }
 }
@@ -0,0 +1,317 @@
+package com.filbertgoh.minesweeper.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streams JSON straight to an output stream, one token at a time, without building
+ * the document as a string first. Separators are inserted automatically. Output is
+ * UTF-8; callers should pass a buffered stream.
+ */
+public final class JsonWriter {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] digits;
+    private boolean[] hasValue;
+    private int depth;
+    private boolean afterName;
+
+    /**
+     * Creates a writer.
+     *
+     * @param out The stream to write to
+     */
+    public JsonWriter(OutputStream out) {
+        this.out = out;
+        this.digits = new byte[20];
+        this.hasValue = new boolean[8];
+    }
+
+    /**
+     * Opens an object.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter beginObject() {
+        separate();
+        write('{');
+        push();
+        return this;
+    }
+
+    /**
+     * Closes the current object.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter endObject() {
+        depth--;
+        write('}');
+        return this;
+    }
+
+    /**
+     * Opens an array.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter beginArray() {
+        separate();
+        write('[');
+        push();
+        return this;
+    }
+
+    /**
+     * Closes the current array.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter endArray() {
+        depth--;
+        write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name The member name
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a number.
+     *
+     * @param value The number
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter value(long value) {
+        separate();
+        if (value < 0) {
+            write('-');
+        }
+
+        // Digits are produced from the negative side so Long.MIN_VALUE needs no special case
+        long rest = value < 0 ? value : -value;
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' - rest % 10);
+            rest /= 10;
+        } while (rest != 0);
+        write(digits, start, digits.length - start);
+        return this;
+    }
+
+    /**
+     * Writes a boolean.
+     *
+     * @param value The boolean
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter value(boolean value) {
+        separate();
+        writeAscii(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a string, or null.
+     *
+     * @param value The string
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            writeAscii("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Opens a string whose characters are then written one by one with {@link #stringChar(char)}.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter beginString() {
+        separate();
+        write('"');
+        return this;
+    }
+
+    /**
+     * Writes one character of a string opened with {@link #beginString()}.
+     *
+     * @param c The character
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter stringChar(char c) {
+        writeChar(c);
+        return this;
+    }
+
+    /**
+     * Closes a string opened with {@link #beginString()}.
+     *
+     * @return This writer
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public JsonWriter endString() {
+        write('"');
+        return this;
+    }
+
+    /**
+     * Writes the separator owed before the next value, if any.
+     */
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasValue[depth - 1]) {
+                write(',');
+            }
+            hasValue[depth - 1] = true;
+        }
+    }
+
+    /**
+     * Enters a new object or array.
+     */
+    private void push() {
+        if (depth == hasValue.length) {
+            hasValue = Arrays.copyOf(hasValue, depth * 2);
+        }
+        hasValue[depth++] = false;
+    }
+
+    /**
+     * Writes a quoted, escaped string.
+     *
+     * @param value The string
+     */
+    private void writeString(String value) {
+        write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, value.charAt(++i)));
+            } else {
+                writeChar(c);
+            }
+        }
+        write('"');
+    }
+
+    /**
+     * Writes one character of a string, escaped if needed and encoded as UTF-8.
+     *
+     * @param c The character
+     */
+    private void writeChar(char c) {
+        if (c == '"' || c == '\\') {
+            write('\\');
+            write(c);
+        } else if (c < 0x20 || Character.isSurrogate(c)) {
+            // Control characters and unpaired surrogates are written as escapes
+            write('\\');
+            write('u');
+            write(HEX[c >> 12 & 0xF]);
+            write(HEX[c >> 8 & 0xF]);
+            write(HEX[c >> 4 & 0xF]);
+            write(HEX[c & 0xF]);
+        } else {
+            writeCodePoint(c);
+        }
+    }
+
+    /**
+     * Writes a code point as UTF-8.
+     *
+     * @param codePoint The code point
+     */
+    private void writeCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            write(codePoint);
+        } else if (codePoint < 0x800) {
+            write(0xC0 | codePoint >> 6);
+            write(0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            write(0xE0 | codePoint >> 12);
+            write(0x80 | codePoint >> 6 & 0x3F);
+            write(0x80 | codePoint & 0x3F);
+        } else {
+            write(0xF0 | codePoint >> 18);
+            write(0x80 | codePoint >> 12 & 0x3F);
+            write(0x80 | codePoint >> 6 & 0x3F);
+            write(0x80 | codePoint & 0x3F);
+        }
+    }
+
+    /**
+     * Writes ASCII text as is.
+     *
+     * @param text The text
+     */
+    private void writeAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param b The byte
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    private void write(int b) {
+        try {
+            out.write(b);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes part of a byte array.
+     *
+     * @param bytes  The bytes
+     * @param offset The first byte to write
+     * @param length The number of bytes to write
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    private void write(byte[] bytes, int offset, int length) {
+        try {
+            out.write(bytes, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
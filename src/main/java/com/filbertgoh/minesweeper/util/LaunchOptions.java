@@ -0,0 +1,186 @@
+package com.filbertgoh.minesweeper.util;
+
+/**
+ * Command-line options. Giving {@code --size} switches to a non-interactive game that
+ * plays the moves from {@code --moves} and exits without prompting, and giving
+ * {@code --http} serves games over HTTP instead of the console. {@code --endless}
+ * plays on a board with no edges.
+ * Values are kept as typed; board and move values are validated by the game itself.
+ */
+public final class LaunchOptions {
+    private boolean ansi;
+    private boolean timing;
+    private boolean endless;
+    private String size;
+    private String mines;
+    private String moves;
+    private Long seed;
+    private int httpPort = -1;
+
+    private LaunchOptions() {}
+
+    /**
+     * Parses command-line arguments.
+     * Recognised options are {@code --ansi}, {@code --timing}, {@code --endless}, {@code --size <n|RxC>},
+     * {@code --mines <n>}, {@code --moves <A1,B2,...>}, {@code --seed <n>} and {@code --http <port>}.
+     *
+     * @param args The command-line arguments
+     * @return The parsed options
+     * @throws IllegalArgumentException if an option is unknown, lacks a value or is inconsistent
+     */
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--ansi" -> options.ansi = true;
+                case "--timing" -> options.timing = true;
+                case "--endless" -> options.endless = true;
+                case "--size" -> options.size = value(args, ++i, arg);
+                case "--mines" -> options.mines = value(args, ++i, arg);
+                case "--moves" -> options.moves = value(args, ++i, arg);
+                case "--seed" -> {
+                    String seed = value(args, ++i, arg);
+                    try {
+                        options.seed = Long.parseLong(seed.trim());
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid seed: must be an integer");
+                    }
+                }
+                case "--http" -> {
+                    String port = value(args, ++i, arg);
+                    try {
+                        options.httpPort = Integer.parseInt(port.trim());
+                    } catch (NumberFormatException e) {
+                        options.httpPort = -1;
+                    }
+                    if (options.httpPort < 0 || options.httpPort > 65535) {
+                        throw new IllegalArgumentException("Invalid port: must be between 0 and 65535");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        if (options.size == null && (options.mines != null || options.moves != null)) {
+            throw new IllegalArgumentException("--mines and --moves need --size");
+        }
+        if (options.size != null && options.httpPort >= 0) {
+            throw new IllegalArgumentException("--http cannot be combined with --size");
+        }
+        if (options.endless && (options.size != null || options.httpPort >= 0)) {
+            throw new IllegalArgumentException("--endless cannot be combined with --size or --http");
+        }
+        if (options.size != null && options.mines == null) {
+            throw new IllegalArgumentException("--size needs --mines");
+        }
+        return options;
+    }
+
+    /**
+     * Gets the value following an option.
+     *
+     * @param args   The command-line arguments
+     * @param index  The index of the value
+     * @param option The option the value belongs to
+     * @return The value
+     * @throws IllegalArgumentException if the value is missing
+     */
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[index];
+    }
+
+    /**
+     * Checks if the game should run without prompts.
+     *
+     * @return true if a board size was given
+     */
+    public boolean isBatch() {
+        return size != null;
+    }
+
+    /**
+     * Checks if games should be served over HTTP.
+     *
+     * @return true if a port was given with {@code --http}
+     */
+    public boolean isHttp() {
+        return httpPort >= 0;
+    }
+
+    /**
+     * Gets the port to serve games on.
+     *
+     * @return The port, 0 for any free port, or -1 if not serving over HTTP
+     */
+    public int getHttpPort() {
+        return httpPort;
+    }
+
+    /**
+     * Checks if the game should be played on an endless board.
+     *
+     * @return true if {@code --endless} was given
+     */
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Checks if the board should be drawn with ANSI escape sequences.
+     *
+     * @return true if {@code --ansi} was given
+     */
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    /**
+     * Checks if the time to the first board print should be reported.
+     *
+     * @return true if {@code --timing} was given
+     */
+    public boolean isTiming() {
+        return timing;
+    }
+
+    /**
+     * Gets the board size as typed, e.g. "9" or "16x30".
+     *
+     * @return The board size, or null in interactive mode
+     */
+    public String getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of mines as typed.
+     *
+     * @return The number of mines, or null in interactive mode
+     */
+    public String getMines() {
+        return mines;
+    }
+
+    /**
+     * Gets the moves to play, separated by commas or spaces.
+     *
+     * @return The moves, or an empty string if none were given
+     */
+    public String getMoves() {
+        return moves == null ? "" : moves;
+    }
+
+    /**
+     * Gets the seed for the mine layout.
+     *
+     * @return The seed, or null for a random layout
+     */
+    public Long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.filbertgoh.minesweeper.util;
+
+/**
+ * Converts between row indices and their letter labels: A to Z, then AA, AB and so on.
+ */
+public class RowLabels {
+
+    private RowLabels() {}
+
+    /**
+     * Gets the label of a row.
+     *
+     * @param row The zero-based row index
+     * @return The row label
+     */
+    public static String format(int row) {
+        StringBuilder label = new StringBuilder(2);
+        int remaining = row + 1;
+        while (remaining > 0) {
+            remaining--;
+            label.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        }
+        return label.reverse().toString();
+    }
+
+    /**
+     * Gets the length of the longest label on a board.
+     *
+     * @param rows The number of rows
+     * @return The width of the label of the last row
+     */
+    public static int width(int rows) {
+        return format(Math.max(0, rows - 1)).length();
+    }
+
+    /**
+     * Parses a row label.
+     *
+     * @param label The upper-case row label
+     * @return The zero-based row index, or -1 if the label is empty, not all letters or too long
+     */
+    public static int parse(String label) {
+        if (label.isEmpty() || label.length() > 6) {
+            return -1;
+        }
+
+        int row = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char letter = label.charAt(i);
+            if (letter < 'A' || letter > 'Z') {
+                return -1;
+            }
+            row = row * 26 + (letter - 'A' + 1);
+        }
+        return row - 1;
+    }
+}
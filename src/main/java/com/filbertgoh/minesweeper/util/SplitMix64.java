@@ -0,0 +1,60 @@
+package com.filbertgoh.minesweeper.util;
+
+import java.util.Random;
+
+/**
+ * SplitMix64 pseudo-random generator.
+ * Its output is fully specified by the seed and independent of the JVM, so boards
+ * generated from a seed are reproducible everywhere. Bounded draws go through
+ * {@link Random#nextInt(int)}, whose algorithm over {@link #next(int)} is part
+ * of the Java specification.
+ */
+public class SplitMix64 extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Assigned by setSeed from the superclass constructor, so it must not have an initializer
+    private long state;
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed The seed
+     */
+    public SplitMix64(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Resets the generator to the given seed.
+     *
+     * @param seed The seed
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /**
+     * SplitMix64 output function, also usable on its own as a 64-bit hash.
+     *
+     * @param z The value to mix
+     * @return The mixed value
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,92 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.service.BoardPrinter;
+import com.filbertgoh.minesweeper.service.InputValidator;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Plays a game from a fixed list of moves without prompting, for scripted runs.
+ * Prints the same messages as {@link GameView}, always showing the whole board,
+ * and stops at the first mine or when the game is won.
+ */
+public class BatchGameView {
+    private static final String MOVE_SEPARATOR = "[,;\\s]+";
+
+    private final GameController gameController;
+    private final BoardPrinter boardPrinter;
+    private final InputValidator inputValidator;
+    private final PrintWriter output;
+
+    /**
+     * Creates a new batch game view.
+     *
+     * @param gameController The game controller
+     * @param boardPrinter   The board printer service
+     * @param inputValidator The input validator service
+     * @param output         The writer game output is written to
+     */
+    public BatchGameView(GameController gameController, BoardPrinter boardPrinter, InputValidator inputValidator,
+                         Writer output) {
+        this.gameController = gameController;
+        this.boardPrinter = boardPrinter;
+        this.inputValidator = inputValidator;
+        this.output = new PrintWriter(output, false);
+    }
+
+    /**
+     * Starts a game and prints the empty board.
+     *
+     * @param size  The board size, e.g. "9" or "16x30"
+     * @param mines The number of mines
+     * @throws IllegalArgumentException if the size or number of mines is invalid
+     */
+    public void start(String size, String mines) {
+        int[] dimensions = inputValidator.validateBoardDimensions(size);
+        int numMines = inputValidator.validateMineCount(mines, dimensions[0], dimensions[1]);
+        gameController.initializeGame(dimensions[0], dimensions[1], numMines);
+
+        output.println("Here is your minefield:");
+        output.println(boardPrinter.printBoard(gameController.getBoard()));
+        output.flush();
+    }
+
+    /**
+     * Plays moves on the started game until they run out, a mine is hit or the game is won.
+     *
+     * @param moves The moves, separated by commas or spaces, e.g. "A1,B2"
+     * @return true if the game ended, by a mine or a win, else false
+     * @throws IllegalArgumentException if a move is not a valid cell; earlier moves stay played
+     */
+    public boolean play(String moves) {
+        try {
+            for (String move : moves.trim().split(MOVE_SEPARATOR)) {
+                if (move.isEmpty()) {
+                    continue;
+                }
+
+                int[] coordinates = inputValidator.validateCellCoordinate(move,
+                        gameController.getBoard().getRows(), gameController.getBoard().getCols());
+                if (gameController.makeMove(coordinates[0], coordinates[1])) {
+                    output.println("Oh no, you detonated a mine! Game over.");
+                    return true;
+                }
+
+                int adjacentMines = gameController.getBoard().getCell(coordinates[0], coordinates[1]).getAdjacentMines();
+                output.println("This square contains " + adjacentMines + " adjacent mines. ");
+                output.println("\nHere is your updated minefield:");
+                output.println(boardPrinter.printBoard(gameController.getBoard()));
+
+                if (gameController.isGameWon()) {
+                    output.println("Congratulations, you have won the game!");
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            output.flush();
+        }
+    }
+}
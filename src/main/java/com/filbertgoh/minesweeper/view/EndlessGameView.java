@@ -0,0 +1,102 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.model.EndlessBoard;
+import com.filbertgoh.minesweeper.service.BoardPrinter;
+import com.filbertgoh.minesweeper.service.InputValidator;
+import com.filbertgoh.minesweeper.util.GameConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Console view for a game on an endless board. There is no win: the game runs until a
+ * mine is hit, the player quits or the input ends, and the score is the number of
+ * squares cleared. The board is shown through a window that follows the last move.
+ */
+public class EndlessGameView {
+    private static final String QUIT = "q";
+
+    private final BoardPrinter boardPrinter;
+    private final InputValidator inputValidator;
+    private final BufferedReader input;
+    private final PrintWriter output;
+
+    /**
+     * Creates a new endless game view over the given input and output.
+     *
+     * @param boardPrinter   The board printer service
+     * @param inputValidator The input validator service
+     * @param input          The reader moves are read from
+     * @param output         The writer game output is written to
+     */
+    public EndlessGameView(BoardPrinter boardPrinter, InputValidator inputValidator, BufferedReader input,
+                           Writer output) {
+        this.boardPrinter = boardPrinter;
+        this.inputValidator = inputValidator;
+        this.input = input;
+        this.output = new PrintWriter(output, false);
+    }
+
+    /**
+     * Plays a game on a board until a mine is hit, the player quits or the input ends.
+     *
+     * @param board The board to play on
+     * @return The number of squares cleared
+     */
+    public long play(EndlessBoard board) {
+        try {
+            output.println("Welcome to endless Minesweeper! Start near 0,0, which is always safe.\n");
+            displayBoard(board, 0, 0);
+
+            while (true) {
+                output.println("Select a square to reveal as row,column (e.g. 0,0 or -12,40), or q to quit: ");
+                output.flush();
+                String line = input.readLine();
+                if (line == null || line.trim().equalsIgnoreCase(QUIT)) {
+                    break;
+                }
+
+                int[] coordinates;
+                try {
+                    coordinates = inputValidator.validateEndlessCoordinate(line);
+                } catch (IllegalArgumentException e) {
+                    output.println(e.getMessage());
+                    continue;
+                }
+
+                int row = coordinates[0];
+                int col = coordinates[1];
+                if (board.revealCell(row, col)) {
+                    output.println("Oh no, you detonated a mine! Game over.");
+                    displayBoard(board, row, col);
+                    break;
+                }
+                output.println("This square contains " + board.getAdjacentMines(row, col) + " adjacent mines. ");
+                output.println("\nHere is your updated minefield:");
+                displayBoard(board, row, col);
+            }
+
+            output.println("You cleared " + board.getRevealedCount() + " squares.");
+            return board.getRevealedCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Prints the window of the board around a cell.
+     *
+     * @param board The board
+     * @param row   The row to centre on
+     * @param col   The column to centre on
+     */
+    private void displayBoard(EndlessBoard board, int row, int col) {
+        output.println(boardPrinter.printViewport(board, row, col, GameConfig.VIEWPORT_ROWS,
+                GameConfig.VIEWPORT_COLS));
+    }
+}
@@ -2,106 +2,190 @@ package com.filbertgoh.minesweeper.view;
 
 import com.filbertgoh.minesweeper.controller.GameController;
 import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.RevealResult;
+import com.filbertgoh.minesweeper.service.AnsiBoardRenderer;
 import com.filbertgoh.minesweeper.service.BoardPrinter;
 import com.filbertgoh.minesweeper.service.InputValidator;
+import com.filbertgoh.minesweeper.util.DifficultyProfile;
+import com.filbertgoh.minesweeper.util.DifficultyProfiles;
+import com.filbertgoh.minesweeper.util.GameConfig;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * Handles the console view and user interaction for the Minesweeper game.
+ * Input is read in large buffered chunks and output is flushed only when the view
+ * is about to wait for input that has not arrived yet, so piped scripts run
+ * without a console flush per line. Boards larger than the viewport are shown
+ * through a window that follows the last move and can be panned.
  */
 public class GameView {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String MOVE_SEPARATOR = "[,;\\s]+";
+
     private final GameController gameController;
     private final BoardPrinter boardPrinter;
     private final InputValidator inputValidator;
-    private final Scanner scanner;
+    private final DifficultyProfiles profiles;
+    private final BufferedReader input;
+    private final PrintWriter output;
+    private final Deque<String> pendingMoves;
+    private final RevealResult moveResult;
+    private AnsiBoardRenderer ansiRenderer;
+    private int viewRow;
+    private int viewCol;
 
     /**
-     * Creates a new console game view.
+     * Creates a new console game view reading from standard input and writing to standard output.
      *
      * @param gameController The game controller
      * @param boardPrinter   The board printer service
      * @param inputValidator The input validator service
      */
     public GameView(GameController gameController, BoardPrinter boardPrinter, InputValidator inputValidator) {
+        this(gameController, boardPrinter, inputValidator,
+                new BufferedReader(new InputStreamReader(System.in), BUFFER_SIZE),
+                new BufferedWriter(new OutputStreamWriter(System.out), BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a new game view over the given input and output.
+     *
+     * @param gameController The game controller
+     * @param boardPrinter   The board printer service
+     * @param inputValidator The input validator service
+     * @param input          The reader commands are read from
+     * @param output         The writer game output is written to
+     */
+    public GameView(GameController gameController, BoardPrinter boardPrinter, InputValidator inputValidator,
+                    BufferedReader input, Writer output) {
+        this(gameController, boardPrinter, inputValidator, DifficultyProfiles.load(), input, output);
+    }
+
+    /**
+     * Creates a new game view over the given input and output with the given difficulty profiles.
+     *
+     * @param gameController The game controller
+     * @param boardPrinter   The board printer service
+     * @param inputValidator The input validator service
+     * @param profiles       The difficulty presets and custom game limits
+     * @param input          The reader commands are read from
+     * @param output         The writer game output is written to
+     */
+    public GameView(GameController gameController, BoardPrinter boardPrinter, InputValidator inputValidator,
+                    DifficultyProfiles profiles, BufferedReader input, Writer output) {
         this.gameController = gameController;
         this.boardPrinter = boardPrinter;
         this.inputValidator = inputValidator;
-        this.scanner = new Scanner(System.in);
+        this.profiles = profiles;
+        this.input = input;
+        this.output = new PrintWriter(output, false);
+        this.pendingMoves = new ArrayDeque<>();
+        this.moveResult = new RevealResult();
+    }
+
+    /**
+     * Draws the board with an ANSI terminal renderer instead of reprinting it after every move.
+     * The renderer must write to the same terminal as this view's output.
+     *
+     * @param ansiRenderer The renderer, or null to print the board as plain text
+     */
+    public void setAnsiRenderer(AnsiBoardRenderer ansiRenderer) {
+        this.ansiRenderer = ansiRenderer;
     }
 
     /**
-     * Starts the game and handles user interaction.
+     * Starts the game and handles user interaction until the input is exhausted.
      */
     public void startGame() {
         boolean playAgain = true;
 
-        while (playAgain) {
-            setupGame();
-            playGame();
-            playAgain = askToPlayAgain();
+        try {
+            while (playAgain) {
+                setupGame();
+                playGame();
+                playAgain = askToPlayAgain();
+            }
+        } catch (EndOfInputException e) {
+            // Input closed, nothing more to play
+        } finally {
+            output.flush();
         }
     }
 
     /**
      * Sets up a new game by getting board parameters from the user.
+     * Entering a preset name instead of a size starts that preset straight away.
      */
     private void setupGame() {
-        System.out.println("Welcome to Minesweeper!\n");
-
-        int size = getBoardSize();
-
-        int mines = getNumberOfMines(size);
+        pendingMoves.clear();
+        output.println("Welcome to Minesweeper!\n");
 
-        gameController.initializeGame(size, mines);
+        DifficultyProfile preset = null;
+        int[] dimensions = null;
+        while (preset == null && dimensions == null) {
+            output.println("Enter the size of the grid (e.g. 4 for a 4x4 grid, or 16x30 for 16 rows and 30 columns)"
+                    + " or a difficulty (beginner, intermediate, expert): ");
+            String input = readLine();
 
-        System.out.println();
-        displayBoard();
-    }
-
-    /**
-     * Gets the board size from the user.
-     *
-     * @return The validated board size
-     */
-    private int getBoardSize() {
-        int size = 0;
-        boolean validInput = false;
-
-        while (!validInput) {
-            System.out.println("Enter the size of the grid (e.g. 4 for a 4x4 grid): ");
-            String input = scanner.nextLine();
-
-            try {
-                size = inputValidator.validateBoardSize(input);
-                validInput = true;
-            } catch (IllegalArgumentException e) {
-                System.out.println(e.getMessage());
+            preset = profiles.getPreset(input);
+            if (preset == null) {
+                try {
+                    dimensions = inputValidator.validateBoardDimensions(input);
+                } catch (IllegalArgumentException e) {
+                    output.println(e.getMessage());
+                }
             }
         }
 
-        return size;
+        if (preset != null) {
+            gameController.initializeGame(preset);
+        } else {
+            DifficultyProfile custom = profiles.getCustom();
+            int mines = getNumberOfMines(dimensions[0], dimensions[1], custom.maxDensity());
+            gameController.initializeGame(dimensions[0], dimensions[1], mines,
+                    custom.safeZoneRadiusFor(dimensions[0], dimensions[1], mines));
+        }
+
+        Board board = gameController.getBoard();
+        viewRow = board.getRows() / 2;
+        viewCol = board.getCols() / 2;
+
+        output.println();
+        displayBoard();
     }
 
     /**
      * Gets the number of mines from the user.
      *
-     * @param size The board size
+     * @param rows       The number of rows
+     * @param cols       The number of columns
+     * @param maxDensity The maximum fraction of cells that may hold a mine
      * @return The validated number of mines
      */
-    private int getNumberOfMines(int size) {
+    private int getNumberOfMines(int rows, int cols, double maxDensity) {
         int mines = 0;
         boolean validInput = false;
 
         while (!validInput) {
-            System.out.println("Enter the number of mines to place on the grid (maximum is 35% of the total squares): ");
-            String input = scanner.nextLine();
+            output.println("Enter the number of mines to place on the grid (maximum is "
+                    + Math.round(maxDensity * 100) + "% of the total squares): ");
+            String input = readLine();
 
             try {
-                mines = inputValidator.validateMineCount(input, size);
+                mines = inputValidator.validateMineCount(input, rows, cols, maxDensity);
                 validInput = true;
             } catch (IllegalArgumentException e) {
-                System.out.println(e.getMessage());
+                output.println(e.getMessage());
             }
         }
 
@@ -119,20 +203,30 @@ public class GameView {
             int row = coordinates[0];
             int col = coordinates[1];
 
-            boolean hitMine = gameController.makeMove(row, col);
+            boolean hitMine = gameController.makeMove(row, col, moveResult).hitMine();
+            viewRow = row;
+            viewCol = col;
+
+            if (ansiRenderer != null) {
+                // Redraw first, since each frame clears the screen below the board
+                output.flush();
+                ansiRenderer.drawCells(gameController.getBoard(), moveResult);
+            }
 
             if (hitMine) {
-                System.out.println("Oh no, you detonated a mine! Game over.");
+                output.println("Oh no, you detonated a mine! Game over.");
                 gameOver = true;
             } else {
                 int adjacentMines = gameController.getBoard().getCell(row, col).getAdjacentMines();
-                System.out.println("This square contains " + adjacentMines + " adjacent mines. ");
-                System.out.println("\nHere is your updated minefield:");
-                displayBoard();
+                output.println("This square contains " + adjacentMines + " adjacent mines. ");
+                if (ansiRenderer == null) {
+                    output.println("\nHere is your updated minefield:");
+                    displayBoard();
+                }
 
                 // Check if the game is won
                 if (gameController.isGameWon()) {
-                    System.out.println("Congratulations, you have won the game!");
+                    output.println("Congratulations, you have won the game!");
                     gameOver = true;
                 }
             }
@@ -140,7 +234,8 @@ public class GameView {
     }
 
     /**
-     * Gets a move from the user.
+     * Gets a move from the user. A single line may hold several moves separated by
+     * commas or spaces; the extra moves are queued and played on the following turns.
      *
      * @return An array containing [row, col] coordinates
      */
@@ -149,14 +244,23 @@ public class GameView {
         boolean validInput = false;
 
         while (!validInput) {
-            System.out.println("Select a square to reveal (e.g. A1): ");
-            String input = scanner.nextLine();
+            if (isViewportActive()) {
+                output.println("Select a square to reveal (e.g. A1), or pan with up/down/left/right,"
+                        + " @A1 to centre on a square, map for an overview: ");
+            } else {
+                output.println("Select a square to reveal (e.g. A1): ");
+            }
+            String input = nextMove();
 
             try {
-                coordinates = inputValidator.validateCellCoordinate(input, gameController.getBoard().getSize());
+                Board board = gameController.getBoard();
+                if (isViewportActive() && handleViewCommand(input)) {
+                    continue;
+                }
+                coordinates = inputValidator.validateCellCoordinate(input, board.getRows(), board.getCols());
                 validInput = true;
             } catch (IllegalArgumentException e) {
-                System.out.println(e.getMessage());
+                output.println(e.getMessage());
             }
         }
 
@@ -164,12 +268,84 @@ public class GameView {
     }
 
     /**
-     * Displays the current state of the board.
+     * Handles a viewport command.
+     *
+     * @param input The command input
+     * @return true if the input was a viewport command else false
+     * @throws IllegalArgumentException if the input is a centre command with an invalid coordinate
+     */
+    private boolean handleViewCommand(String input) {
+        Board board = gameController.getBoard();
+        String command = input.trim().toLowerCase();
+
+        switch (command) {
+            case "up" -> viewRow -= GameConfig.VIEWPORT_ROWS / 2;
+            case "down" -> viewRow += GameConfig.VIEWPORT_ROWS / 2;
+            case "left" -> viewCol -= GameConfig.VIEWPORT_COLS / 2;
+            case "right" -> viewCol += GameConfig.VIEWPORT_COLS / 2;
+            case "map" -> {
+                output.println(boardPrinter.printMinimap(board));
+                return true;
+            }
+            default -> {
+                if (!command.startsWith("@")) {
+                    return false;
+                }
+                int[] centre = inputValidator.validateCellCoordinate(command.substring(1), board.getRows(), board.getCols());
+                viewRow = centre[0];
+                viewCol = centre[1];
+            }
+        }
+
+        viewRow = clampCentre(viewRow, GameConfig.VIEWPORT_ROWS, board.getRows());
+        viewCol = clampCentre(viewCol, GameConfig.VIEWPORT_COLS, board.getCols());
+        displayBoard();
+        return true;
+    }
+
+    /**
+     * Limits a viewport centre to positions where the window still fits on the board,
+     * so that panning back after reaching an edge takes effect at once.
+     *
+     * @param centre The requested centre row or column
+     * @param view   The viewport size along that axis
+     * @param limit  The board size along that axis
+     * @return The clamped centre
+     */
+    private static int clampCentre(int centre, int view, int limit) {
+        int size = Math.min(view, limit);
+        return Math.max(size / 2, Math.min(centre, limit - size + size / 2));
+    }
+
+    /**
+     * Checks if the board is too large to print whole.
+     *
+     * @return true if the board is shown through a viewport else false
+     */
+    private boolean isViewportActive() {
+        if (ansiRenderer != null) {
+            return false;
+        }
+
+        Board board = gameController.getBoard();
+        return board.getRows() > GameConfig.VIEWPORT_ROWS || board.getCols() > GameConfig.VIEWPORT_COLS;
+    }
+
+    /**
+     * Displays the current state of the board, or the viewport around the last move on large boards.
      */
     private void displayBoard() {
         Board board = gameController.getBoard();
-        String boardDisplay = boardPrinter.printBoard(board);
-        System.out.println(boardDisplay);
+        if (ansiRenderer != null) {
+            output.flush();
+            ansiRenderer.drawBoard(board);
+            return;
+        }
+
+        String boardDisplay = isViewportActive()
+                ? boardPrinter.printViewport(board, viewRow, viewCol, GameConfig.VIEWPORT_ROWS, GameConfig.VIEWPORT_COLS)
+                : boardPrinter.printBoard(board);
+        output.println(boardDisplay);
     }
 
     /**
@@ -178,8 +354,53 @@ public class GameView {
      * @return true to play again
      */
     private boolean askToPlayAgain() {
-        System.out.println("Press any key to play again...");
-        scanner.nextLine();
+        output.println("Press any key to play again...");
+        readLine();
         return true;
     }
+
+    /**
+     * Gets the next queued move, reading another line of moves when the queue is empty.
+     *
+     * @return The next move input
+     */
+    private String nextMove() {
+        if (pendingMoves.isEmpty()) {
+            String line = readLine();
+            for (String move : line.trim().split(MOVE_SEPARATOR)) {
+                pendingMoves.add(move);
+            }
+        }
+
+        return pendingMoves.poll();
+    }
+
+    /**
+     * Reads a line of input, flushing pending output first if the reader would block.
+     *
+     * @return The line read
+     * @throws EndOfInputException if the input has been closed
+     */
+    private String readLine() {
+        try {
+            if (!input.ready()) {
+                output.flush();
+            }
+
+            String line = input.readLine();
+            if (line == null) {
+                throw new EndOfInputException();
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Signals that the input was closed while the view was waiting for a command.
+     */
+    private static class EndOfInputException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
 }
@@ -0,0 +1,672 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Cell;
+import com.filbertgoh.minesweeper.model.RevealResult;
+import com.filbertgoh.minesweeper.service.InputValidator;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import com.filbertgoh.minesweeper.util.JsonWriter;
+import com.filbertgoh.minesweeper.util.RowLabels;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Serves games over HTTP with JSON responses, for front ends without a terminal.
+ * Every request runs on its own virtual thread. Responses are streamed straight to
+ * the connection with {@link JsonWriter}. Starting a server turns off Nagle's algorithm
+ * for every {@link HttpServer} in the JVM unless the {@code sun.net.httpserver.nodelay}
+ * system property is already set.
+ *
+ * <p>Boards are limited to {@link GameConfig#HTTP_MAX_CELLS} cells. When the game limit is
+ * reached, games unused for longer than the idle timeout, and finished games unused for
+ * {@link GameConfig#HTTP_FINISHED_GAME_SECONDS}, are evicted to make room for new ones.
+ *
+ * <ul>
+ *   <li>{@code POST /games?size=9x9&mines=10} starts a game</li>
+ *   <li>{@code POST /games/{id}/move?cell=A1} reveals one cell</li>
+ *   <li>{@code POST /games/{id}/moves} reveals the cells listed in the body, e.g. {@code A1,B2}</li>
+ *   <li>{@code GET /games/{id}/board} gets the whole board, and {@code ?since=<version>} only the cells opened since then</li>
+ *   <li>{@code DELETE /games/{id}} ends a game</li>
+ * </ul>
+ */
+public class HttpGameServer {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_BODY_BYTES = 1 << 16;
+    private static final String MOVE_SEPARATOR = "[,;\\s]+";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final InetSocketAddress address;
+    private final Supplier<GameController> controllerFactory;
+    private final InputValidator inputValidator;
+    private final ConcurrentHashMap<String, Game> games;
+    // One permit per game that may still be created
+    private final Semaphore gameSlots;
+    private final long idleTimeoutNanos;
+    private final long finishedTimeoutNanos;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * One game and the cells opened by its recent moves, for delta responses.
+     * Guarded by its lock, which unlike a monitor does not pin a virtual thread
+     * while the response is written.
+     */
+    private static final class Game {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final GameController controller;
+        private final RevealResult[] recentMoves;
+        private int version;
+        private boolean lost;
+        private volatile long lastAccess;
+
+        private Game(GameController controller) {
+            this.controller = controller;
+            this.lastAccess = System.nanoTime();
+            // One slot more than the history, for the move being played, so a move
+            // that opens nothing cannot overwrite a version clients may still ask for
+            this.recentMoves = new RevealResult[GameConfig.HTTP_DELTA_HISTORY + 1];
+            for (int i = 0; i < recentMoves.length; i++) {
+                recentMoves[i] = new RevealResult();
+            }
+        }
+
+        private String state() {
+            if (lost) {
+                return "lost";
+            }
+            return controller.isGameWon() ? "won" : "playing";
+        }
+    }
+
+    /**
+     * An error answered with a status code and message.
+     */
+    private static final class HttpError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        private HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Creates a server. It does not listen until started.
+     *
+     * @param address           The address to listen on; port 0 picks a free port
+     * @param controllerFactory The factory for the controllers of new games
+     */
+    public HttpGameServer(InetSocketAddress address, Supplier<GameController> controllerFactory) {
+        this(address, controllerFactory, GameConfig.HTTP_MAX_GAMES,
+                Duration.ofMinutes(GameConfig.HTTP_IDLE_TIMEOUT_MINUTES));
+    }
+
+    /**
+     * Creates a server with a limit on the number of games kept at once. It does not listen until started.
+     *
+     * @param address           The address to listen on; port 0 picks a free port
+     * @param controllerFactory The factory for the controllers of new games
+     * @param maxGames          The number of games that may exist at once
+     * @param idleTimeout       The time a game may be unused before it can be evicted
+     * @throws IllegalArgumentException if maxGames is not positive or the timeout is negative
+     */
+    public HttpGameServer(InetSocketAddress address, Supplier<GameController> controllerFactory, int maxGames,
+                          Duration idleTimeout) {
+        if (maxGames <= 0) {
+            throw new IllegalArgumentException("Maximum number of games must be positive");
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout cannot be negative");
+        }
+
+        this.address = address;
+        this.controllerFactory = controllerFactory;
+        this.inputValidator = new InputValidator();
+        this.games = new ConcurrentHashMap<>();
+        this.gameSlots = new Semaphore(maxGames);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.finishedTimeoutNanos = Math.min(idleTimeoutNanos,
+                Duration.ofSeconds(GameConfig.HTTP_FINISHED_GAME_SECONDS).toNanos());
+    }
+
+    /**
+     * Starts listening. If the {@code sun.net.httpserver.nodelay} system property is not set,
+     * it is set to true first; the property is JVM-wide and is read when the first
+     * {@link HttpServer} is created, so it also applies to any other server in the process.
+     *
+     * @throws UncheckedIOException if the address cannot be bound
+     */
+    public void start() {
+        // Streamed responses end with a tiny final chunk, which Nagle's algorithm would hold
+        // back until the client's delayed ACK, adding about 40 ms to every request
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/games", this::handle);
+        server.start();
+    }
+
+    /**
+     * Stops listening, letting requests in progress finish first.
+     *
+     * @param graceSeconds The longest time to wait for requests in progress
+     */
+    public void stop(int graceSeconds) {
+        server.stop(graceSeconds);
+        executor.close();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of games in progress or finished but not yet deleted or evicted.
+     *
+     * @return The number of games
+     */
+    public int getGameCount() {
+        return games.size();
+    }
+
+    /**
+     * Evicts every game that has been unused for longer than the idle timeout, and
+     * every finished game unused for longer than {@link GameConfig#HTTP_FINISHED_GAME_SECONDS}.
+     *
+     * @return The number of games evicted
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+
+        for (Map.Entry<String, Game> entry : games.entrySet()) {
+            Game game = entry.getValue();
+            long timeout = isFinished(game) ? finishedTimeoutNanos : idleTimeoutNanos;
+            // Removing by value leaves a game deleted or replaced in the meantime alone
+            if (now - game.lastAccess >= timeout && games.remove(entry.getKey(), game)) {
+                gameSlots.release();
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Checks if a game is over, without waiting for a request in progress on it.
+     *
+     * @param game The game
+     * @return true if the game is known to be over else false
+     */
+    private static boolean isFinished(Game game) {
+        if (!game.lock.tryLock()) {
+            return false;
+        }
+        try {
+            return !game.state().equals("playing");
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Routes a request to its endpoint and answers errors as JSON.
+     *
+     * @param exchange The request
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            // path[0] is empty and path[1] is "games"
+            if (path.length == 2) {
+                requireMethod(method, "POST");
+                createGame(exchange, query);
+            } else if (path.length == 3) {
+                requireMethod(method, "DELETE");
+                if (games.remove(path[2]) == null) {
+                    throw new HttpError(404, "Unknown game: " + path[2]);
+                }
+                gameSlots.release();
+                exchange.sendResponseHeaders(204, -1);
+            } else if (path.length == 4) {
+                Game game = games.get(path[2]);
+                if (game == null) {
+                    throw new HttpError(404, "Unknown game: " + path[2]);
+                }
+                game.lastAccess = System.nanoTime();
+                switch (path[3]) {
+                    case "move" -> {
+                        requireMethod(method, "POST");
+                        move(exchange, game, require(query, "cell"));
+                    }
+                    case "moves" -> {
+                        requireMethod(method, "POST");
+                        moves(exchange, game, readBody(exchange));
+                    }
+                    case "board" -> {
+                        requireMethod(method, "GET");
+                        board(exchange, path[2], game, query.get("since"));
+                    }
+                    default -> throw new HttpError(404, "Unknown endpoint: " + path[3]);
+                }
+            } else {
+                throw new HttpError(404, "Unknown endpoint");
+            }
+        } catch (HttpError e) {
+            error(exchange, e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            error(exchange, 400, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Starts a game and answers with its id and board.
+     *
+     * @param exchange The request
+     * @param query    The query parameters, holding {@code size} and {@code mines}
+     */
+    private void createGame(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int[] dimensions = inputValidator.validateBoardDimensions(require(query, "size"));
+        if ((long) dimensions[0] * dimensions[1] > GameConfig.HTTP_MAX_CELLS) {
+            throw new IllegalArgumentException("Invalid board size: at most " + GameConfig.HTTP_MAX_CELLS
+                    + " squares are allowed");
+        }
+        int mines = inputValidator.validateMineCount(require(query, "mines"), dimensions[0], dimensions[1]);
+        if (!gameSlots.tryAcquire() && (evictIdle() == 0 || !gameSlots.tryAcquire())) {
+            throw new HttpError(503, "Too many games in progress");
+        }
+
+        Game game;
+        String id = UUID.randomUUID().toString();
+        try {
+            game = new Game(controllerFactory.get());
+            game.controller.initializeGame(dimensions[0], dimensions[1], mines);
+            games.put(id, game);
+        } catch (RuntimeException e) {
+            gameSlots.release();
+            throw e;
+        }
+
+        game.lock.lock();
+        try {
+            respond(exchange, 201, json -> writeFullBoard(json, id, game));
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Reveals one cell.
+     *
+     * @param exchange The request
+     * @param game     The game
+     * @param cell     The cell, e.g. "A1"
+     */
+    private void move(HttpExchange exchange, Game game, String cell) throws IOException {
+        game.lock.lock();
+        try {
+            Board board = game.controller.getBoard();
+            int[] coordinates = inputValidator.validateCellCoordinate(cell, board.getRows(), board.getCols());
+            requirePlaying(game);
+            int opened = play(game, coordinates);
+            respond(exchange, 200, json -> writeMove(json, coordinates, board, opened, game.state(), game.version));
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Reveals several cells in order, stopping when the game ends.
+     *
+     * @param exchange The request
+     * @param game     The game
+     * @param body     The cells, separated by commas or spaces
+     */
+    private void moves(HttpExchange exchange, Game game, String body) throws IOException {
+        String[] cells = body.trim().split(MOVE_SEPARATOR);
+
+        game.lock.lock();
+        try {
+            Board board = game.controller.getBoard();
+            int[][] coordinates = new int[cells.length][];
+            for (int i = 0; i < cells.length; i++) {
+                coordinates[i] = inputValidator.validateCellCoordinate(cells[i], board.getRows(), board.getCols());
+            }
+            requirePlaying(game);
+
+            // The state and version after each move, as they are overwritten by the next one
+            int[] opened = new int[cells.length];
+            String[] states = new String[cells.length];
+            int[] versions = new int[cells.length];
+            int played = 0;
+            while (played < coordinates.length && game.state().equals("playing")) {
+                opened[played] = play(game, coordinates[played]);
+                states[played] = game.state();
+                versions[played] = game.version;
+                played++;
+            }
+
+            int count = played;
+            respond(exchange, 200, json -> {
+                json.beginObject().name("results").beginArray();
+                for (int i = 0; i < count; i++) {
+                    writeMove(json, coordinates[i], game.controller.getBoard(), opened[i], states[i], versions[i]);
+                }
+                json.endArray()
+                        .name("played").value(count)
+                        .name("state").value(game.state())
+                        .name("version").value(game.version)
+                        .endObject();
+            });
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Answers with the whole board, or with the cells opened since a version.
+     *
+     * @param exchange The request
+     * @param id       The game id
+     * @param game     The game
+     * @param since    The version the client already has, or null for the whole board
+     */
+    private void board(HttpExchange exchange, String id, Game game, String since) throws IOException {
+        int sinceVersion = -1;
+        if (since != null) {
+            try {
+                sinceVersion = Integer.parseInt(since);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid version: must be an integer");
+            }
+        }
+
+        game.lock.lock();
+        try {
+            int from = sinceVersion;
+            if (from < 0 || from > game.version || game.version - from > GameConfig.HTTP_DELTA_HISTORY) {
+                // Too old, or unknown: the client has to start over from the whole board
+                respond(exchange, 200, json -> writeFullBoard(json, id, game));
+            } else {
+                respond(exchange, 200, json -> writeDelta(json, id, game, from));
+            }
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Makes a move and records the cells it opened under a new version. The move is
+     * revealed straight into the history slot for that version, whose buffer is reused.
+     * Must be called while holding the game's lock.
+     *
+     * @param game        The game
+     * @param coordinates The [row, col] of the move
+     * @return The number of cells the move opened
+     */
+    private static int play(Game game, int[] coordinates) {
+        RevealResult result = game.recentMoves[game.version % game.recentMoves.length];
+        game.controller.makeMove(coordinates[0], coordinates[1], result);
+        int opened = result.getOpenedCount();
+        if (opened > 0) {
+            game.version++;
+        }
+        if (result.hitMine()) {
+            game.lost = true;
+        }
+        return opened;
+    }
+
+    /**
+     * Rejects moves on a finished game.
+     *
+     * @param game The game
+     * @throws HttpError if the game is over
+     */
+    private static void requirePlaying(Game game) {
+        if (!game.state().equals("playing")) {
+            throw new HttpError(409, "Game is over: " + game.state());
+        }
+    }
+
+    /**
+     * Writes the outcome of a move.
+     *
+     * @param json        The writer
+     * @param coordinates The [row, col] of the move
+     * @param board       The board of the game
+     * @param opened      The number of cells the move opened
+     * @param state       The state of the game after the move
+     * @param version     The version of the game after the move
+     */
+    private static void writeMove(JsonWriter json, int[] coordinates, Board board, int opened, String state,
+                                  int version) {
+        Cell cell = board.getCell(coordinates[0], coordinates[1]);
+        json.beginObject().name("cell").beginString();
+        writeChars(json, RowLabels.format(coordinates[0]));
+        writeChars(json, Integer.toString(coordinates[1] + 1));
+        json.endString()
+                .name("hitMine").value(cell.hasMine())
+                .name("adjacentMines").value(cell.getAdjacentMines())
+                .name("opened").value(opened)
+                .name("state").value(state)
+                .name("version").value(version)
+                .endObject();
+    }
+
+    /**
+     * Writes characters into a string opened with {@link JsonWriter#beginString()}.
+     *
+     * @param json The writer
+     * @param text The characters
+     */
+    private static void writeChars(JsonWriter json, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            json.stringChar(text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the whole board, one character per cell in row-major order.
+     *
+     * @param json The writer
+     * @param id   The game id
+     * @param game The game
+     */
+    private static void writeFullBoard(JsonWriter json, String id, Game game) {
+        Board board = game.controller.getBoard();
+        json.beginObject()
+                .name("id").value(id)
+                .name("version").value(game.version)
+                .name("state").value(game.state())
+                .name("rows").value(board.getRows())
+                .name("cols").value(board.getCols())
+                .name("mines").value(board.getTotalMines())
+                .name("cells").beginString();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            json.stringChar(display(board.getCell(index)));
+        }
+        json.endString().endObject();
+    }
+
+    /**
+     * Writes the cells opened since a version, as indices and display characters in matching order.
+     *
+     * @param json  The writer
+     * @param id    The game id
+     * @param game  The game
+     * @param since The version the client already has
+     */
+    private static void writeDelta(JsonWriter json, String id, Game game, int since) {
+        Board board = game.controller.getBoard();
+        RevealResult[] moves = game.recentMoves;
+
+        json.beginObject()
+                .name("id").value(id)
+                .name("version").value(game.version)
+                .name("state").value(game.state())
+                .name("since").value(since)
+                .name("opened").beginArray();
+        for (int version = since; version < game.version; version++) {
+            RevealResult move = moves[version % moves.length];
+            for (int i = 0; i < move.getOpenedCount(); i++) {
+                json.value(move.getOpened(i));
+            }
+        }
+        json.endArray().name("values").beginString();
+        for (int version = since; version < game.version; version++) {
+            RevealResult move = moves[version % moves.length];
+            for (int i = 0; i < move.getOpenedCount(); i++) {
+                json.stringChar(display(board.getCell(move.getOpened(i))));
+            }
+        }
+        json.endString().endObject();
+    }
+
+    /**
+     * Gets the character a client sees for a cell.
+     *
+     * @param cell The cell
+     * @return '_' for covered cells, '*' for revealed mines, otherwise the adjacent mine count
+     */
+    private static char display(Cell cell) {
+        if (cell.isCovered()) {
+            return '_';
+        }
+        return cell.hasMine() ? '*' : (char) ('0' + cell.getAdjacentMines());
+    }
+
+    /**
+     * Sends a JSON response, streaming the body as it is written.
+     *
+     * @param exchange The request
+     * @param status   The status code
+     * @param body     Writes the body
+     */
+    private static void respond(HttpExchange exchange, int status, Consumer<JsonWriter> body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), BUFFER_SIZE)) {
+            body.accept(new JsonWriter(out));
+        }
+    }
+
+    /**
+     * Sends an error response.
+     *
+     * @param exchange The request
+     * @param status   The status code
+     * @param message  The error message
+     */
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        respond(exchange, status, json -> json.beginObject().name("error").value(message).endObject());
+    }
+
+    /**
+     * Checks the request method of an endpoint.
+     *
+     * @param method   The request method
+     * @param expected The method the endpoint accepts
+     * @throws HttpError if the methods differ
+     */
+    private static void requireMethod(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new HttpError(405, "Method not allowed: " + method);
+        }
+    }
+
+    /**
+     * Gets a required query parameter.
+     *
+     * @param query The query parameters
+     * @param name  The parameter name
+     * @return The parameter value
+     * @throws IllegalArgumentException if the parameter is missing
+     */
+    private static String require(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a small text request body.
+     *
+     * @param exchange The request
+     * @return The body as UTF-8 text
+     * @throws HttpError if the body is too large
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new HttpError(413, "Request body too large");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Parses a URL query string.
+     *
+     * @param rawQuery The raw query, or null
+     * @return The decoded parameters
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
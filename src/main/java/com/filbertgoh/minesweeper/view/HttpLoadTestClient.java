@@ -0,0 +1,173 @@
+package com.filbertgoh.minesweeper.view;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local load generator for {@link HttpGameServer}. Each simulated player starts an
+ * expert game, reveals random cells until the game ends and starts again. At the
+ * end it prints the request rate and the p50 and p99 latencies.
+ *
+ * <p>Usage: {@code HttpLoadTestClient <base-url> [players] [seconds]}, e.g.
+ * {@code HttpLoadTestClient http://localhost:8080 64 10}.
+ */
+public class HttpLoadTestClient {
+    private static final Pattern GAME_ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+    private static final Pattern STATE = Pattern.compile("\"state\":\"(\\w+)\"");
+    private static final int ROWS = 16;
+    private static final int COLS = 30;
+    private static final int MINES = 99;
+
+    /**
+     * The latencies one player recorded.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        /**
+         * Records one request's latency.
+         *
+         * @param nanos The latency in nanoseconds
+         */
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: HttpLoadTestClient <base-url> [players] [seconds]");
+            System.exit(2);
+        }
+        URI base = URI.create(args[0].endsWith("/") ? args[0] : args[0] + "/");
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        List<Future<Recorder>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                results.add(executor.submit(() -> play(client, base, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] all = new long[0];
+        int errors = 0;
+        for (Future<Recorder> result : results) {
+            Recorder recorder = result.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + recorder.count);
+            System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+            errors += recorder.errors;
+        }
+        Arrays.sort(all);
+
+        System.out.printf("%d requests in %.1f s from %d players: %.0f requests/s, %d errors%n",
+                all.length, elapsedSeconds, players, all.length / elapsedSeconds, errors);
+        System.out.printf("latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6,
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1e6);
+    }
+
+    /**
+     * Plays games until the deadline.
+     *
+     * @param client   The HTTP client
+     * @param base     The server's base URL
+     * @param deadline The time to stop, from {@link System#nanoTime()}
+     * @return The recorded latencies
+     */
+    private static Recorder play(HttpClient client, URI base, long deadline) throws InterruptedException {
+        Recorder recorder = new Recorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            String created = send(client, recorder, HttpRequest.newBuilder(
+                    base.resolve("games?size=" + ROWS + "x" + COLS + "&mines=" + MINES))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+            Matcher id = created == null ? null : GAME_ID.matcher(created);
+            if (id == null || !id.find()) {
+                continue;
+            }
+
+            URI move = base.resolve("games/" + id.group(1) + "/move");
+            String state = "playing";
+            while (state.equals("playing") && System.nanoTime() < deadline) {
+                char row = (char) ('A' + random.nextInt(ROWS));
+                int col = 1 + random.nextInt(COLS);
+                String response = send(client, recorder, HttpRequest.newBuilder(
+                        URI.create(move + "?cell=" + row + col)).POST(HttpRequest.BodyPublishers.noBody()).build());
+                Matcher matcher = response == null ? null : STATE.matcher(response);
+                state = matcher != null && matcher.find() ? matcher.group(1) : "error";
+            }
+
+            send(client, recorder, HttpRequest.newBuilder(base.resolve("games/" + id.group(1))).DELETE().build());
+        }
+
+        return recorder;
+    }
+
+    /**
+     * Sends a request and records its latency.
+     *
+     * @param client   The HTTP client
+     * @param recorder The latency recorder
+     * @param request  The request
+     * @return The response body, or null if the request failed
+     */
+    private static String send(HttpClient client, Recorder recorder, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(System.nanoTime() - start);
+            if (response.statusCode() >= 400) {
+                recorder.errors++;
+                return null;
+            }
+            return response.body();
+        } catch (IOException e) {
+            recorder.errors++;
+            return null;
+        }
+    }
+
+    /**
+     * Gets a percentile of sorted values, by the nearest-rank method.
+     *
+     * @param sorted   The values, in ascending order
+     * @param fraction The percentile as a fraction, e.g. 0.99
+     * @return The value at that percentile, or 0 if there are none
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
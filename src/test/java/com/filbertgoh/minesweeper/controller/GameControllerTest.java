@@ -2,7 +2,11 @@ package com.filbertgoh.minesweeper.controller;
 
 import com.filbertgoh.minesweeper.model.Board;
 import com.filbertgoh.minesweeper.model.Cell;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.model.RevealResult;
 import com.filbertgoh.minesweeper.service.BoardGenerator;
+import com.filbertgoh.minesweeper.service.Leaderboard;
+import com.filbertgoh.minesweeper.util.DifficultyProfile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +48,8 @@ public class GameControllerTest {
         when(mockBoardGenerator.generateBoard(defaultSize, defaultNumMines)).thenReturn(mockBoard);
         // Default behavior for board interactions
         when(mockBoard.getSize()).thenReturn(defaultSize);
+        when(mockBoard.getRows()).thenReturn(defaultSize);
+        when(mockBoard.getCols()).thenReturn(defaultSize);
         when(mockBoard.getTotalMines()).thenReturn(defaultNumMines);
         when(mockBoard.getCell(anyInt(), anyInt())).thenReturn(mockCell);
     }
@@ -53,6 +59,17 @@ public class GameControllerTest {
         mocks.close();
     }
 
+    /**
+     * Makes a mocked board fill the caller's result when the given cell is revealed.
+     */
+    private void stubReveal(Board board, int row, int col, boolean hitMine, int... opened) {
+        when(board.revealCell(eq(row), eq(col), any(RevealResult.class))).thenAnswer(invocation -> {
+            RevealResult result = invocation.getArgument(2);
+            result.set(hitMine, opened, opened.length);
+            return result;
+        });
+    }
+
     @Test
     public void testInitializeGame() {
         gameController.initializeGame(defaultSize, defaultNumMines);
@@ -61,6 +78,16 @@ public class GameControllerTest {
         assertEquals(mockBoard, gameController.getBoard());
     }
 
+    @Test
+    public void testInitializeRectangularGame() {
+        when(mockBoardGenerator.generateBoard(4, 7, defaultNumMines)).thenReturn(mockBoard);
+
+        gameController.initializeGame(4, 7, defaultNumMines);
+
+        verify(mockBoardGenerator, times(1)).generateBoard(4, 7, defaultNumMines);
+        assertEquals(mockBoard, gameController.getBoard());
+    }
+
     @Test
     public void testMakeMoveFirstMove_HitsMine_ShouldRegenerateBoard() {
         gameController.initializeGame(defaultSize, defaultNumMines);
@@ -74,26 +101,45 @@ public class GameControllerTest {
 
         // boardGenerator returns a new mock board instance
         Board regeneratedMockBoard = mock(Board.class);
-        when(mockBoardGenerator.generateBoard(defaultSize, defaultNumMines, row, col)).thenReturn(regeneratedMockBoard);
+        when(mockBoardGenerator.generateBoard(defaultSize, defaultSize, defaultNumMines, row, col)).thenReturn(regeneratedMockBoard);
         // Assume the regenerated board doesn't hit a mine on reveal
-        when(regeneratedMockBoard.revealCell(row,col)).thenReturn(false);
+        stubReveal(regeneratedMockBoard, row, col, false);
 
 
         boolean hitMineResult = gameController.makeMove(row, col);
 
         // BoardGenerator called to regenerate the board
-        verify(mockBoardGenerator, times(1)).generateBoard(defaultSize, defaultNumMines, row, col);
+        verify(mockBoardGenerator, times(1)).generateBoard(defaultSize, defaultSize, defaultNumMines, row, col);
         // Game controller uses the regenerated board
         assertEquals(regeneratedMockBoard, gameController.getBoard());
         // revealCell was called on the regenerated board
-        verify(regeneratedMockBoard, times(1)).revealCell(row, col);
+        verify(regeneratedMockBoard, times(1)).revealCell(eq(row), eq(col), any(RevealResult.class));
         // revealCell NOT called on initial mockBoard as it was replaced
-        verify(mockBoard, never()).revealCell(row,col);
+        verify(mockBoard, never()).revealCell(eq(row), eq(col), any(RevealResult.class));
 
 
         assertFalse(hitMineResult);
     }
 
+    @Test
+    public void testMakeMoveFirstMove_MineInSafeZone_ShouldRegenerateWithRadius() {
+        when(mockBoardGenerator.generateBoard(defaultSize, defaultSize, defaultNumMines)).thenReturn(mockBoard);
+        gameController.initializeGame(defaultSize, defaultSize, defaultNumMines, 1);
+
+        // Setup: the clicked cell is safe but a neighbour inside the zone has a mine
+        Cell minedNeighbour = mock(Cell.class);
+        when(minedNeighbour.hasMine()).thenReturn(true);
+        when(mockBoard.getCell(1, 2)).thenReturn(minedNeighbour);
+
+        Board regeneratedMockBoard = mock(Board.class);
+        when(mockBoardGenerator.generateBoard(defaultSize, defaultSize, defaultNumMines, 2, 3, 1)).thenReturn(regeneratedMockBoard);
+
+        gameController.makeMove(2, 3);
+
+        verify(mockBoardGenerator, times(1)).generateBoard(defaultSize, defaultSize, defaultNumMines, 2, 3, 1);
+        verify(regeneratedMockBoard, times(1)).revealCell(eq(2), eq(3), any(RevealResult.class));
+    }
+
     @Test
     public void testMakeMoveFirstMove_SafeClick_ShouldNotRegenerateBoard() {
         gameController.initializeGame(defaultSize, defaultNumMines);
@@ -104,16 +150,16 @@ public class GameControllerTest {
         // Setup: First click on the initial mockBoard is NOT a mine
         when(mockBoard.getCell(row, col)).thenReturn(mockCell);
         when(mockCell.hasMine()).thenReturn(false);
-        when(mockBoard.revealCell(row, col)).thenReturn(false);
+        stubReveal(mockBoard, row, col, false);
 
         boolean hitMineResult = gameController.makeMove(row, col);
 
         // BoardGenerator NOT called to regenerate
-        verify(mockBoardGenerator, never()).generateBoard(defaultSize, defaultNumMines, row, col);
+        verify(mockBoardGenerator, never()).generateBoard(defaultSize, defaultSize, defaultNumMines, row, col);
         // Game controller uses initial board
         assertEquals(mockBoard, gameController.getBoard());
         // revealCell called on initial board
-        verify(mockBoard, times(1)).revealCell(row, col);
+        verify(mockBoard, times(1)).revealCell(eq(row), eq(col), any(RevealResult.class));
 
         assertFalse(hitMineResult);
     }
@@ -128,7 +174,7 @@ public class GameControllerTest {
 
         when(mockBoard.getCell(firstRow, firstCol)).thenReturn(mockCell);
         when(mockCell.hasMine()).thenReturn(false);
-        when(mockBoard.revealCell(firstRow, firstCol)).thenReturn(false);
+        stubReveal(mockBoard, firstRow, firstCol, false);
         gameController.makeMove(firstRow, firstCol);
 
         // Reset interaction count for generateBoard to ensure only count for second move
@@ -137,7 +183,7 @@ public class GameControllerTest {
         // Setup for second move
         Cell mockCell2 = mock(Cell.class); // Potentially different cell for second move
         when(mockBoard.getCell(secondRow, secondCol)).thenReturn(mockCell2);
-        when(mockBoard.revealCell(secondRow, secondCol)).thenReturn(false); // Assume safe
+        stubReveal(mockBoard, secondRow, secondCol, false); // Assume safe
 
         // Make the second move
         boolean hitMineResult = gameController.makeMove(secondRow, secondCol);
@@ -145,9 +191,10 @@ public class GameControllerTest {
         // BoardGenerator NOT called for regeneration
         verify(mockBoardGenerator, never()).generateBoard(anyInt(), anyInt());
         verify(mockBoardGenerator, never()).generateBoard(anyInt(), anyInt(), anyInt(), anyInt());
+        verify(mockBoardGenerator, never()).generateBoard(anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
 
         // revealCell called for second move on the board
-        verify(mockBoard, times(1)).revealCell(secondRow, secondCol);
+        verify(mockBoard, times(1)).revealCell(eq(secondRow), eq(secondCol), any(RevealResult.class));
         assertFalse(hitMineResult);
     }
 
@@ -157,7 +204,7 @@ public class GameControllerTest {
 
         when(mockBoard.getCell(0, 0)).thenReturn(mockCell);
         when(mockCell.hasMine()).thenReturn(false);
-        when(mockBoard.revealCell(0,0)).thenReturn(false);
+        stubReveal(mockBoard, 0, 0, false);
         gameController.makeMove(0, 0);
 
 
@@ -165,13 +212,13 @@ public class GameControllerTest {
         int mineRow = 1, mineCol = 1;
         Cell mineCell = mock(Cell.class);
         when(mockBoard.getCell(mineRow, mineCol)).thenReturn(mineCell);
-        when(mockBoard.revealCell(mineRow, mineCol)).thenReturn(true); // hits mine
+        stubReveal(mockBoard, mineRow, mineCol, true); // hits mine
 
         boolean hitMineResult = gameController.makeMove(mineRow, mineCol);
 
         assertTrue(hitMineResult);
         // revealCell was called
-        verify(mockBoard, times(1)).revealCell(mineRow, mineCol);
+        verify(mockBoard, times(1)).revealCell(eq(mineRow), eq(mineCol), any(RevealResult.class));
     }
 
     @Test
@@ -186,4 +233,118 @@ public class GameControllerTest {
         assertFalse(gameController.isGameWon());
         verify(mockBoard, times(2)).isGameWon();
     }
+
+    @Test
+    public void testUndoRedo() {
+        gameController.initializeGame(defaultSize, defaultNumMines);
+        assertFalse(gameController.undo());
+
+        int[] opened = {0, 1, 5};
+        when(mockCell.hasMine()).thenReturn(false);
+        stubReveal(mockBoard, 0, 0, false, opened);
+        gameController.makeMove(0, 0);
+
+        assertTrue(gameController.undo());
+        verify(mockBoard, times(1)).coverCells(opened);
+        assertFalse(gameController.undo());
+
+        assertTrue(gameController.redo());
+        verify(mockBoard, times(1)).uncoverCells(opened);
+        assertFalse(gameController.redo());
+    }
+
+    @Test
+    public void testWonGameIsSubmittedToLeaderboard() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        GameController controller = new GameController(new BoardGenerator(3L), leaderboard);
+        controller.initializeGame(9, 9, 10);
+
+        Board board = controller.getBoard();
+        for (int row = 0; row < 9 && !controller.isGameWon(); row++) {
+            for (int col = 0; col < 9 && !controller.isGameWon(); col++) {
+                if (!board.getCell(row, col).hasMine()) {
+                    controller.makeMove(row, col);
+                    board = controller.getBoard();
+                }
+            }
+        }
+
+        assertTrue(controller.isGameWon());
+        assertEquals(1, leaderboard.merge());
+        assertEquals(1, leaderboard.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 100).size());
+    }
+
+    @Test
+    public void testEditedPresetKeepsItsTier() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        GameController controller = new GameController(new BoardGenerator(3L), leaderboard);
+        // A beginner preset with more mines than the standard tier
+        controller.initializeGame(new DifficultyProfile("beginner", 9, 9, 12, 0.35, 1));
+        assertEquals(Difficulty.BEGINNER, controller.getTier());
+
+        winThenReplayLastMove(controller);
+
+        assertEquals(1, leaderboard.merge());
+        assertEquals(1, leaderboard.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 100).size());
+    }
+
+    /**
+     * Plays every safe cell in order, undoing and replaying the winning move once.
+     *
+     * @param controller The controller with a freshly initialized game
+     */
+    private void winThenReplayLastMove(GameController controller) {
+        Board board = controller.getBoard();
+        int lastRow = -1;
+        int lastCol = -1;
+        for (int row = 0; row < 9 && !controller.isGameWon(); row++) {
+            for (int col = 0; col < 9 && !controller.isGameWon(); col++) {
+                if (!board.getCell(row, col).hasMine()) {
+                    controller.makeMove(row, col);
+                    board = controller.getBoard();
+                    lastRow = row;
+                    lastCol = col;
+                }
+            }
+        }
+
+        assertTrue(controller.isGameWon());
+        assertTrue(controller.undo());
+        assertFalse(controller.isGameWon());
+        controller.makeMove(lastRow, lastCol);
+        assertTrue(controller.isGameWon());
+    }
+
+    @Test
+    public void testUndoneWinIsSubmittedOnce() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        GameController controller = new GameController(new BoardGenerator(3L), leaderboard);
+        controller.initializeGame(9, 9, 10);
+
+        winThenReplayLastMove(controller);
+
+        assertEquals(1, leaderboard.merge());
+        assertEquals(1, leaderboard.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 100).size());
+    }
+
+    @Test
+    public void testWinAfterMineIsNotSubmitted() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        GameController controller = new GameController(new BoardGenerator(3L), leaderboard);
+        controller.initializeGame(9, 9, 10);
+
+        // Make the safe first move, then step on a mine and take it back
+        controller.makeMove(4, 4);
+        Board board = controller.getBoard();
+        int mine = 0;
+        while (!board.getCell(mine).hasMine()) {
+            mine++;
+        }
+        assertTrue(controller.makeMove(mine / 9, mine % 9));
+        assertTrue(controller.undo());
+
+        winThenReplayLastMove(controller);
+
+        assertEquals(0, leaderboard.merge());
+    }
 }
@@ -0,0 +1,207 @@
+package com.filbertgoh.minesweeper.controller;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import com.filbertgoh.minesweeper.service.Leaderboard;
+import com.filbertgoh.minesweeper.util.GameConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SessionManager class.
+ */
+public class SessionManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SessionManager newManager(Duration idleTimeout, long memoryBudget, Executor writeBehind) {
+        return new SessionManager(tempDir, () -> new GameController(new BoardGenerator(5L)), idleTimeout,
+                memoryBudget, writeBehind);
+    }
+
+    @Test
+    public void testIdleSessionIsHibernatedAndRestored() {
+        SessionManager manager = newManager(Duration.ZERO, Long.MAX_VALUE, Runnable::run);
+        manager.newGame("alice", 9, 9, 10);
+        manager.makeMove("alice", 0, 0);
+        String before = manager.withSession("alice", controller -> render(controller.getBoard()));
+
+        assertEquals(1, manager.hibernateIdle());
+        assertTrue(manager.isHibernated("alice"));
+        assertEquals(0, manager.getActiveBytes());
+        assertTrue(Files.exists(tempDir.resolve("alice.board")));
+
+        String after = manager.withSession("alice", controller -> render(controller.getBoard()));
+        assertFalse(manager.isHibernated("alice"));
+        assertEquals(before, after);
+        boolean firstMove = manager.withSession("alice", controller -> controller.isFirstMove());
+        assertFalse(firstMove);
+    }
+
+    @Test
+    public void testRecentSessionIsNotHibernated() {
+        SessionManager manager = newManager(Duration.ofHours(1), Long.MAX_VALUE, Runnable::run);
+        manager.newGame("bob", 5, 5, 3);
+
+        assertEquals(0, manager.hibernateIdle());
+        assertFalse(manager.isHibernated("bob"));
+    }
+
+    @Test
+    public void testMemoryBudgetEvictsLeastRecentlyUsed() {
+        long boardBytes = 9L * 9 * GameConfig.SESSION_BYTES_PER_CELL;
+        SessionManager manager = newManager(Duration.ofHours(1), 2 * boardBytes, Runnable::run);
+
+        manager.newGame("a", 9, 9, 10);
+        manager.newGame("b", 9, 9, 10);
+        manager.makeMove("a", 4, 4);
+        manager.newGame("c", 9, 9, 10);
+
+        assertTrue(manager.isHibernated("b"));
+        assertFalse(manager.isHibernated("a"));
+        assertFalse(manager.isHibernated("c"));
+        assertEquals(2 * boardBytes, manager.getActiveBytes());
+        assertEquals(3, manager.getSessionCount());
+    }
+
+    @Test
+    public void testRestoreBeforeWriteCompletes() {
+        List<Runnable> writes = new ArrayList<>();
+        SessionManager manager = newManager(Duration.ZERO, Long.MAX_VALUE, writes::add);
+        manager.newGame("carol", 9, 9, 10);
+        manager.makeMove("carol", 8, 8);
+
+        manager.hibernateIdle();
+        assertEquals(1, writes.size());
+
+        // Restored from the in-memory image; the stale write is then discarded
+        boolean restored = manager.withSession("carol", controller -> controller.getBoard().getRevealedCount() > 0);
+        assertTrue(restored);
+        writes.get(0).run();
+        assertFalse(Files.exists(tempDir.resolve("carol.board")));
+    }
+
+    @Test
+    public void testUnwrittenImageCountsTowardsBudget() {
+        List<Runnable> writes = new ArrayList<>();
+        SessionManager manager = newManager(Duration.ZERO, Long.MAX_VALUE, writes::add);
+        manager.newGame("erin", 9, 9, 10);
+        manager.makeMove("erin", 0, 0);
+        long boardBytes = manager.getActiveBytes();
+
+        manager.hibernateIdle();
+        long imageBytes = manager.getActiveBytes();
+        assertTrue(imageBytes > 0 && imageBytes < boardBytes);
+
+        // A failed write keeps the image, and its bytes, until the session is restored
+        Path missing = tempDir.resolve("missing");
+        SessionManager failing = new SessionManager(missing, () -> new GameController(new BoardGenerator(5L)),
+                Duration.ZERO, Long.MAX_VALUE, Runnable::run);
+        failing.newGame("erin", 9, 9, 10);
+        failing.makeMove("erin", 0, 0);
+        failing.hibernateIdle();
+        assertTrue(failing.isHibernated("erin"));
+        assertEquals(imageBytes, failing.getActiveBytes());
+        failing.makeMove("erin", 8, 8);
+        assertEquals(boardBytes, failing.getActiveBytes());
+
+        writes.get(0).run();
+        assertEquals(0, manager.getActiveBytes());
+    }
+
+    @Test
+    public void testUndoneGameStaysUnrankedAcrossHibernation() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        SessionManager manager = new SessionManager(tempDir,
+                () -> new GameController(new BoardGenerator(3L), leaderboard), Duration.ZERO, Long.MAX_VALUE,
+                Runnable::run);
+        manager.newGame("grace", 9, 9, 10);
+        manager.makeMove("grace", 0, 0);
+        assertTrue(manager.withSession("grace", GameController::undo));
+
+        manager.hibernateIdle();
+        assertTrue(manager.isHibernated("grace"));
+        // The undo history came back with the session
+        assertTrue(manager.withSession("grace", GameController::redo));
+        assertTrue(manager.withSession("grace", SessionManagerTest::win));
+
+        assertEquals(0, leaderboard.merge());
+    }
+
+    @Test
+    public void testHibernationKeepsRankingAndSpectators() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        SessionManager manager = new SessionManager(tempDir,
+                () -> new GameController(new BoardGenerator(3L), leaderboard), Duration.ZERO, Long.MAX_VALUE,
+                Runnable::run);
+        manager.newGame("heidi", 9, 9, 10);
+        SpectatorFeed.Subscription spectator = manager.withSession("heidi", controller -> controller.spectate(256));
+        manager.makeMove("heidi", 0, 0);
+        while (spectator.poll() != null) {
+            // Drain the updates sent before hibernation
+        }
+
+        manager.hibernateIdle();
+        assertTrue(manager.withSession("heidi", SessionManagerTest::win));
+
+        assertNotNull(spectator.poll());
+        assertEquals(1, leaderboard.merge());
+    }
+
+    @Test
+    public void testCloseSession() {
+        SessionManager manager = newManager(Duration.ZERO, Long.MAX_VALUE, Runnable::run);
+        manager.newGame("dave", 5, 5, 3);
+        manager.hibernateIdle();
+
+        assertTrue(manager.closeSession("dave"));
+        assertFalse(manager.closeSession("dave"));
+        assertFalse(Files.exists(tempDir.resolve("dave.board")));
+        assertThrows(IllegalArgumentException.class, () -> manager.makeMove("dave", 0, 0));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        SessionManager manager = newManager(Duration.ZERO, Long.MAX_VALUE, Runnable::run);
+
+        assertThrows(IllegalArgumentException.class, () -> manager.newGame("../etc", 5, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> newManager(Duration.ofSeconds(-1), 1, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> newManager(Duration.ZERO, 0, Runnable::run));
+    }
+
+    /**
+     * Opens every safe cell that is still covered.
+     *
+     * @param controller The controller of the game
+     * @return true if the game is won else false
+     */
+    private static boolean win(GameController controller) {
+        Board board = controller.getBoard();
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                if (!board.getCell(row, col).hasMine() && !board.getCell(row, col).isRevealed()) {
+                    controller.makeMove(row, col);
+                }
+            }
+        }
+        return controller.isGameWon();
+    }
+
+    private static String render(Board board) {
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            builder.append(board.getCell(index).hasMine() ? '*' : board.getCell(index).isRevealed() ? 'o' : '.');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package com.filbertgoh.minesweeper.controller;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpectatorFeed class.
+ */
+public class SpectatorFeedTest {
+
+    private Board createBoard() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+        return board;
+    }
+
+    @Test
+    public void testKeyframeThenRunLengthDelta() {
+        Board board = createBoard();
+        SpectatorFeed feed = new SpectatorFeed(100);
+        SpectatorFeed.Subscription subscription = feed.subscribe(8, board);
+
+        assertEquals("{\"type\":\"keyframe\",\"seq\":0,\"rows\":3,\"cols\":3,\"cells\":\"_________\"}",
+                subscription.poll());
+
+        board.revealCell(2, 2);
+        feed.publishMove(board, board.copyLastRevealed(), false);
+
+        assertEquals("{\"type\":\"delta\",\"seq\":1,\"hitMine\":false,\"runs\":[[1,8]],\"values\":\"10110000\"}",
+                subscription.poll());
+        assertNull(subscription.poll());
+    }
+
+    @Test
+    public void testPeriodicKeyframe() {
+        Board board = createBoard();
+        SpectatorFeed feed = new SpectatorFeed(2);
+        SpectatorFeed.Subscription subscription = feed.subscribe(8, board);
+        subscription.poll();
+
+        board.revealCell(1, 1);
+        feed.publishMove(board, board.copyLastRevealed(), false);
+        board.revealCell(0, 0);
+        feed.publishMove(board, board.copyLastRevealed(), true);
+
+        assertTrue(subscription.poll().startsWith("{\"type\":\"delta\",\"seq\":1"));
+        assertEquals("{\"type\":\"keyframe\",\"seq\":2,\"rows\":3,\"cols\":3,\"cells\":\"*___1____\"}",
+                subscription.poll());
+    }
+
+    @Test
+    public void testSlowSubscriberDropsToKeyframe() {
+        Board board = createBoard();
+        SpectatorFeed feed = new SpectatorFeed(100);
+        SpectatorFeed.Subscription slow = feed.subscribe(1, board);
+        SpectatorFeed.Subscription fast = feed.subscribe(8, null);
+
+        // The slow subscriber's queue still holds the initial keyframe, so the first delta
+        // overflows it and the backlog is replaced by a keyframe of the current board
+        board.revealCell(1, 1);
+        feed.publishMove(board, board.copyLastRevealed(), false);
+        assertEquals("{\"type\":\"keyframe\",\"seq\":1,\"rows\":3,\"cols\":3,\"cells\":\"____1____\"}",
+                slow.poll());
+        assertNull(slow.poll());
+
+        // Once caught up it is back on deltas
+        board.revealCell(1, 2);
+        feed.publishMove(board, board.copyLastRevealed(), false);
+        assertTrue(slow.poll().startsWith("{\"type\":\"delta\",\"seq\":2"));
+        board.revealCell(0, 0);
+        feed.publishMove(board, board.copyLastRevealed(), true);
+        assertEquals("{\"type\":\"delta\",\"seq\":3,\"hitMine\":true,\"runs\":[[0,1]],\"values\":\"*\"}",
+                slow.poll());
+
+        // The fast subscriber joined without a board, so it starts from a keyframe
+        assertTrue(fast.poll().startsWith("{\"type\":\"keyframe\",\"seq\":1"));
+        assertTrue(fast.poll().startsWith("{\"type\":\"delta\",\"seq\":2"));
+        assertTrue(fast.poll().startsWith("{\"type\":\"delta\",\"seq\":3"));
+    }
+
+    @Test
+    public void testOverflowOnFinalMoveLeavesCurrentBoard() {
+        Board board = createBoard();
+        SpectatorFeed feed = new SpectatorFeed(100);
+        SpectatorFeed.Subscription slow = feed.subscribe(1, board);
+
+        // The winning move overflows the queue, and no further update will follow it
+        board.revealCell(2, 2);
+        feed.publishMove(board, board.copyLastRevealed(), false);
+
+        assertEquals("{\"type\":\"keyframe\",\"seq\":1,\"rows\":3,\"cols\":3,\"cells\":\"_10110000\"}",
+                slow.poll());
+        assertNull(slow.poll());
+    }
+
+    @Test
+    public void testClose() {
+        SpectatorFeed feed = new SpectatorFeed(10);
+        SpectatorFeed.Subscription subscription = feed.subscribe(4, null);
+        assertTrue(feed.hasSubscribers());
+
+        subscription.close();
+        assertFalse(feed.hasSubscribers());
+    }
+}
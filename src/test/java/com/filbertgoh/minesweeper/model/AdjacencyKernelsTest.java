@@ -0,0 +1,94 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the adjacency kernels, checked against the neighbour-by-neighbour count.
+ */
+public class AdjacencyKernelsTest {
+
+    private static final int[][] SIZES = {{1, 1}, {1, 70}, {70, 1}, {3, 3}, {9, 9}, {16, 30}, {63, 65}, {128, 257}};
+
+    private static Board randomBoard(int rows, int cols, double density, long seed) {
+        Board board = new Board(rows, cols, 1);
+        Random random = new Random(seed);
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (random.nextDouble() < density) {
+                board.getCell(index).setMine(true);
+            }
+        }
+        return board;
+    }
+
+    private static void assertMatchesNeighbourCount(Board board) {
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                int expected = 0;
+                if (!board.getCell(row, col).hasMine()) {
+                    for (Cell neighbour : board.getAdjacentCells(row, col)) {
+                        if (neighbour.hasMine()) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, board.getCell(row, col).getAdjacentMines(), "cell " + row + "," + col);
+            }
+        }
+    }
+
+    private static void assertKernelMatches(AdjacencyKernel kernel) {
+        long seed = 1;
+        for (int[] size : SIZES) {
+            for (double density : new double[] {0.0, 0.15, 0.5, 1.0}) {
+                Board board = randomBoard(size[0], size[1], density, seed++);
+                board.calculateAdjacentMines(kernel);
+                assertMatchesNeighbourCount(board);
+
+                Board reference = board.copy();
+                reference.calculateAdjacentMines();
+                for (int index = 0; index < board.getCellCount(); index++) {
+                    assertEquals(reference.getCell(index).getAdjacentMines(), board.getCell(index).getAdjacentMines());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testScalarKernelMatchesCalculateAdjacentMines() {
+        assertKernelMatches(AdjacencyKernels.scalar());
+    }
+
+    @Test
+    public void testVectorKernelMatchesCalculateAdjacentMines() {
+        assumeTrue(AdjacencyKernels.vector() != null, "Vector API kernel not available in this build");
+
+        assertKernelMatches(AdjacencyKernels.vector());
+    }
+
+    @Test
+    public void testLargeSquareBoardCountsMatch() {
+        // Large enough for calculateAdjacentMines to take the bulk path when the vector kernel is present
+        Board board = randomBoard(100, 100, 0.2, 7);
+        board.calculateAdjacentMines();
+
+        assertMatchesNeighbourCount(board);
+    }
+
+    @Test
+    public void testCountMines() {
+        Board board = randomBoard(40, 50, 0.3, 11);
+        int expected = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.getCell(index).hasMine()) {
+                expected++;
+            }
+        }
+
+        assertEquals(expected, board.countMines());
+    }
+}
@@ -3,7 +3,12 @@ package com.filbertgoh.minesweeper.model;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Unit tests for the Board class.
@@ -34,6 +39,14 @@ public class BoardTest {
         }
     }
 
+    @Test
+    public void testOversizedBoardIsRejected() {
+        // 65536 * 65536 overflows an int to 0
+        assertThrows(IllegalArgumentException.class, () -> new Board(65536, 65536, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Board(4097, 4096, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Board(-3, 3, 1));
+    }
+
     @Test
     public void testIsValidPosition() {
         Board board = new Board(3, 2);
@@ -85,6 +98,66 @@ public class BoardTest {
         assertEquals(5, adjacentCells.size());
     }
 
+    @Test
+    public void testForEachNeighbourMatchesAdjacentCells() {
+        for (Topology topology : new Topology[] {Topology.SQUARE, Topology.TORUS, Topology.HEX, Topology.KNIGHT}) {
+            Board board = new Board(5, 6, 1, topology);
+
+            for (int index = 0; index < board.getCellCount(); index++) {
+                int row = index / board.getCols();
+                int col = index % board.getCols();
+                List<Integer> expected = new ArrayList<>();
+                for (Cell cell : board.getAdjacentCells(row, col)) {
+                    expected.add(board.indexOf(cell.getRow(), cell.getCol()));
+                }
+
+                List<Integer> visited = new ArrayList<>();
+                board.forEachNeighbour(row, col, visited::add);
+                assertEquals(expected, visited, topology + " " + index);
+                visited.clear();
+                board.forEachNeighbour(index, visited::add);
+                assertEquals(expected, visited, topology + " " + index);
+                assertEquals(expected.size(), board.countNeighbours(index, neighbour -> true));
+            }
+        }
+    }
+
+    @Test
+    public void testCountNeighboursByState() {
+        Board board = new Board(3, 1);
+        board.getCell(2, 2).setMine(true);
+        board.calculateAdjacentMines();
+        board.revealCell(0, 0);
+
+        // Everything but the mine's corner opens
+        assertEquals(8, board.getRevealedCount());
+        assertEquals(7, board.countNeighbours(board.indexOf(1, 1), CellState.REVEALED));
+        assertEquals(1, board.countNeighbours(board.indexOf(1, 1), CellState.COVERED));
+        assertEquals(1, board.countNeighbours(board.indexOf(1, 1), neighbour -> board.getCell(neighbour).hasMine()));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.countNeighbours(9, CellState.COVERED));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.forEachNeighbour(3, 0, neighbour -> { }));
+    }
+
+    @Test
+    public void testForEachNeighbourAllowsRevealing() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+
+        // Revealing from inside the callback cascades without disturbing the walk
+        List<Integer> visited = new ArrayList<>();
+        board.forEachNeighbour(1, 1, neighbour -> {
+            visited.add(neighbour);
+            if (!board.getCell(neighbour).hasMine()) {
+                board.revealCell(neighbour / 3, neighbour % 3);
+            }
+        });
+
+        assertEquals(List.of(0, 1, 2, 3, 5, 6, 7, 8), visited);
+        assertEquals(8, board.getRevealedCount());
+        assertTrue(board.isGameWon());
+    }
+
     @Test
     public void testCalculateAdjacentMines() {
         Board board = new Board(3, 0);
@@ -213,4 +286,123 @@ public class BoardTest {
         board.revealCell(1,1); // Reveal one non-mine cell
         assertFalse(board.isGameWon());
     }
+
+    @Test
+    public void testLastRevealedAndCoverCells() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+
+        board.revealCell(2, 2); // Cascade opens all 8 non-mine cells
+        assertEquals(8, board.getLastRevealedCount());
+        int[] opened = board.copyLastRevealed();
+        assertEquals(8, opened.length);
+
+        board.coverCells(opened);
+        assertEquals(0, board.getRevealedCount());
+        assertTrue(board.getCell(2, 2).isCovered());
+
+        board.uncoverCells(opened);
+        assertEquals(8, board.getRevealedCount());
+        assertTrue(board.isGameWon());
+        assertTrue(board.getCell(0, 0).isCovered()); // Mine stays covered
+
+        board.revealCell(1, 1); // Already revealed, opens nothing
+        assertEquals(0, board.getLastRevealedCount());
+    }
+
+    @Test
+    public void testCopy() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+        board.setMineFingerprint(123L);
+        board.revealCell(1, 1);
+
+        Board copy = board.copy();
+        assertTrue(copy.getCell(0, 0).hasMine());
+        assertEquals(1, copy.getCell(1, 1).getAdjacentMines());
+        assertTrue(copy.getCell(1, 1).isRevealed());
+        assertEquals(1, copy.getRevealedCount());
+        assertEquals(123L, copy.getMineFingerprint());
+
+        copy.revealCell(2, 2);
+        assertTrue(board.getCell(2, 2).isCovered()); // Original is unaffected
+    }
+
+    @Test
+    public void testRectangularBoard() {
+        Board board = new Board(2, 5, 1);
+
+        assertEquals(2, board.getRows());
+        assertEquals(5, board.getCols());
+        assertEquals(10, board.getCellCount());
+        assertTrue(board.isValidPosition(1, 4));
+        assertFalse(board.isValidPosition(2, 0));
+        assertFalse(board.isValidPosition(0, 5));
+        assertSame(board.getCell(1, 3), board.getCell(board.indexOf(1, 3)));
+        assertEquals(8, board.indexOf(1, 3));
+        assertEquals(5, board.getAdjacentCells(0, 2).size());
+        assertEquals(3, board.getAdjacentCells(1, 4).size());
+    }
+
+    @Test
+    public void testRectangularRevealCascade() {
+        Board board = new Board(3, 6, 1);
+        board.getCell(0, 5).setMine(true);
+        board.calculateAdjacentMines();
+
+        // 0 0 0 0 1 x
+        // 0 0 0 0 1 1
+        // 0 0 0 0 0 0
+        assertEquals(1, board.getCell(0, 4).getAdjacentMines());
+        assertEquals(1, board.getCell(1, 5).getAdjacentMines());
+        assertEquals(0, board.getCell(2, 5).getAdjacentMines());
+
+        assertFalse(board.revealCell(2, 0));
+        assertEquals(17, board.getRevealedCount());
+        assertEquals(17, board.getLastRevealedCount());
+        assertTrue(board.getCell(0, 5).isCovered());
+        assertTrue(board.isGameWon());
+    }
+
+    @Test
+    public void testParallelRevealMatchesSequential() {
+        Board layout = new BoardGenerator(3L).generateBoard(600, 900, 5000, 300, 450);
+        Board sequential = layout.copy();
+        Board parallel = layout.copy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertFalse(sequential.revealCell(300, 450));
+            assertFalse(parallel.revealCell(300, 450, pool));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(sequential.getRevealedCount() > 100_000);
+        assertEquals(sequential.getRevealedCount(), parallel.getRevealedCount());
+        for (int index = 0; index < layout.getCellCount(); index++) {
+            assertEquals(sequential.getCell(index).getState(), parallel.getCell(index).getState());
+        }
+
+        int[] sequentialJournal = sequential.copyLastRevealed();
+        int[] parallelJournal = parallel.copyLastRevealed();
+        Arrays.sort(sequentialJournal);
+        Arrays.sort(parallelJournal);
+        assertArrayEquals(sequentialJournal, parallelJournal);
+    }
+
+    @Test
+    public void testParallelRevealSingleCell() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+
+        assertFalse(board.revealCell(1, 1, ForkJoinPool.commonPool()));
+        assertEquals(1, board.getRevealedCount());
+        assertTrue(board.revealCell(0, 0, ForkJoinPool.commonPool()));
+        assertFalse(board.revealCell(0, 0, ForkJoinPool.commonPool()));
+        assertEquals(0, board.getLastRevealedCount());
+    }
 }
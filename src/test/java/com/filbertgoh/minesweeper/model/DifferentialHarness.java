@@ -0,0 +1,234 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays replays through a reference engine and alternative engines in lockstep,
+ * comparing the complete board state after every move, and shrinks failing replays.
+ */
+final class DifferentialHarness {
+    private static final Topology[] TOPOLOGIES = {Topology.SQUARE, Topology.TORUS, Topology.HEX, Topology.KNIGHT};
+
+    /**
+     * The first difference found between an engine and the reference.
+     *
+     * @param engine The engine that disagreed
+     * @param move   The number of moves played when it disagreed, 0 for the initial layout
+     * @param detail What differed
+     */
+    record Divergence(String engine, int move, String detail) {
+    }
+
+    private final RevealEngine reference;
+    private final List<RevealEngine> alternatives;
+
+    /**
+     * Creates a harness.
+     *
+     * @param reference    The engine whose results are taken as correct
+     * @param alternatives The engines checked against it
+     */
+    DifferentialHarness(RevealEngine reference, List<RevealEngine> alternatives) {
+        this.reference = reference;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Generates a random replay. Most boards are small so many cases run quickly; a few
+     * are large enough to take the bulk adjacency and parallel reveal paths.
+     *
+     * @param random The source of randomness
+     * @return The replay
+     */
+    static Replay randomReplay(Random random) {
+        int roll = random.nextInt(100);
+        int maxSide = roll < 80 ? 24 : roll < 97 ? 96 : 320;
+        int rows = 1 + random.nextInt(maxSide);
+        int cols = 1 + random.nextInt(maxSide);
+        int cells = rows * cols;
+        Topology topology = TOPOLOGIES[random.nextInt(TOPOLOGIES.length)];
+
+        double density = random.nextDouble() * 0.4;
+        int[] mines = random.ints(0, cells).limit((long) (cells * density)).distinct().sorted().toArray();
+        int[] moves = random.ints(0, cells).limit(1 + random.nextInt(Math.min(cells, 40))).toArray();
+        return new Replay(topology, rows, cols, mines, moves);
+    }
+
+    /**
+     * Plays a replay through every engine.
+     *
+     * @param replay The replay
+     * @return The first divergence, or null if every engine agreed with the reference throughout
+     */
+    Divergence run(Replay replay) {
+        return run(replay, null);
+    }
+
+    /**
+     * Plays a replay through one engine, or through all of them.
+     *
+     * @param replay     The replay
+     * @param onlyEngine The name of the engine to check, or null for all
+     * @return The first divergence, or null if the engines agreed throughout
+     */
+    Divergence run(Replay replay, String onlyEngine) {
+        RevealEngine.Session expected = reference.start(replay);
+        List<RevealEngine> engines = alternatives.stream()
+                .filter(engine -> onlyEngine == null || engine.name().equals(onlyEngine))
+                .filter(engine -> engine.supports(replay))
+                .toList();
+        RevealEngine.Session[] sessions = new RevealEngine.Session[engines.size()];
+
+        for (int i = 0; i < sessions.length; i++) {
+            try {
+                sessions[i] = engines.get(i).start(replay);
+            } catch (RuntimeException e) {
+                return new Divergence(engines.get(i).name(), 0, "threw " + e);
+            }
+            String difference = compare(expected.board(), sessions[i].board(), false);
+            if (difference != null) {
+                return new Divergence(engines.get(i).name(), 0, difference);
+            }
+        }
+
+        int[] moves = replay.moves();
+        for (int move = 0; move < moves.length; move++) {
+            int row = moves[move] / replay.cols();
+            int col = moves[move] % replay.cols();
+            boolean hitMine = expected.reveal(row, col);
+
+            for (int i = 0; i < sessions.length; i++) {
+                RevealEngine engine = engines.get(i);
+                boolean actual;
+                try {
+                    actual = sessions[i].reveal(row, col);
+                } catch (RuntimeException e) {
+                    return new Divergence(engine.name(), move + 1, "threw " + e);
+                }
+
+                String difference = actual != hitMine
+                        ? "reported hitMine=" + actual + ", expected " + hitMine
+                        : compare(expected.board(), sessions[i].board(), engine.keepsJournal());
+                if (difference != null) {
+                    return new Divergence(engine.name(), move + 1, difference);
+                }
+            }
+
+            if (hitMine) {
+                break;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Shrinks a failing replay to a smaller one that still makes the same engine fail.
+     * Drops trailing moves, then single moves, mines, and outer rows and columns,
+     * repeating until nothing more can be removed.
+     *
+     * @param replay     The failing replay
+     * @param divergence The failure it produced
+     * @return The smallest failing replay found
+     */
+    Replay shrink(Replay replay, Divergence divergence) {
+        String engine = divergence.engine();
+        Replay current = replay.withMoves(Math.min(replay.moves().length, divergence.move()));
+        if (run(current, engine) == null) {
+            current = replay;
+        }
+
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+
+            for (int i = current.moves().length - 1; i >= 0; i--) {
+                Replay candidate = current.withoutMove(i);
+                if (run(candidate, engine) != null) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+
+            for (int i = current.mines().length - 1; i >= 0; i--) {
+                Replay candidate = current.withoutMine(i);
+                if (run(candidate, engine) != null) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+
+            Replay[] crops = {
+                    current.rows() > 1 ? current.cropped(0, 0, current.rows() - 1, current.cols()) : null,
+                    current.rows() > 1 ? current.cropped(1, 0, current.rows() - 1, current.cols()) : null,
+                    current.cols() > 1 ? current.cropped(0, 0, current.rows(), current.cols() - 1) : null,
+                    current.cols() > 1 ? current.cropped(0, 1, current.rows(), current.cols() - 1) : null
+            };
+            for (Replay candidate : crops) {
+                if (candidate != null && run(candidate, engine) != null) {
+                    current = candidate;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Compares every observable part of two boards.
+     *
+     * @param expected     The reference board
+     * @param actual       The engine's board
+     * @param checkJournal Whether to compare the cells opened by the last reveal
+     * @return A description of the first difference, or null if the boards match
+     */
+    private static String compare(Board expected, Board actual, boolean checkJournal) {
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            Cell want = expected.getCell(index);
+            Cell got = actual.getCell(index);
+            if (want.hasMine() != got.hasMine()
+                    || want.getAdjacentMines() != got.getAdjacentMines()
+                    || want.getState() != got.getState()) {
+                return "cell " + index + " is " + describe(got) + ", expected " + describe(want);
+            }
+        }
+
+        if (expected.getRevealedCount() != actual.getRevealedCount()) {
+            return "revealed count " + actual.getRevealedCount() + ", expected " + expected.getRevealedCount();
+        }
+        if (expected.isGameWon() != actual.isGameWon()) {
+            return "isGameWon " + actual.isGameWon() + ", expected " + expected.isGameWon();
+        }
+
+        TileSummary want = expected.getTileSummary();
+        TileSummary got = actual.getTileSummary();
+        for (int tileRow = 0; tileRow < want.getTileRows(); tileRow++) {
+            for (int tileCol = 0; tileCol < want.getTileCols(); tileCol++) {
+                if (want.getRevealed(tileRow, tileCol) != got.getRevealed(tileRow, tileCol)) {
+                    return "tile " + tileRow + "," + tileCol + " has " + got.getRevealed(tileRow, tileCol)
+                            + " revealed, expected " + want.getRevealed(tileRow, tileCol);
+                }
+            }
+        }
+
+        if (checkJournal) {
+            int[] wantJournal = expected.copyLastRevealed();
+            int[] gotJournal = actual.copyLastRevealed();
+            Arrays.sort(wantJournal);
+            Arrays.sort(gotJournal);
+            if (!Arrays.equals(wantJournal, gotJournal)) {
+                return "last reveal opened " + gotJournal.length + " cells, expected " + wantJournal.length;
+            }
+        }
+
+        return null;
+    }
+
+    private static String describe(Cell cell) {
+        return cell.getState() + (cell.hasMine() ? " mine" : " " + cell.getAdjacentMines());
+    }
+}
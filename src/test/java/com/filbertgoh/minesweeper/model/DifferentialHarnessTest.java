@@ -0,0 +1,115 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DifferentialHarness class, using engines that are known to be wrong.
+ */
+public class DifferentialHarnessTest {
+
+    /**
+     * An engine whose reveals never cascade: only the clicked cell stays open.
+     */
+    private static final RevealEngine NO_CASCADE = new RevealEngine() {
+        @Override
+        public String name() {
+            return "no-cascade";
+        }
+
+        @Override
+        public Session start(Replay replay) {
+            Board board = replay.layout();
+            board.calculateAdjacentMines();
+            return new Session() {
+                @Override
+                public boolean reveal(int row, int col) {
+                    boolean hitMine = board.revealCell(row, col);
+                    int clicked = board.indexOf(row, col);
+                    board.coverCells(Arrays.stream(board.copyLastRevealed())
+                            .filter(index -> index != clicked).toArray());
+                    return hitMine;
+                }
+
+                @Override
+                public Board board() {
+                    return board;
+                }
+            };
+        }
+    };
+
+    @Test
+    public void testReferenceAgreesWithItself() {
+        DifferentialHarness harness = new DifferentialHarness(RevealEngine.reference(), List.of(RevealEngine.reference()));
+        Random random = new Random(3);
+
+        for (int i = 0; i < 200; i++) {
+            Replay replay = DifferentialHarness.randomReplay(random);
+            assertNull(harness.run(replay), replay.toText());
+        }
+    }
+
+    @Test
+    public void testDivergenceIsReportedAtTheFailingMove() {
+        DifferentialHarness harness = new DifferentialHarness(RevealEngine.reference(), List.of(NO_CASCADE));
+        // The first click opens a numbered cell; the second cascades from the far corner
+        Replay replay = new Replay(Topology.SQUARE, 3, 3, new int[] {8}, new int[] {7, 0});
+
+        DifferentialHarness.Divergence divergence = harness.run(replay);
+
+        assertNotNull(divergence);
+        assertEquals("no-cascade", divergence.engine());
+        assertEquals(2, divergence.move());
+    }
+
+    @Test
+    public void testShrinkFindsMinimalReplay() {
+        DifferentialHarness harness = new DifferentialHarness(RevealEngine.reference(), List.of(NO_CASCADE));
+        Random random = new Random(11);
+        Replay failing;
+        DifferentialHarness.Divergence divergence;
+        do {
+            failing = DifferentialHarness.randomReplay(random);
+            divergence = harness.run(failing);
+        } while (divergence == null || failing.topology() != Topology.SQUARE);
+
+        Replay minimal = harness.shrink(failing, divergence);
+
+        // A cascade needs two cells, no mines and one click
+        assertEquals(2, minimal.rows() * minimal.cols());
+        assertEquals(0, minimal.mines().length);
+        assertEquals(1, minimal.moves().length);
+        assertNotNull(harness.run(minimal));
+    }
+
+    @Test
+    public void testReplayTextRoundTrip() {
+        Replay replay = new Replay(Topology.HEX, 4, 7, new int[] {1, 5, 20}, new int[] {0, 27, 3});
+
+        Replay parsed = Replay.fromText(replay.toText());
+
+        assertSame(Topology.HEX, parsed.topology());
+        assertEquals(4, parsed.rows());
+        assertEquals(7, parsed.cols());
+        assertArrayEquals(replay.mines(), parsed.mines());
+        assertArrayEquals(replay.moves(), parsed.moves());
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromText("size=3x3\n"));
+    }
+
+    @Test
+    public void testCroppingRemapsIndices() {
+        Replay replay = new Replay(Topology.SQUARE, 3, 3, new int[] {0, 4, 8}, new int[] {5});
+
+        Replay cropped = replay.cropped(1, 1, 2, 2);
+
+        // Centre (1,1) becomes (0,0); corner (2,2) becomes (1,1); (1,2) becomes (0,1)
+        assertArrayEquals(new int[] {0, 3}, cropped.mines());
+        assertArrayEquals(new int[] {1}, cropped.moves());
+    }
+}
@@ -0,0 +1,191 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.util.GameConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EndlessBoard class.
+ */
+public class EndlessBoardTest {
+    private static final int REGION = 3 * EndlessBoard.CHUNK_SIZE;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testMinesAreDeterminedBySeed() {
+        EndlessBoard board = new EndlessBoard(7L, 0.2, 4, tempDir.resolve("a"));
+        EndlessBoard same = new EndlessBoard(7L, 0.2, 4, tempDir.resolve("b"));
+        EndlessBoard other = new EndlessBoard(8L, 0.2, 4, tempDir.resolve("c"));
+
+        int mines = 0;
+        int differences = 0;
+        for (int row = -REGION; row < REGION; row++) {
+            for (int col = -REGION; col < REGION; col++) {
+                assertEquals(board.hasMine(row, col), same.hasMine(row, col));
+                if (board.hasMine(row, col)) {
+                    mines++;
+                }
+                if (board.hasMine(row, col) != other.hasMine(row, col)) {
+                    differences++;
+                }
+            }
+        }
+
+        double cells = 4.0 * REGION * REGION;
+        assertEquals(0.2, mines / cells, 0.02);
+        assertTrue(differences > cells / 10);
+        // The cells around the origin are always safe, so the first click opens
+        assertEquals(0, board.getAdjacentMines(0, 0));
+        assertEquals(0, board.getResidentChunkCount());
+    }
+
+    @Test
+    public void testCascadeCrossesChunks() {
+        EndlessBoard board = new EndlessBoard(3L, GameConfig.ENDLESS_MIN_DENSITY, 64, tempDir);
+
+        assertFalse(board.revealCell(0, 0));
+
+        // The origin sits on the corner of four chunks
+        assertTrue(board.isRevealed(-1, -1));
+        assertTrue(board.isRevealed(1, 1));
+        assertTrue(board.getRevealedCount() >= 9);
+        assertConsistent(board);
+    }
+
+    @Test
+    public void testEvictedChunksAreReadBack() throws IOException {
+        EndlessBoard roomy = new EndlessBoard(11L, 0.2, 1024, tempDir.resolve("roomy"));
+        EndlessBoard tight = new EndlessBoard(11L, 0.2, 2, tempDir.resolve("tight"));
+        List<int[]> moves = List.of(new int[] {0, 0}, new int[] {-40, 70}, new int[] {90, -15},
+                new int[] {-75, -80}, new int[] {60, 60});
+
+        for (int[] move : moves) {
+            for (int row = move[0] - 4; row <= move[0] + 4; row++) {
+                for (int col = move[1] - 4; col <= move[1] + 4; col++) {
+                    if (!roomy.hasMine(row, col)) {
+                        roomy.revealCell(row, col);
+                        tight.revealCell(row, col);
+                    }
+                }
+            }
+        }
+
+        assertTrue(tight.getResidentChunkCount() <= 2);
+        assertTrue(tight.getSpilledChunkCount() > 0);
+        assertEquals(roomy.getRevealedCount(), tight.getRevealedCount());
+        for (int row = -REGION; row < REGION; row++) {
+            for (int col = -REGION; col < REGION; col++) {
+                assertEquals(roomy.isRevealed(row, col), tight.isRevealed(row, col), row + "," + col);
+            }
+        }
+        assertTrue(tight.getResidentChunkCount() <= 2);
+
+        try (Stream<Path> files = Files.list(tempDir.resolve("tight"))) {
+            for (Path file : files.toList()) {
+                long size = Files.size(file);
+                assertTrue(size == 1 || size == 129, file + " has " + size + " bytes");
+            }
+        }
+        tight.close();
+        try (Stream<Path> files = Files.list(tempDir.resolve("tight"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testStaleChunkFilesAreCleared() throws IOException {
+        Path spill = tempDir.resolve("spill");
+        EndlessBoard first = new EndlessBoard(11L, 0.2, 1, spill);
+        first.revealCell(0, 0);
+        first.isRevealed(100, 100);
+        assertTrue(first.getSpilledChunkCount() > 0);
+
+        // A crashed game leaves its chunks behind; a new board must not read them as its own
+        EndlessBoard second = new EndlessBoard(12L, 0.2, 1, spill);
+        try (Stream<Path> files = Files.list(spill)) {
+            assertEquals(0, files.count());
+        }
+        assertFalse(second.isRevealed(-1, -1));
+        assertEquals(0, second.getRevealedCount());
+    }
+
+    @Test
+    public void testCorruptChunkFileIsAnIoError() throws IOException {
+        EndlessBoard board = new EndlessBoard(11L, 0.2, 1, tempDir);
+        board.revealCell(0, 0);
+        board.isRevealed(100, 100);
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path file : files.toList()) {
+                Files.write(file, new byte[] {9, 9, 9});
+            }
+        }
+        assertThrows(UncheckedIOException.class, () -> board.isRevealed(-1, -1));
+    }
+
+    @Test
+    public void testMineEndsTheGame() {
+        EndlessBoard board = new EndlessBoard(5L, 0.3, 8, tempDir);
+        int row = 10;
+        int col = 0;
+        while (!board.hasMine(row, col)) {
+            col++;
+        }
+
+        assertTrue(board.revealCell(row, col));
+        assertTrue(board.isDetonated(row, col));
+        assertFalse(board.isRevealed(row, col));
+        assertEquals(0, board.getRevealedCount());
+    }
+
+    @Test
+    public void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new EndlessBoard(1L, 0.05, 8, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new EndlessBoard(1L, 0.9, 8, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> new EndlessBoard(1L, 0.2, 0, tempDir));
+
+        EndlessBoard board = new EndlessBoard(1L, 0.2, 8, tempDir);
+        int beyond = GameConfig.ENDLESS_COORDINATE_LIMIT + 1;
+        assertThrows(IndexOutOfBoundsException.class, () -> board.revealCell(beyond, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.isRevealed(0, -beyond));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.getAdjacentMines(Integer.MAX_VALUE, 0));
+    }
+
+    /**
+     * Checks that no mine is revealed and every revealed empty cell has all its neighbours
+     * revealed, across the region around the origin.
+     *
+     * @param board The board to check
+     */
+    private static void assertConsistent(EndlessBoard board) {
+        long revealed = 0;
+        for (int row = -REGION; row < REGION; row++) {
+            for (int col = -REGION; col < REGION; col++) {
+                if (!board.isRevealed(row, col)) {
+                    continue;
+                }
+                revealed++;
+                assertFalse(board.hasMine(row, col));
+                if (board.getAdjacentMines(row, col) == 0) {
+                    for (int r = row - 1; r <= row + 1; r++) {
+                        for (int c = col - 1; c <= col + 1; c++) {
+                            assertTrue(board.isRevealed(r, c), r + "," + c + " next to " + row + "," + col);
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(board.getRevealedCount(), revealed);
+    }
+}
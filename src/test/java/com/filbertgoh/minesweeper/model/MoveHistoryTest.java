@@ -0,0 +1,66 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MoveHistory class.
+ */
+public class MoveHistoryTest {
+
+    @Test
+    public void testUndoRedo() {
+        MoveHistory history = new MoveHistory(4);
+        int[] first = {0, 1};
+        int[] second = {5};
+
+        assertFalse(history.canUndo());
+        assertNull(history.undo());
+
+        history.record(first);
+        history.record(second);
+
+        assertSame(second, history.undo());
+        assertSame(first, history.undo());
+        assertNull(history.undo());
+
+        assertSame(first, history.redo());
+        assertSame(second, history.redo());
+        assertNull(history.redo());
+    }
+
+    @Test
+    public void testRecordDiscardsRedo() {
+        MoveHistory history = new MoveHistory(4);
+        history.record(new int[]{0});
+        history.record(new int[]{1});
+        history.undo();
+
+        int[] replacement = {2};
+        history.record(replacement);
+
+        assertFalse(history.canRedo());
+        assertSame(replacement, history.undo());
+    }
+
+    @Test
+    public void testCapacityDropsOldestMoves() {
+        MoveHistory history = new MoveHistory(2);
+        int[] first = {0};
+        int[] second = {1};
+        int[] third = {2};
+
+        history.record(first);
+        history.record(second);
+        history.record(third);
+
+        assertSame(third, history.undo());
+        assertSame(second, history.undo());
+        assertNull(history.undo()); // first was dropped
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MoveHistory(0));
+    }
+}
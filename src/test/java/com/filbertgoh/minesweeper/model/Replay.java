@@ -0,0 +1,149 @@
+package com.filbertgoh.minesweeper.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A reproducible reveal scenario: a board layout and the cells clicked, in order.
+ * Replays are saved as small text files so a failing fuzz case can be re-run on its own.
+ *
+ * @param topology The board topology
+ * @param rows     The number of rows
+ * @param cols     The number of columns
+ * @param mines    The linear indices of the mines
+ * @param moves    The linear indices of the cells revealed, in order
+ */
+record Replay(Topology topology, int rows, int cols, int[] mines, int[] moves) {
+
+    /**
+     * Builds the board layout with mines placed and no adjacency counts yet.
+     *
+     * @return A new board
+     */
+    Board layout() {
+        Board board = new Board(rows, cols, mines.length, topology);
+        for (int index : mines) {
+            board.getCell(index).setMine(true);
+        }
+        return board;
+    }
+
+    /**
+     * Keeps only the first moves.
+     *
+     * @param count The number of moves to keep
+     * @return The shortened replay
+     */
+    Replay withMoves(int count) {
+        return new Replay(topology, rows, cols, mines, Arrays.copyOf(moves, count));
+    }
+
+    /**
+     * Drops one move.
+     *
+     * @param position The position of the move in the sequence
+     * @return The replay without that move
+     */
+    Replay withoutMove(int position) {
+        return new Replay(topology, rows, cols, mines, remove(moves, position));
+    }
+
+    /**
+     * Drops one mine.
+     *
+     * @param position The position of the mine in the mine list
+     * @return The replay without that mine
+     */
+    Replay withoutMine(int position) {
+        return new Replay(topology, rows, cols, remove(mines, position), moves);
+    }
+
+    /**
+     * Crops the board to a smaller rectangle, dropping mines and moves that fall outside it.
+     *
+     * @param firstRow The first row kept
+     * @param firstCol The first column kept
+     * @param newRows  The number of rows kept
+     * @param newCols  The number of columns kept
+     * @return The cropped replay
+     */
+    Replay cropped(int firstRow, int firstCol, int newRows, int newCols) {
+        return new Replay(topology, newRows, newCols,
+                crop(mines, firstRow, firstCol, newRows, newCols),
+                crop(moves, firstRow, firstCol, newRows, newCols));
+    }
+
+    /**
+     * Formats the replay as text.
+     *
+     * @return The replay file contents
+     */
+    String toText() {
+        return "topology=" + topology.getName() + "\n"
+                + "size=" + rows + "x" + cols + "\n"
+                + "mines=" + join(mines) + "\n"
+                + "moves=" + join(moves) + "\n";
+    }
+
+    /**
+     * Parses a replay written by {@link #toText()}.
+     *
+     * @param text The replay file contents
+     * @return The replay
+     * @throws IllegalArgumentException if the text is not a valid replay
+     */
+    static Replay fromText(String text) {
+        Map<String, String> fields = new HashMap<>();
+        for (String line : text.split("\n")) {
+            int equals = line.indexOf('=');
+            if (equals > 0) {
+                fields.put(line.substring(0, equals).trim(), line.substring(equals + 1).trim());
+            }
+        }
+
+        String size = fields.get("size");
+        if (size == null || !fields.containsKey("topology") || !fields.containsKey("mines") || !fields.containsKey("moves")) {
+            throw new IllegalArgumentException("Replay needs topology, size, mines and moves");
+        }
+        String[] dimensions = size.split("x");
+        return new Replay(Topology.forName(fields.get("topology")),
+                Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]),
+                split(fields.get("mines")), split(fields.get("moves")));
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+    private int[] crop(int[] indices, int firstRow, int firstCol, int newRows, int newCols) {
+        List<Integer> kept = new ArrayList<>();
+        for (int index : indices) {
+            int row = index / cols - firstRow;
+            int col = index % cols - firstCol;
+            if (row >= 0 && row < newRows && col >= 0 && col < newCols) {
+                kept.add(row * newCols + col);
+            }
+        }
+        return kept.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] remove(int[] values, int position) {
+        int[] result = new int[values.length - 1];
+        System.arraycopy(values, 0, result, 0, position);
+        System.arraycopy(values, position + 1, result, position, values.length - position - 1);
+        return result;
+    }
+
+    private static String join(int[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static int[] split(String values) {
+        return values.isEmpty() ? new int[0] : Arrays.stream(values.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+}
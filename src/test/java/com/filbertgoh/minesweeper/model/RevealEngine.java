@@ -0,0 +1,230 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.service.BoardCodec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * A way of computing adjacency counts and revealing cells, run side by side with the
+ * reference engine by {@link DifferentialHarness}.
+ */
+interface RevealEngine {
+
+    /**
+     * One game played by an engine.
+     */
+    interface Session {
+
+        /**
+         * Reveals a cell.
+         *
+         * @param row The row position
+         * @param col The column position
+         * @return true if the cell has a mine else false
+         */
+        boolean reveal(int row, int col);
+
+        /**
+         * Gets the board in its current state.
+         *
+         * @return The board
+         */
+        Board board();
+    }
+
+    /**
+     * Gets the name used in failure reports.
+     *
+     * @return The engine name
+     */
+    String name();
+
+    /**
+     * Checks if the engine can play a replay, for engines limited to some topologies.
+     *
+     * @param replay The replay
+     * @return true if the engine can play it
+     */
+    default boolean supports(Replay replay) {
+        return true;
+    }
+
+    /**
+     * Whether the engine records a reveal journal that should match the reference.
+     *
+     * @return true if {@link Board#copyLastRevealed()} is meaningful for this engine
+     */
+    default boolean keepsJournal() {
+        return true;
+    }
+
+    /**
+     * Starts a game on the replay's layout.
+     *
+     * @param replay The replay
+     * @return The new session
+     */
+    Session start(Replay replay);
+
+    /**
+     * The reference: adjacency counted cell by cell from the neighbour list, and the
+     * sequential cascade of {@link Board#revealCell(int, int)}.
+     *
+     * @return The reference engine
+     */
+    static RevealEngine reference() {
+        return simple("reference", replay -> {
+            Board board = replay.layout();
+            for (int index = 0; index < board.getCellCount(); index++) {
+                Cell cell = board.getCell(index);
+                int count = 0;
+                if (!cell.hasMine()) {
+                    for (Cell neighbour : board.getAdjacentCells(index / board.getCols(), index % board.getCols())) {
+                        if (neighbour.hasMine()) {
+                            count++;
+                        }
+                    }
+                }
+                cell.setAdjacentMines(count);
+            }
+            return board;
+        });
+    }
+
+    /**
+     * Gets every alternative engine available in this build.
+     *
+     * @param pool The pool for the parallel engines
+     * @return The alternative engines
+     */
+    static List<RevealEngine> alternatives(ForkJoinPool pool) {
+        List<RevealEngine> engines = new ArrayList<>();
+        engines.add(simple("calculateAdjacentMines", RevealEngine::calculated));
+        engines.add(kernel("scalar-kernel", AdjacencyKernels.scalar()));
+        if (AdjacencyKernels.vector() != null) {
+            engines.add(kernel("vector-kernel", AdjacencyKernels.vector()));
+        }
+        engines.add(new RevealEngine() {
+            @Override
+            public String name() {
+                return "parallel-reveal";
+            }
+
+            @Override
+            public Session start(Replay replay) {
+                Board board = calculated(replay);
+                return session(board, (row, col) -> board.revealCell(row, col, pool));
+            }
+        });
+        engines.add(new RevealEngine() {
+            @Override
+            public String name() {
+                return "shared-board";
+            }
+
+            @Override
+            public boolean keepsJournal() {
+                return false;
+            }
+
+            @Override
+            public Session start(Replay replay) {
+                Board board = new SharedBoard(calculated(replay));
+                return session(board, board::revealCell);
+            }
+        });
+        engines.add(new RevealEngine() {
+            @Override
+            public String name() {
+                return "codec-round-trip";
+            }
+
+            @Override
+            public Session start(Replay replay) {
+                BoardCodec codec = new BoardCodec();
+                Board[] current = {calculated(replay)};
+                return new Session() {
+                    @Override
+                    public boolean reveal(int row, int col) {
+                        current[0] = codec.decode(ByteBuffer.wrap(codec.encode(current[0])), replay.topology());
+                        return current[0].revealCell(row, col);
+                    }
+
+                    @Override
+                    public Board board() {
+                        return current[0];
+                    }
+                };
+            }
+        });
+        return engines;
+    }
+
+    private static Board calculated(Replay replay) {
+        Board board = replay.layout();
+        board.calculateAdjacentMines();
+        return board;
+    }
+
+    private static RevealEngine kernel(String name, AdjacencyKernel kernel) {
+        return new RevealEngine() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean supports(Replay replay) {
+                return replay.topology() == Topology.SQUARE;
+            }
+
+            @Override
+            public Session start(Replay replay) {
+                Board board = replay.layout();
+                board.calculateAdjacentMines(kernel);
+                return session(board, board::revealCell);
+            }
+        };
+    }
+
+    private static RevealEngine simple(String name, Function<Replay, Board> setup) {
+        return new RevealEngine() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Session start(Replay replay) {
+                Board board = setup.apply(replay);
+                return session(board, board::revealCell);
+            }
+        };
+    }
+
+    private static Session session(Board board, Reveal reveal) {
+        return new Session() {
+            @Override
+            public boolean reveal(int row, int col) {
+                return reveal.reveal(row, col);
+            }
+
+            @Override
+            public Board board() {
+                return board;
+            }
+        };
+    }
+
+    /**
+     * A reveal call on a particular board.
+     */
+    @FunctionalInterface
+    interface Reveal {
+        boolean reveal(int row, int col);
+    }
+}
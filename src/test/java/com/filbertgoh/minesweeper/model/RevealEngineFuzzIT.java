@@ -0,0 +1,108 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential fuzzing of the reveal engines for a fixed time budget, run by
+ * {@code mvn -Pfuzz verify}. Every worker thread plays random seeded replays through
+ * the reference and alternative engines; the first divergence is shrunk and saved to
+ * {@code target/fuzz-replays}. A saved replay can be re-run with {@code -Dfuzz.replay=<file>}.
+ */
+public class RevealEngineFuzzIT {
+
+    private ForkJoinPool pool;
+    private DifferentialHarness harness;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        harness = new DifferentialHarness(RevealEngine.reference(), RevealEngine.alternatives(pool));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testEnginesAgreeWithReference() throws Exception {
+        String replayFile = System.getProperty("fuzz.replay", "");
+        if (!replayFile.isBlank()) {
+            Replay replay = Replay.fromText(Files.readString(Path.of(replayFile)));
+            DifferentialHarness.Divergence divergence = harness.run(replay);
+            if (divergence != null) {
+                fail(divergence + "\n" + replay.toText());
+            }
+            return;
+        }
+
+        long budgetNanos = Long.getLong("fuzz.seconds", 30) * 1_000_000_000L;
+        long seed = Long.getLong("fuzz.seed", System.nanoTime());
+        long deadline = System.nanoTime() + budgetNanos;
+        AtomicLong nextCase = new AtomicLong();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline && failure.get() == null) {
+                    long caseNumber = nextCase.getAndIncrement();
+                    Replay replay = DifferentialHarness.randomReplay(new Random(seed + caseNumber));
+                    DifferentialHarness.Divergence divergence = harness.run(replay);
+                    if (divergence != null && failure.compareAndSet(null, "pending")) {
+                        failure.set(report(caseNumber, replay, divergence));
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        System.out.println("Fuzzed " + nextCase.get() + " replays from seed " + seed);
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+
+    /**
+     * Shrinks a failing replay, saves it and describes the failure.
+     *
+     * @param caseNumber The case that failed
+     * @param replay     The failing replay
+     * @param divergence The first divergence it produced
+     * @return The failure message
+     */
+    private String report(long caseNumber, Replay replay, DifferentialHarness.Divergence divergence) throws IOException {
+        Replay minimal = harness.shrink(replay, divergence);
+        DifferentialHarness.Divergence minimalDivergence = harness.run(minimal, divergence.engine());
+
+        Path directory = Files.createDirectories(Path.of("target", "fuzz-replays"));
+        Path file = directory.resolve(divergence.engine() + "-" + caseNumber + ".replay");
+        Files.writeString(file, minimal.toText());
+
+        return divergence.engine() + " diverged at move " + minimalDivergence.move() + ": "
+                + minimalDivergence.detail() + "\nMinimal replay saved to " + file + ":\n" + minimal.toText();
+    }
+}
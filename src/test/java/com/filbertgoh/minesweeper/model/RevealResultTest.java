@@ -0,0 +1,107 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for the RevealResult class.
+ */
+public class RevealResultTest {
+
+    /**
+     * Builds a 10x10 board with a single mine in the bottom-right corner.
+     */
+    private Board cornerMineBoard() {
+        Board board = new Board(10, 10, 1);
+        board.getCell(9, 9).setMine(true);
+        board.calculateAdjacentMines();
+        return board;
+    }
+
+    @Test
+    public void testCascadeFillsResult() {
+        Board board = cornerMineBoard();
+        RevealResult result = new RevealResult();
+
+        assertSame(result, board.revealCell(0, 0, result));
+
+        assertFalse(result.hitMine());
+        assertEquals(99, result.getOpenedCount());
+        assertEquals(0, result.getOpened(0));
+        int[] opened = result.copyOpened();
+        Arrays.sort(opened);
+        assertEquals(99, opened.length);
+        assertEquals(98, opened[98]);
+        assertTrue(board.isGameWon());
+    }
+
+    @Test
+    public void testSharedBoardReportsOpenedCells() {
+        SharedBoard board = new SharedBoard(cornerMineBoard());
+        RevealResult result = new RevealResult();
+
+        board.revealCell(0, 0, ForkJoinPool.commonPool(), result);
+
+        assertFalse(result.hitMine());
+        assertEquals(99, result.getOpenedCount());
+        assertEquals(0, result.getOpened(0));
+        assertTrue(board.isGameWon());
+
+        board.revealCell(5, 5, result);
+        assertEquals(0, result.getOpenedCount());
+        board.revealCell(9, 9, result);
+        assertTrue(result.hitMine());
+        assertEquals(1, result.getOpenedCount());
+        assertEquals(99, result.getOpened(0));
+    }
+
+    @Test
+    public void testBufferIsReusedOnceLargeEnough() {
+        RevealResult result = new RevealResult(100);
+        int[] buffer = result.getOpenedBuffer();
+
+        cornerMineBoard().revealCell(0, 0, result);
+        cornerMineBoard().revealCell(0, 0, result);
+
+        assertSame(buffer, result.getOpenedBuffer());
+        assertEquals(99, result.getOpenedCount());
+    }
+
+    @Test
+    public void testRevealedCellAndMine() {
+        Board board = cornerMineBoard();
+        RevealResult result = new RevealResult(0);
+
+        board.revealCell(9, 8, result);
+        assertEquals(1, result.getOpenedCount());
+        assertEquals(98, result.getOpened(0));
+
+        board.revealCell(9, 8, result);
+        assertEquals(0, result.getOpenedCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getOpened(0));
+
+        board.revealCell(9, 9, result);
+        assertTrue(result.hitMine());
+        assertEquals(1, result.getOpenedCount());
+    }
+
+    @Test
+    public void testParallelRevealMatchesSequential() {
+        RevealResult sequential = cornerMineBoard().revealCell(4, 4, new RevealResult());
+        RevealResult parallel = cornerMineBoard().revealCell(4, 4, ForkJoinPool.commonPool(), new RevealResult());
+
+        int[] expected = sequential.copyOpened();
+        int[] actual = parallel.copyOpened();
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testNegativeCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RevealResult(-1));
+    }
+}
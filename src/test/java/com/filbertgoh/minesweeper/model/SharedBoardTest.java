@@ -0,0 +1,98 @@
+package com.filbertgoh.minesweeper.model;
+
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SharedBoard class.
+ */
+public class SharedBoardTest {
+
+    @Test
+    public void testCopiesLayoutAndRevealState() {
+        Board layout = new Board(3, 1);
+        layout.getCell(0, 0).setMine(true);
+        layout.calculateAdjacentMines();
+        layout.revealCell(1, 1);
+
+        SharedBoard board = new SharedBoard(layout);
+
+        assertTrue(board.getCell(0, 0).hasMine());
+        assertTrue(board.getCell(1, 1).isRevealed());
+        assertEquals(1, board.getRevealedCount());
+
+        assertFalse(board.revealCell(2, 2));
+        assertEquals(8, board.getRevealedCount());
+        assertTrue(board.isGameWon());
+        assertTrue(board.revealCell(0, 0));
+    }
+
+    @Test
+    public void testConcurrentRevealsMatchSequential() throws Exception {
+        Board layout = new BoardGenerator(11L).generateBoard(200, 300, 2000);
+        Board sequential = layout.copy();
+        SharedBoard shared = new SharedBoard(layout);
+
+        Random random = new Random(5L);
+        int[] clicks = new int[4000];
+        for (int i = 0; i < clicks.length; i++) {
+            clicks[i] = random.nextInt(layout.getCellCount());
+        }
+
+        for (int click : clicks) {
+            Cell cell = sequential.getCell(click);
+            sequential.revealCell(cell.getRow(), cell.getCol());
+        }
+
+        int players = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(players);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int player = 0; player < players; player++) {
+                int offset = player;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < clicks.length; i += players) {
+                        Cell cell = shared.getCell(clicks[i]);
+                        shared.revealCell(cell.getRow(), cell.getCol());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(sequential.getRevealedCount(), shared.getRevealedCount());
+        for (int index = 0; index < layout.getCellCount(); index++) {
+            assertEquals(sequential.getCell(index).getState(), shared.getCell(index).getState());
+        }
+    }
+
+    @Test
+    public void testCoverAndUncoverCells() {
+        Board layout = new Board(3, 1);
+        layout.getCell(0, 0).setMine(true);
+        layout.calculateAdjacentMines();
+        SharedBoard board = new SharedBoard(layout);
+
+        board.revealCell(2, 2);
+        int[] cells = {board.indexOf(2, 2), board.indexOf(1, 1)};
+
+        board.coverCells(cells);
+        assertEquals(6, board.getRevealedCount());
+
+        board.uncoverCells(cells);
+        assertEquals(8, board.getRevealedCount());
+    }
+}
@@ -0,0 +1,104 @@
+package com.filbertgoh.minesweeper.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Topology class.
+ */
+public class TopologyTest {
+
+    private static int[] neighboursOf(Board board, int row, int col) {
+        int[] out = new int[NeighbourProvider.MAX_NEIGHBOURS];
+        int count = board.collectNeighbours(board.indexOf(row, col), out);
+        int[] neighbours = Arrays.copyOf(out, count);
+        Arrays.sort(neighbours);
+        return neighbours;
+    }
+
+    @Test
+    public void testSquareCornerHasThreeNeighbours() {
+        Board board = new Board(4, 5, 1);
+
+        assertSame(Topology.SQUARE, board.getTopology());
+        assertArrayEquals(new int[] {1, 5, 6}, neighboursOf(board, 0, 0));
+        assertEquals(8, neighboursOf(board, 2, 2).length);
+    }
+
+    @Test
+    public void testTorusWrapsAroundEdges() {
+        Board board = new Board(4, 5, 1, Topology.TORUS);
+
+        // Corner (0,0) touches the last row and the last column
+        assertArrayEquals(new int[] {1, 4, 5, 6, 9, 15, 16, 19}, neighboursOf(board, 0, 0));
+        for (int index = 0; index < board.getCellCount(); index++) {
+            assertEquals(8, neighboursOf(board, index / 5, index % 5).length);
+        }
+    }
+
+    @Test
+    public void testTorusSkipsDuplicatesOnNarrowBoards() {
+        Board board = new Board(2, 2, 1, Topology.TORUS);
+
+        // Every other cell is reachable, each counted once
+        assertArrayEquals(new int[] {1, 2, 3}, neighboursOf(board, 0, 0));
+    }
+
+    @Test
+    public void testHexNeighboursDependOnRowParity() {
+        Board board = new Board(5, 5, 1, Topology.HEX);
+
+        // Even row (2,2): up-left and up, left and right, down-left and down
+        assertArrayEquals(new int[] {6, 7, 11, 13, 16, 17}, neighboursOf(board, 2, 2));
+        // Odd row (1,2): up and up-right, left and right, down and down-right
+        assertArrayEquals(new int[] {2, 3, 6, 8, 12, 13}, neighboursOf(board, 1, 2));
+    }
+
+    @Test
+    public void testKnightAdjacency() {
+        Board board = new Board(5, 5, 1, Topology.KNIGHT);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+
+        assertEquals(1, board.getCell(1, 2).getAdjacentMines());
+        assertEquals(1, board.getCell(2, 1).getAdjacentMines());
+        assertEquals(0, board.getCell(1, 1).getAdjacentMines());
+    }
+
+    @Test
+    public void testRevealCascadesThroughTorusEdges() {
+        Board board = new Board(4, 4, 1, Topology.TORUS);
+        board.getCell(2, 2).setMine(true);
+        board.calculateAdjacentMines();
+
+        // Every safe cell touches the mine on a 4x4 torus except those two steps away
+        board.revealCell(0, 0);
+        assertTrue(board.getCell(0, 0).isRevealed());
+        assertTrue(board.getCell(3, 3).isRevealed());
+        assertFalse(board.getCell(2, 2).isRevealed());
+    }
+
+    @Test
+    public void testCopyKeepsTopology() {
+        Board board = new Board(3, 3, 1, Topology.HEX);
+
+        assertSame(Topology.HEX, board.copy().getTopology());
+    }
+
+    @Test
+    public void testForNameAndCustomValidation() {
+        assertSame(Topology.TORUS, Topology.forName(" Torus "));
+        assertThrows(IllegalArgumentException.class, () -> Topology.forName("triangle"));
+
+        Topology cross = Topology.custom("cross", new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}, false);
+        assertArrayEquals(new int[] {1, 3}, neighboursOf(new Board(3, 3, 1, cross), 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> Topology.custom("empty", new int[0][], false));
+        assertThrows(IllegalArgumentException.class, () -> Topology.custom("self", new int[][] {{0, 0}}, false));
+        assertThrows(IllegalArgumentException.class, () -> Topology.custom("twice", new int[][] {{1, 0}, {1, 0}}, false));
+        assertThrows(IllegalArgumentException.class, () -> Topology.custom("wide", new int[9][], false));
+    }
+}
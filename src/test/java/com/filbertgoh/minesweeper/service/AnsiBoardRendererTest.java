@@ -0,0 +1,86 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AnsiBoardRenderer class.
+ */
+public class AnsiBoardRendererTest {
+
+    private static String written(ByteArrayOutputStream out) {
+        String text = out.toString(StandardCharsets.US_ASCII);
+        out.reset();
+        return text;
+    }
+
+    @Test
+    public void testDrawBoardClearsScreenAndDrawsEveryCell() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnsiBoardRenderer renderer = new AnsiBoardRenderer(out);
+        Board board = new Board(3, 4, 0);
+
+        renderer.drawBoard(board);
+        String frame = written(out);
+
+        assertTrue(frame.startsWith("\u001b[2J\u001b[H"));
+        assertTrue(frame.contains("  1 2 3 4 \n"));
+        assertEquals(12, frame.chars().filter(c -> c == '_').count());
+        // Cursor is left below the board with the rest of the screen cleared
+        assertTrue(frame.endsWith("\u001b[5;1H\u001b[0J"));
+        assertEquals(frame.length(), renderer.getLastFrameLength());
+    }
+
+    @Test
+    public void testDrawCellsRewritesOnlyChangedCells() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnsiBoardRenderer renderer = new AnsiBoardRenderer(out);
+        Board board = new Board(3, 12, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+        renderer.drawBoard(board);
+        int fullLength = renderer.getLastFrameLength();
+        written(out);
+
+        board.revealCell(1, 1);
+        renderer.drawCells(board, board.copyLastRevealed());
+        String frame = written(out);
+
+        // B2 is on screen row 3; columns are two characters wide plus a separator
+        assertEquals("\u001b[3;6H\u001b[94m1 \u001b[0m\u001b[5;1H\u001b[0J", frame);
+        assertTrue(renderer.getLastFrameLength() < fullLength);
+    }
+
+    @Test
+    public void testDrawCellsRedrawsEverythingForNewBoard() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnsiBoardRenderer renderer = new AnsiBoardRenderer(out);
+        renderer.drawBoard(new Board(2, 2, 0));
+        written(out);
+
+        Board replacement = new Board(2, 2, 0);
+        renderer.drawCells(replacement, new int[] {0});
+
+        assertTrue(written(out).startsWith("\u001b[2J"));
+    }
+
+    @Test
+    public void testLargeCascadeFitsInOneFrame() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnsiBoardRenderer renderer = new AnsiBoardRenderer(out);
+        Board board = new Board(200, 200, 0);
+        renderer.drawBoard(board);
+        written(out);
+
+        board.revealCell(100, 100);
+        renderer.drawCells(board, board.copyLastRevealed());
+
+        String frame = written(out);
+        assertEquals(40000, frame.chars().filter(c -> c == 'H').count() - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoardAnalyzer class.
+ */
+public class BoardAnalyzerTest {
+
+    @Test
+    public void testAnalyzeSingleOpening() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+
+        // x 1 0
+        // 1 1 0
+        // 0 0 0
+        BoardAnalysis analysis = new BoardAnalyzer().analyze(board);
+
+        assertEquals(1, analysis.openings());
+        assertEquals(1, analysis.threeBV());
+    }
+
+    @Test
+    public void testAnalyzeIsolatedNumber() {
+        Board board = new Board(3, 2);
+        board.getCell(0, 1).setMine(true);
+        board.getCell(2, 1).setMine(true);
+        board.calculateAdjacentMines();
+
+        // 1 x 1
+        // 2 2 2
+        // 1 x 1
+        BoardAnalysis analysis = new BoardAnalyzer().analyze(board);
+
+        assertEquals(0, analysis.openings());
+        assertEquals(7, analysis.threeBV());
+    }
+
+    @Test
+    public void testAnalyzeTwoOpenings() {
+        Board board = new Board(3, 2);
+        board.getCell(0, 0).setMine(true);
+        board.getCell(2, 2).setMine(true);
+        board.calculateAdjacentMines();
+
+        // x 1 0
+        // 1 2 1
+        // 0 1 x
+        BoardAnalysis analysis = new BoardAnalyzer().analyze(board);
+
+        assertEquals(2, analysis.openings());
+        // The two openings border every numbered cell between them
+        assertEquals(2, analysis.threeBV());
+    }
+
+    @Test
+    public void testSolvesWithoutGuessing() {
+        Board board = new Board(3, 2);
+        board.getCell(0, 0).setMine(true);
+        board.getCell(0, 1).setMine(true);
+        board.calculateAdjacentMines();
+
+        // x x 1
+        // 2 2 1
+        // 0 0 0
+        BoardAnalyzer analyzer = new BoardAnalyzer();
+
+        // The cascade stops at row 1; the 2 at (1,0) pins both mines, which frees (0,2)
+        assertTrue(analyzer.solvesWithoutGuessing(board, 2, 2));
+        // The layout itself is left untouched
+        assertEquals(0, board.getRevealedCount());
+    }
+
+    @Test
+    public void testNeedsGuess() {
+        Board board = new Board(3, 2);
+        board.getCell(0, 0).setMine(true);
+        board.getCell(2, 2).setMine(true);
+        board.calculateAdjacentMines();
+
+        // x 1 0
+        // 1 2 1
+        // 0 1 x
+        // Each mine could be on either side of the 1 next to it
+        assertFalse(new BoardAnalyzer().solvesWithoutGuessing(board, 0, 2));
+    }
+}
@@ -0,0 +1,184 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Topology;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoardCodec class.
+ */
+public class BoardCodecTest {
+
+    private void assertSameBoard(Board expected, Board actual) {
+        assertEquals(expected.getTopology(), actual.getTopology());
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getCols(), actual.getCols());
+        assertEquals(expected.getTotalMines(), actual.getTotalMines());
+        assertEquals(expected.getRevealedCount(), actual.getRevealedCount());
+        assertEquals(expected.getMineFingerprint(), actual.getMineFingerprint());
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            assertEquals(expected.getCell(index).hasMine(), actual.getCell(index).hasMine());
+            assertEquals(expected.getCell(index).getAdjacentMines(), actual.getCell(index).getAdjacentMines());
+            assertEquals(expected.getCell(index).getState(), actual.getCell(index).getState());
+        }
+    }
+
+    @Test
+    public void testRoundTripSparseBoard() {
+        BoardCodec codec = new BoardCodec();
+        Board board = new BoardGenerator(1L).generateBoard(100, 120, 150, 50, 60);
+        board.revealCell(50, 60);
+
+        byte[] encoded = codec.encode(board);
+        assertSameBoard(board, codec.decode(ByteBuffer.wrap(encoded)));
+
+        // Naive dump: one byte per cell for the mine and one for the reveal state
+        assertTrue(encoded.length * 20 < board.getCellCount() * 2);
+    }
+
+    @Test
+    public void testRoundTripDenseBoard() {
+        BoardCodec codec = new BoardCodec();
+        Board board = new BoardGenerator(2L).generateBoard(40, 25, 350);
+        for (int col = 0; col < 25; col += 3) {
+            board.revealCell(0, col);
+        }
+
+        byte[] encoded = codec.encode(board);
+        assertSameBoard(board, codec.decode(ByteBuffer.wrap(encoded)));
+
+        // Dense layouts fall back to the bitset: about one bit per cell
+        assertTrue(encoded.length < 1000 / 8 + 100);
+    }
+
+    @Test
+    public void testStreamingDecodeVisitsMinesAndRuns() {
+        BoardCodec codec = new BoardCodec();
+        Board board = new Board(2, 4, 2);
+        board.getCell(0, 1).setMine(true);
+        board.getCell(1, 3).setMine(true);
+        board.calculateAdjacentMines();
+        board.getCell(0, 2).reveal();
+        board.getCell(0, 3).reveal();
+        board.getCell(1, 0).reveal();
+
+        ByteBuffer buffer = ByteBuffer.allocate(codec.maxEncodedSize(board));
+        int written = codec.encode(board, buffer);
+        assertEquals(buffer.position(), written);
+        buffer.flip();
+
+        StringBuilder events = new StringBuilder();
+        codec.decode(buffer, new BoardCodec.Visitor() {
+            @Override
+            public void header(String topology, int rows, int cols, int totalMines, long fingerprint) {
+                events.append("header ").append(topology).append(' ').append(rows).append('x').append(cols).append(';');
+            }
+
+            @Override
+            public void mine(int index) {
+                events.append("mine ").append(index).append(';');
+            }
+
+            @Override
+            public void revealedRun(int start, int length) {
+                events.append("run ").append(start).append('+').append(length).append(';');
+            }
+        });
+
+        assertEquals("header square 2x4;mine 1;mine 7;run 2+3;", events.toString());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testTopologyIsPartOfTheEncoding() {
+        BoardCodec codec = new BoardCodec();
+        Board torus = new BoardGenerator(4L).generateBoard(Topology.TORUS, 12, 9, 20);
+        torus.revealCell(0, 0);
+        byte[] encoded = codec.encode(torus);
+
+        assertSameBoard(torus, codec.decode(ByteBuffer.wrap(encoded)));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(encoded), Topology.HEX));
+
+        // A custom topology cannot be looked up by name, so the caller supplies it
+        Topology diagonal = Topology.custom("diagonal", new int[][] {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}}, false);
+        Board custom = new BoardGenerator(5L).generateBoard(diagonal, 8, 8, 10);
+        byte[] customEncoded = codec.encode(custom);
+        assertSameBoard(custom, codec.decode(ByteBuffer.wrap(customEncoded), diagonal));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(customEncoded)));
+    }
+
+    @Test
+    public void testCorruptInput() {
+        BoardCodec codec = new BoardCodec();
+        byte[] encoded = codec.encode(new BoardGenerator(3L).generateBoard(10, 10));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 1))));
+
+        byte[] wrongVersion = encoded.clone();
+        wrongVersion[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(wrongVersion)));
+    }
+
+    @Test
+    public void testHeaderDimensionsAreCheckedBeforeAllocating() {
+        BoardCodec codec = new BoardCodec();
+        BoardCodec.Visitor failOnHeader = new BoardCodec.Visitor() {
+            @Override
+            public void header(String topology, int rows, int cols, int totalMines, long fingerprint) {
+                fail("Header of " + rows + "x" + cols + " should have been rejected");
+            }
+
+            @Override
+            public void mine(int index) {
+            }
+
+            @Override
+            public void revealedRun(int start, int length) {
+            }
+        };
+
+        // Larger than any board, and a bitset or mine list longer than the data that follows
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(encodedHeader(60000, 60000, 1, 1, 0), failOnHeader));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(encodedHeader(4096, 4096, 1, 1, 0), failOnHeader));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(encodedHeader(4096, 4096, 100, 0, 100), failOnHeader));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(encodedHeader(4096, 4096, 1, 7, 0), failOnHeader));
+    }
+
+    /**
+     * Builds the header of a square board followed by a few bytes of body.
+     *
+     * @param rows      The declared number of rows
+     * @param cols      The declared number of columns
+     * @param mines     The declared number of mines
+     * @param encoding  The mine encoding byte
+     * @param mineCount The number of mines declared by a sparse mine list
+     * @return The encoded data
+     */
+    private ByteBuffer encodedHeader(int rows, int cols, int mines, int encoding, int mineCount) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 2).put((byte) 6).put("square".getBytes(StandardCharsets.UTF_8));
+        for (int value : new int[] {rows, cols, mines}) {
+            for (; value >= 0x80; value >>>= 7) {
+                buffer.put((byte) (value | 0x80));
+            }
+            buffer.put((byte) value);
+        }
+        buffer.putLong(0L).put((byte) encoding);
+        if (encoding == 0) {
+            buffer.put((byte) mineCount);
+        }
+        buffer.put(new byte[8]);
+        return buffer.flip();
+    }
+}
@@ -2,6 +2,11 @@ package com.filbertgoh.minesweeper.service;
 
 import com.filbertgoh.minesweeper.model.Board;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -82,4 +87,150 @@ public class BoardGeneratorTest {
         }
         assertEquals(numMines, mineCount);
     }
+
+    @Test
+    public void testGenerateRectangularBoard() {
+        BoardGenerator generator = new BoardGenerator(123L);
+
+        Board board = generator.generateBoard(16, 30, 99, 0, 0);
+
+        assertEquals(16, board.getRows());
+        assertEquals(30, board.getCols());
+        assertEquals(99, board.getTotalMines());
+        assertFalse(board.getCell(0, 0).hasMine());
+
+        int mineCount = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.getCell(index).hasMine()) {
+                mineCount++;
+            }
+        }
+        assertEquals(99, mineCount);
+
+        // 4*30 = 120. 120 * 0.35 = 42.
+        assertDoesNotThrow(() -> generator.validateBoardParameters(4, 30, 42));
+        assertThrows(IllegalArgumentException.class, () -> generator.validateBoardParameters(4, 30, 43));
+        assertThrows(IllegalArgumentException.class, () -> generator.validateBoardParameters(4, 0, 1));
+    }
+
+    @Test
+    public void testNamedAlgorithmIsReproducible() {
+        for (String algorithm : new String[]{"L64X128MixRandom", "Xoshiro256PlusPlus"}) {
+            Board first = new BoardGenerator(algorithm, 77L).generateBoard(20, 30, 100);
+            Board second = new BoardGenerator(algorithm, 77L).generateBoard(20, 30, 100);
+
+            assertEquals(first.getMineFingerprint(), second.getMineFingerprint());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator("NoSuchRandom", 1L));
+    }
+
+    @Test
+    public void testSplitGeneratorsAreIndependent() {
+        BoardGenerator generator = new BoardGenerator("L64X128MixRandom", 5L);
+        Board first = generator.split().generateBoard(20, 20, 50);
+        Board second = generator.split().generateBoard(20, 20, 50);
+        assertNotEquals(first.getMineFingerprint(), second.getMineFingerprint());
+
+        // Jumpable algorithms are supported too
+        assertNotNull(new BoardGenerator("Xoshiro256PlusPlus", 5L).split());
+
+        // java.util.Random can be neither split nor jumped
+        assertThrows(UnsupportedOperationException.class, () -> new BoardGenerator(new Random(5L)).split());
+    }
+
+    @Test
+    public void testGenerateBoardsInParallelIsReproducible() {
+        List<Board> first = new BoardGenerator("L64X128MixRandom", 9L).generateBoards(16, 16, 30, 99);
+        List<Board> second = new BoardGenerator("L64X128MixRandom", 9L).generateBoards(16, 16, 30, 99);
+
+        assertEquals(16, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getMineFingerprint(), second.get(i).getMineFingerprint());
+            assertEquals(99, first.get(i).getTotalMines());
+        }
+    }
+
+    @Test
+    public void testSafeZoneIsKeptClear() {
+        BoardGenerator generator = new BoardGenerator("L64X128MixRandom", 7L);
+
+        // 16x30 with 99 mines is dense enough to use the shuffle strategy
+        for (int attempt = 0; attempt < 20; attempt++) {
+            Board board = generator.generateBoard(16, 30, 99, 5, 10, 1);
+
+            int mineCount = 0;
+            for (int index = 0; index < board.getCellCount(); index++) {
+                if (board.getCell(index).hasMine()) {
+                    mineCount++;
+                }
+            }
+            assertEquals(99, mineCount);
+
+            for (int row = 4; row <= 6; row++) {
+                for (int col = 9; col <= 11; col++) {
+                    assertFalse(board.getCell(row, col).hasMine());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSeededLayoutsAreUnchanged() {
+        // Pinned from the rejection sampler used before placement strategies were added
+        assertArrayEquals(new int[] {2, 9, 16, 17, 30, 36, 41, 70, 71, 74},
+                mineIndices(new BoardGenerator(42L).generateBoard(9, 9, 10)));
+        assertArrayEquals(new int[] {3, 6, 12, 13, 15, 26, 32, 33, 36, 48, 54, 62, 65, 69, 74, 79, 93, 96, 97,
+                        103, 109, 110, 120, 123, 132, 134, 143, 158, 173, 182, 183, 189, 200, 201, 203, 204, 208,
+                        209, 210, 215, 219, 220, 243, 247, 250, 252, 253, 255, 261, 263, 264, 266, 270, 272, 273,
+                        274, 278, 283, 287, 293, 299, 302, 310, 313, 319, 325, 330, 340, 343, 349, 356, 359, 361,
+                        365, 367, 373, 377, 379, 385, 387, 396, 397, 398, 404, 410, 418, 419, 427, 430, 433, 436,
+                        439, 440, 443, 455, 456, 457, 461, 476},
+                mineIndices(new BoardGenerator(42L).generateBoard(16, 30, 99, 5, 10)));
+    }
+
+    @Test
+    public void testSafeZoneOnSparseBoard() {
+        BoardGenerator generator = new BoardGenerator(11L);
+
+        // 1% density uses sparse sampling
+        Board board = generator.generateBoard(100, 100, 100, 0, 0, 2);
+
+        for (int row = 0; row <= 2; row++) {
+            for (int col = 0; col <= 2; col++) {
+                assertFalse(board.getCell(row, col).hasMine());
+            }
+        }
+        assertNotEquals(0L, board.getMineFingerprint());
+    }
+
+    @Test
+    public void testSafeZoneTooLargeIsRejected() {
+        BoardGenerator generator = new BoardGenerator();
+
+        // A 3x3 board has no cells left outside a radius-1 zone around its centre
+        assertThrows(IllegalArgumentException.class, () -> generator.generateBoard(3, 3, 3, 1, 1, 1));
+    }
+
+    @Test
+    public void testPlacementStrategyForDensity() {
+        assertEquals(PlacementStrategy.SPARSE_SAMPLING, PlacementStrategy.forDensity(10000, 100));
+        assertEquals(PlacementStrategy.SHUFFLE, PlacementStrategy.forDensity(480, 99));
+
+        assertEquals(580.0, PlacementStrategy.SHUFFLE.expectedCost(480, 50), 1e-9);
+        assertTrue(PlacementStrategy.SPARSE_SAMPLING.expectedCost(10000, 100)
+                < PlacementStrategy.SHUFFLE.expectedCost(10000, 100));
+    }
+
+    /**
+     * Gets the indices of the cells holding mines, in ascending order.
+     *
+     * @param board The board
+     * @return The mine indices
+     */
+    private static int[] mineIndices(Board board) {
+        return IntStream.range(0, board.getCellCount())
+                .filter(index -> board.getCell(index).hasMine())
+                .toArray();
+    }
 }
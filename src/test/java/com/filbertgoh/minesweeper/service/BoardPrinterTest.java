@@ -1,7 +1,12 @@
 package com.filbertgoh.minesweeper.service;
 
 import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.EndlessBoard;
+import com.filbertgoh.minesweeper.model.Topology;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,4 +60,77 @@ public class BoardPrinterTest {
                 """;
         assertEquals(expectedRevealZero, printer.printBoard(board));
     }
+
+    @Test
+    public void testPrintWideBoard() {
+        Board board = new Board(2, 11, 0);
+        board.getCell(1, 10).reveal();
+        BoardPrinter printer = new BoardPrinter();
+
+        String expected = """
+                  1  2  3  4  5  6  7  8  9  10 11\s
+                A _  _  _  _  _  _  _  _  _  _  _ \s
+                B _  _  _  _  _  _  _  _  _  _  0 \s
+                """;
+        assertEquals(expected, printer.printBoard(board));
+    }
+
+    @Test
+    public void testPrintHexBoardShiftsOddRows() {
+        Board board = new Board(3, 2, 0, Topology.HEX);
+        BoardPrinter printer = new BoardPrinter();
+
+        String expected = """
+                  1 2\s
+                A _ _\s
+                B  _ _\s
+                C _ _\s
+                """;
+        assertEquals(expected, printer.printBoard(board));
+    }
+
+    @Test
+    public void testPrintViewportShowsOnlyWindow() {
+        Board board = new Board(40, 200, 0);
+        BoardPrinter printer = new BoardPrinter();
+
+        String viewport = printer.printViewport(board, 30, 199, 4, 3);
+        String[] lines = viewport.split("\n");
+
+        assertEquals("Rows AC-AF, columns 198-200 of 40x200", lines[0]);
+        assertEquals("   198 199 200 ", lines[1]);
+        assertEquals("AC _   _   _   ", lines[2]);
+        assertEquals(6, lines.length);
+    }
+
+    @Test
+    public void testPrintMinimapUsesTileSummary() {
+        Board board = new Board(20, 40, 0);
+        BoardPrinter printer = new BoardPrinter();
+
+        // Reveals the whole board through the cascade
+        board.revealCell(0, 0);
+        board.coverCells(new int[] {board.indexOf(19, 39)});
+
+        String[] lines = printer.printMinimap(board).split("\n");
+        assertEquals("A @@@", lines[0]);
+        assertEquals("Q @@#", lines[1]);
+    }
+
+    @Test
+    public void testPrintEndlessViewport(@TempDir Path spillDirectory) {
+        EndlessBoard board = new EndlessBoard(1L, 0.2, 8, spillDirectory);
+        BoardPrinter printer = new BoardPrinter();
+        board.revealCell(0, 0);
+
+        String[] lines = printer.printViewport(board, 0, 0, 4, 3).split("\n");
+
+        assertEquals("Rows -2 to 1, columns -1 to 1, " + board.getRevealedCount() + " squares cleared", lines[0]);
+        assertEquals("   -1 0  1  ", lines[1]);
+        // The first click opens the cells around the origin, whatever their numbers
+        assertEquals("-1 " + board.getAdjacentMines(-1, -1) + "  " + board.getAdjacentMines(-1, 0) + "  "
+                + board.getAdjacentMines(-1, 1) + "  ", lines[3]);
+        assertEquals("0  " + board.getAdjacentMines(0, -1) + "  0  " + board.getAdjacentMines(0, 1) + "  ", lines[4]);
+        assertEquals(6, lines.length);
+    }
 }
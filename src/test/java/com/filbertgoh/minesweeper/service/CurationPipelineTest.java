@@ -0,0 +1,145 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CurationPipeline class.
+ */
+public class CurationPipelineTest {
+    private static final Predicate<BoardScore> FEW_CLICKS = score -> score.threeBV() <= 15;
+
+    @TempDir
+    Path tempDir;
+
+    private CurationPipeline newPipeline(Path catalogue, CurationPipeline.Tuning tuning) {
+        return new CurationPipeline(Difficulty.BEGINNER, 42L, FEW_CLICKS, "few-clicks", catalogue, tuning);
+    }
+
+    @Test
+    public void testCatalogueDoesNotDependOnThreadCounts() throws Exception {
+        Path serial = tempDir.resolve("serial.cat");
+        Path parallel = tempDir.resolve("parallel.cat");
+
+        CurationPipeline single = newPipeline(serial, new CurationPipeline.Tuning(1, 1, 1, 4, 50));
+        long written = single.run(300);
+        CurationPipeline wide = newPipeline(parallel, new CurationPipeline.Tuning(3, 4, 2, 8, 64));
+        assertEquals(written, wide.run(300));
+
+        assertArrayEquals(Files.readAllBytes(serial), Files.readAllBytes(parallel));
+        for (CurationPipeline.Stage stage : List.of(CurationPipeline.Stage.SOURCE, CurationPipeline.Stage.GENERATE,
+                CurationPipeline.Stage.ANALYSE, CurationPipeline.Stage.FILTER)) {
+            assertEquals(300, wide.getCount(stage));
+        }
+        assertEquals(written, wide.getCount(CurationPipeline.Stage.SINK));
+        assertTrue(written > 0 && written < 300);
+        assertTrue(wide.getThroughput(CurationPipeline.Stage.ANALYSE) > 0);
+    }
+
+    @Test
+    public void testCatalogueEntries() throws Exception {
+        Path catalogue = tempDir.resolve("boards.cat");
+        newPipeline(catalogue, new CurationPipeline.Tuning(2, 2, 1, 16, 100)).run(200);
+
+        List<BoardScore> entries = new ArrayList<>();
+        CurationPipeline.readCatalogue(catalogue, entries::add);
+
+        assertFalse(entries.isEmpty());
+        long previous = -1;
+        for (BoardScore entry : entries) {
+            assertTrue(entry.sequence() > previous);
+            previous = entry.sequence();
+            assertTrue(FEW_CLICKS.test(entry));
+            assertEquals(Difficulty.BEGINNER.getMines(), entry.layout().countMines());
+            assertFalse(entry.layout().getCell(4, 4).hasMine());
+            assertEquals(new BoardAnalyzer().analyze(entry.layout()).threeBV(), entry.threeBV());
+        }
+    }
+
+    @Test
+    public void testResumesFromCheckpointAfterCrash() throws Exception {
+        CurationPipeline.Tuning tuning = new CurationPipeline.Tuning(2, 2, 1, 8, 50);
+        Path fresh = tempDir.resolve("fresh.cat");
+        newPipeline(fresh, tuning).run(300);
+
+        Path resumed = tempDir.resolve("resumed.cat");
+        newPipeline(resumed, tuning).run(150);
+        // A run that died after writing past its last checkpoint
+        Files.write(resumed, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        CurationPipeline restarted = newPipeline(resumed, tuning);
+        restarted.run(300);
+
+        assertEquals(150, restarted.getCount(CurationPipeline.Stage.SOURCE));
+        assertArrayEquals(Files.readAllBytes(fresh), Files.readAllBytes(resumed));
+        // Nothing is left to do once every candidate is scored
+        assertEquals(0, restarted.run(300));
+    }
+
+    @Test
+    public void testRepeatedLayoutsAreAnalysedOnce() throws Exception {
+        Path catalogue = tempDir.resolve("repeated.cat");
+        CurationPipeline pipeline = newPipeline(catalogue, new CurationPipeline.Tuning(2, 2, 1, 8, 50));
+        pipeline.run(100);
+        byte[] first = Files.readAllBytes(catalogue);
+
+        // Starting the catalogue over generates the same 100 layouts again
+        Files.delete(catalogue);
+        Files.delete(tempDir.resolve("repeated.cat.checkpoint"));
+        pipeline.run(100);
+
+        assertEquals(100, pipeline.getAnalysisCache().getMissCount());
+        assertEquals(100, pipeline.getAnalysisCache().getHitCount());
+        assertArrayEquals(first, Files.readAllBytes(catalogue));
+    }
+
+    @Test
+    public void testRestartWithDifferentParametersIsRefused() throws Exception {
+        CurationPipeline.Tuning tuning = new CurationPipeline.Tuning(1, 1, 1, 8, 50);
+        Path catalogue = tempDir.resolve("parameters.cat");
+        newPipeline(catalogue, tuning).run(100);
+        byte[] before = Files.readAllBytes(catalogue);
+
+        assertThrows(IllegalArgumentException.class, () -> new CurationPipeline(Difficulty.BEGINNER, 43L,
+                FEW_CLICKS, "few-clicks", catalogue, tuning).run(200));
+        assertThrows(IllegalArgumentException.class, () -> new CurationPipeline(Difficulty.INTERMEDIATE, 42L,
+                FEW_CLICKS, "few-clicks", catalogue, tuning).run(200));
+        assertThrows(IllegalArgumentException.class, () -> new CurationPipeline(Difficulty.BEGINNER, 42L,
+                score -> true, "everything", catalogue, tuning).run(200));
+        assertArrayEquals(before, Files.readAllBytes(catalogue));
+
+        assertEquals(0, newPipeline(catalogue, tuning).run(100));
+    }
+
+    @Test
+    public void testFailingStageStopsThePipeline() {
+        CurationPipeline pipeline = new CurationPipeline(Difficulty.BEGINNER, 1L, score -> {
+            throw new IllegalStateException("filter failed");
+        }, "failing", tempDir.resolve("failing.cat"), new CurationPipeline.Tuning(2, 2, 2, 2, 10));
+
+        IllegalStateException e = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> assertThrows(IllegalStateException.class, () -> pipeline.run(10_000)));
+        assertEquals("filter failed", e.getMessage());
+    }
+
+    @Test
+    public void testRejectsInvalidInput() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new CurationPipeline.Tuning(0, 1, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CurationPipeline.Tuning(1, 1, 1, 0, 1));
+
+        Path notACatalogue = Files.writeString(tempDir.resolve("text.cat"), "hello");
+        assertThrows(IllegalArgumentException.class, () -> CurationPipeline.readCatalogue(notACatalogue, entry -> { }));
+    }
+}
@@ -0,0 +1,106 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Difficulty;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DailyPuzzleService class.
+ */
+public class DailyPuzzleServiceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-14T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void testSeedIsStablePerDateAndTier() {
+        LocalDate date = LocalDate.of(2026, 3, 14);
+
+        assertEquals(DailyPuzzleService.seedFor(date, Difficulty.EXPERT),
+                DailyPuzzleService.seedFor(date, Difficulty.EXPERT));
+        assertNotEquals(DailyPuzzleService.seedFor(date, Difficulty.EXPERT),
+                DailyPuzzleService.seedFor(date, Difficulty.BEGINNER));
+        assertNotEquals(DailyPuzzleService.seedFor(date, Difficulty.EXPERT),
+                DailyPuzzleService.seedFor(date.plusDays(1), Difficulty.EXPERT));
+    }
+
+    @Test
+    public void testIndependentServicesServeTheSameBoard() {
+        DailyPuzzle first = new DailyPuzzleService(clock, 0).getTodaysPuzzle(Difficulty.EXPERT);
+        DailyPuzzle second = new DailyPuzzleService(clock, 0).getTodaysPuzzle(Difficulty.EXPERT);
+
+        assertEquals(LocalDate.of(2026, 3, 14), first.date());
+        assertEquals(first.seed(), second.seed());
+        assertEquals(first.layout().getMineFingerprint(), second.layout().getMineFingerprint());
+        assertEquals(first.analysis(), second.analysis());
+        assertFalse(first.layout().getCell(first.startRow(), first.startCol()).hasMine());
+    }
+
+    @Test
+    public void testPrecomputedPuzzlesAreServedFromCache() {
+        DailyPuzzleService service = new DailyPuzzleService(clock, 1);
+        service.precompute();
+        long misses = service.getCache().getMissCount();
+
+        DailyPuzzle today = service.getTodaysPuzzle(Difficulty.BEGINNER);
+        service.getPuzzle(LocalDate.of(2026, 3, 15), Difficulty.INTERMEDIATE);
+
+        assertEquals(misses, service.getCache().getMissCount());
+        assertEquals(2, service.getCache().getHitCount());
+
+        // Playing on a copy leaves the cached layout untouched
+        Board board = today.newBoard();
+        board.revealCell(today.startRow(), today.startCol());
+        assertEquals(0, today.layout().getRevealedCount());
+    }
+
+    @Test
+    public void testFailedPrecomputeKeepsSchedule() throws InterruptedException {
+        AtomicInteger reads = new AtomicInteger();
+        // Fails the first run only
+        Clock failingOnce = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return clock.getZone();
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                if (reads.getAndIncrement() == 0) {
+                    throw new IllegalStateException("Clock unavailable");
+                }
+                return clock.instant();
+            }
+        };
+        DailyPuzzleService service = new DailyPuzzleService(failingOnce, 0);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            service.start(scheduler, Duration.ofMillis(10));
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (service.getCache().size() < Difficulty.values().length && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertEquals(Difficulty.values().length, service.getCache().size());
+    }
+}
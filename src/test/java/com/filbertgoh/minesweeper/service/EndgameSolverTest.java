@@ -0,0 +1,130 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for the EndgameSolver class.
+ */
+public class EndgameSolverTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testEndCellBeatsSaferLookingMiddle() {
+        Board board = new Board(1, 3, 1);
+        board.getCell(0, 2).setMine(true);
+        board.calculateAdjacentMines();
+
+        // _ _ _ with one mine: the middle always shows 1 and leaves a coin flip,
+        // while an end cell either cascades or shows where the mine is
+        EndgameAnalysis analysis = new EndgameSolver().analyze(board, Duration.ofSeconds(10));
+
+        assertTrue(analysis.complete());
+        assertEquals(3, analysis.layouts());
+        assertEquals(0, analysis.bestCell());
+        assertEquals(2.0 / 3, analysis.winProbability(), EPSILON);
+
+        List<EndgameAnalysis.MoveOdds> moves = analysis.moves();
+        assertEquals(3, moves.size());
+        assertEquals(2, moves.get(1).cell());
+        assertEquals(1, moves.get(2).cell());
+        assertEquals(2.0 / 3, moves.get(2).safeProbability(), EPSILON);
+        assertEquals(1.0 / 3, moves.get(2).winProbability(), EPSILON);
+    }
+
+    @Test
+    public void testCoinFlip() {
+        Board board = new Board(1, 2, 1);
+        board.getCell(0, 1).setMine(true);
+        board.calculateAdjacentMines();
+
+        EndgameAnalysis analysis = new EndgameSolver().analyze(board, Duration.ofSeconds(10));
+
+        assertEquals(2, analysis.layouts());
+        assertEquals(0.5, analysis.winProbability(), EPSILON);
+    }
+
+    @Test
+    public void testDeducedMineLeavesCertainWin() {
+        Board board = new Board(3, 1);
+        board.getCell(0, 0).setMine(true);
+        board.calculateAdjacentMines();
+        // Reveal everything except the top-left pair
+        for (int index = 2; index < board.getCellCount(); index++) {
+            board.uncoverCells(new int[] {index});
+        }
+
+        // x _ 0
+        // 1 1 0
+        // 0 0 0
+        EndgameAnalysis analysis = new EndgameSolver().analyze(board, Duration.ofSeconds(10));
+
+        assertTrue(analysis.complete());
+        assertEquals(1, analysis.layouts());
+        assertEquals(board.indexOf(0, 1), analysis.bestCell());
+        assertEquals(1.0, analysis.winProbability(), EPSILON);
+        assertEquals(1, analysis.moves().size());
+    }
+
+    @Test
+    public void testExpertEndgame() {
+        Board board = new BoardGenerator(7L).generateBoard(16, 30, 99);
+        // Leave a 4x5 corner covered, as if the rest of the board had been cleared
+        int[] cleared = new int[board.getCellCount()];
+        int count = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            int row = index / board.getCols();
+            int col = index % board.getCols();
+            if (!board.getCell(index).hasMine() && (row >= 4 || col >= 5)) {
+                cleared[count++] = index;
+            }
+        }
+        board.uncoverCells(Arrays.copyOf(cleared, count));
+
+        EndgameAnalysis analysis = new EndgameSolver().analyze(board, Duration.ofSeconds(30));
+
+        assertTrue(analysis.complete());
+        assertFalse(analysis.moves().isEmpty());
+        for (EndgameAnalysis.MoveOdds odds : analysis.moves()) {
+            assertTrue(odds.exact());
+            assertTrue(odds.winProbability() <= odds.safeProbability() + EPSILON);
+            assertTrue(odds.winProbability() <= analysis.winProbability() + EPSILON);
+            assertFalse(board.getCell(odds.cell()).isRevealed());
+        }
+    }
+
+    @Test
+    public void testOutOfTimeFallsBackToSafestCell() {
+        Board board = new Board(1, 3, 1);
+        board.getCell(0, 2).setMine(true);
+        board.calculateAdjacentMines();
+
+        EndgameAnalysis analysis = new EndgameSolver().analyze(board, Duration.ZERO);
+
+        assertFalse(analysis.complete());
+        assertEquals(0, analysis.bestCell());
+        assertTrue(Double.isNaN(analysis.winProbability()));
+        assertEquals(2.0 / 3, analysis.moves().get(0).safeProbability(), EPSILON);
+    }
+
+    @Test
+    public void testFinishedOrOpenPositionsAreRejected() {
+        EndgameSolver solver = new EndgameSolver();
+
+        Board lost = new Board(2, 1);
+        lost.getCell(0, 0).setMine(true);
+        lost.calculateAdjacentMines();
+        lost.revealCell(0, 0);
+        assertThrows(IllegalArgumentException.class, () -> solver.analyze(lost));
+
+        // 81 covered cells are more than the search can track
+        assertThrows(IllegalArgumentException.class, () -> solver.analyze(new Board(9, 10)));
+        // 64 cells fit, but not the layouts of 10 mines among them
+        assertThrows(IllegalArgumentException.class, () -> solver.analyze(new Board(8, 10)));
+    }
+}
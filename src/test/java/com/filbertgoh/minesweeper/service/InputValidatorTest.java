@@ -70,4 +70,67 @@ public class InputValidatorTest {
         assertThrows(IllegalArgumentException.class, () -> validator.validateCellCoordinate("AA", boardSize));
         assertThrows(IllegalArgumentException.class, () -> validator.validateCellCoordinate("A 1", boardSize));
     }
+
+    @Test
+    public void testValidateBoardDimensions() {
+        InputValidator validator = new InputValidator();
+
+        assertArrayEquals(new int[]{9, 9}, validator.validateBoardDimensions("9"));
+        assertArrayEquals(new int[]{16, 30}, validator.validateBoardDimensions("16x30"));
+        assertArrayEquals(new int[]{16, 30}, validator.validateBoardDimensions(" 16 X 30 "));
+
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("16x"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("1x30"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("2x3x4"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("axb"));
+        // 65536 * 65536 overflows an int to 0
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("65536x65536"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("65536"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateBoardDimensions("4097x4096"));
+        assertArrayEquals(new int[]{4096, 4096}, validator.validateBoardDimensions("4096x4096"));
+    }
+
+    @Test
+    public void testValidateRectangularInput() {
+        InputValidator validator = new InputValidator();
+
+        // 4*30 = 120. 120 * 0.35 = 42.
+        assertEquals(42, validator.validateMineCount("42", 4, 30));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateMineCount("43", 4, 30));
+
+        assertArrayEquals(new int[]{3, 29}, validator.validateCellCoordinate("D30", 4, 30));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateCellCoordinate("E1", 4, 30));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateCellCoordinate("A31", 4, 30));
+    }
+
+    @Test
+    public void testValidateCellCoordinateMultiLetterRows() {
+        InputValidator validator = new InputValidator();
+
+        assertArrayEquals(new int[]{26, 0}, validator.validateCellCoordinate("AA1", 100, 100));
+        assertArrayEquals(new int[]{99, 99}, validator.validateCellCoordinate("cv100", 100, 100));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> validator.validateCellCoordinate("CW1", 100, 100));
+        assertEquals("Row must be between A and CV", e.getMessage());
+    }
+
+    @Test
+    public void testValidateEndlessCoordinate() {
+        InputValidator validator = new InputValidator();
+
+        assertArrayEquals(new int[]{0, 0}, validator.validateEndlessCoordinate("0,0"));
+        assertArrayEquals(new int[]{-12, 40}, validator.validateEndlessCoordinate(" -12 , 40 "));
+        assertArrayEquals(new int[]{7, -3}, validator.validateEndlessCoordinate("7 -3"));
+
+        assertThrows(IllegalArgumentException.class, () -> validator.validateEndlessCoordinate("A1"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateEndlessCoordinate("1,2,3"));
+        assertThrows(IllegalArgumentException.class, () -> validator.validateEndlessCoordinate(""));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> validator.validateEndlessCoordinate("0,-9999999999"));
+        assertEquals("Invalid cell coordinate: row and column must be whole numbers", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class,
+                () -> validator.validateEndlessCoordinate("2000000000,0"));
+        assertEquals("Row and column must be between -1073741824 and 1073741824", e.getMessage());
+    }
 }
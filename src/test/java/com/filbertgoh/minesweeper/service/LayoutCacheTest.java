@@ -0,0 +1,53 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Board;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LayoutCache class.
+ */
+public class LayoutCacheTest {
+
+    @Test
+    public void testRepeatedSeedIsServedFromCache() {
+        LayoutCache<Long, Board> cache = new LayoutCache<>(4);
+        Long key = 99L;
+        int[] loads = {0};
+
+        Board first = cache.get(key, k -> {
+            loads[0]++;
+            return new BoardGenerator(k).generateBoard(6, 5);
+        });
+        Board second = cache.get(key, k -> {
+            loads[0]++;
+            return new BoardGenerator(k).generateBoard(6, 5);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads[0]);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        LayoutCache<Long, String> cache = new LayoutCache<>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.getIfPresent(1L); // 2 is now least recently used
+        cache.put(3L, "three");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("one", cache.getIfPresent(1L));
+        assertEquals("three", cache.getIfPresent(3L));
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LayoutCache<Long, String>(0));
+    }
+}
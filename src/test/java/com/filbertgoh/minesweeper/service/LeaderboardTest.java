@@ -0,0 +1,101 @@
+package com.filbertgoh.minesweeper.service;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Leaderboard class.
+ */
+public class LeaderboardTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResultsAppearAfterMerge() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        leaderboard.submit(new GameResult(Difficulty.BEGINNER, 5000, 20, 1));
+
+        assertTrue(leaderboard.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 10).isEmpty());
+        assertEquals(1, leaderboard.merge());
+        assertEquals(1, leaderboard.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 10).size());
+        assertTrue(leaderboard.top(Difficulty.EXPERT, Leaderboard.Ranking.TIME, 10).isEmpty());
+    }
+
+    @Test
+    public void testRankingsAreBoundedAndOrdered() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        leaderboard.submit(new GameResult(Difficulty.EXPERT, 90_000, 150, 1));
+        leaderboard.submit(new GameResult(Difficulty.EXPERT, 60_000, 100, 2));
+        leaderboard.submit(new GameResult(Difficulty.EXPERT, 120_000, 300, 3));
+        leaderboard.submit(new GameResult(Difficulty.EXPERT, 200_000, 100, 4));
+        leaderboard.merge();
+
+        List<GameResult> fastest = leaderboard.top(Difficulty.EXPERT, Leaderboard.Ranking.TIME, 100);
+        assertEquals(List.of(60_000L, 90_000L, 120_000L), fastest.stream().map(GameResult::elapsedMillis).toList());
+
+        // 2.5, 1.67, 1.67, 0.5 3BV/s; the oldest tie wins
+        List<GameResult> highestRate = leaderboard.top(Difficulty.EXPERT, Leaderboard.Ranking.THREE_BV_PER_SECOND, 100);
+        assertEquals(List.of(3L, 1L, 2L), highestRate.stream().map(GameResult::finishedAt).toList());
+
+        assertEquals(1, leaderboard.top(Difficulty.EXPERT, Leaderboard.Ranking.TIME, 1).size());
+    }
+
+    @Test
+    public void testConcurrentSubmissions() throws InterruptedException {
+        Leaderboard leaderboard = new Leaderboard(100);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 1000;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    leaderboard.submit(new GameResult(Difficulty.INTERMEDIATE, offset + i, 50, offset + i));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8000, leaderboard.merge());
+        List<GameResult> fastest = leaderboard.top(Difficulty.INTERMEDIATE, Leaderboard.Ranking.TIME, 100);
+        assertEquals(100, fastest.size());
+        assertEquals(0, fastest.get(0).elapsedMillis());
+        assertEquals(99, fastest.get(99).elapsedMillis());
+    }
+
+    @Test
+    public void testJournalIsReplayed() throws Exception {
+        Path journal = tempDir.resolve("leaderboard.csv");
+
+        Leaderboard leaderboard = new Leaderboard(10, journal);
+        leaderboard.submit(new GameResult(Difficulty.BEGINNER, 3000, 12, 1));
+        leaderboard.merge();
+        leaderboard.submit(new GameResult(Difficulty.BEGINNER, 2000, 12, 2));
+        leaderboard.merge();
+
+        assertEquals(2, Files.readAllLines(journal).size());
+
+        Leaderboard reloaded = new Leaderboard(10, journal);
+        List<GameResult> fastest = reloaded.top(Difficulty.BEGINNER, Leaderboard.Ranking.TIME, 10);
+        assertEquals(List.of(2000L, 3000L), fastest.stream().map(GameResult::elapsedMillis).toList());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Leaderboard(0));
+        assertThrows(IllegalArgumentException.class, () -> new GameResult(null, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> GameResult.fromJournalLine("BEGINNER,x,1,1"));
+        assertThrows(IllegalArgumentException.class, () -> GameResult.fromJournalLine("NOVICE,1,1,1"));
+    }
+}
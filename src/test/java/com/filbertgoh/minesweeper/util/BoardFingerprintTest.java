@@ -0,0 +1,55 @@
+package com.filbertgoh.minesweeper.util;
+
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.model.Topology;
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoardFingerprint class.
+ */
+public class BoardFingerprintTest {
+
+    @Test
+    public void testGeneratedFingerprintMatchesFullScan() {
+        Board board = new BoardGenerator(42L).generateBoard(8, 10);
+
+        assertNotEquals(0L, board.getMineFingerprint());
+        assertEquals(BoardFingerprint.of(board), board.getMineFingerprint());
+    }
+
+    @Test
+    public void testSameSeedSameFingerprint() {
+        Board first = new BoardGenerator(7L).generateBoard(8, 10);
+        Board second = new BoardGenerator(7L).generateBoard(8, 10);
+        Board other = new BoardGenerator(8L).generateBoard(8, 10);
+
+        assertEquals(first.getMineFingerprint(), second.getMineFingerprint());
+        assertNotEquals(first.getMineFingerprint(), other.getMineFingerprint());
+    }
+
+    @Test
+    public void testFingerprintDependsOnBoardSize() {
+        Board small = new Board(3, 1);
+        small.getCell(0, 0).setMine(true);
+        Board large = new Board(4, 1);
+        large.getCell(0, 0).setMine(true);
+
+        assertNotEquals(BoardFingerprint.of(small), BoardFingerprint.of(large));
+    }
+
+    @Test
+    public void testFingerprintDependsOnTopology() {
+        Board square = new Board(4, 4, 1, Topology.SQUARE);
+        square.getCell(1, 1).setMine(true);
+        Board torus = new Board(4, 4, 1, Topology.TORUS);
+        torus.getCell(1, 1).setMine(true);
+
+        assertNotEquals(BoardFingerprint.of(square), BoardFingerprint.of(torus));
+        assertEquals(BoardFingerprint.finish(BoardFingerprint.mineKey(5), 4, 4, 1), BoardFingerprint.of(square));
+
+        Board generated = new BoardGenerator(3L).generateBoard(Topology.HEX, 6, 6, 5);
+        assertEquals(BoardFingerprint.of(generated), generated.getMineFingerprint());
+    }
+}
@@ -0,0 +1,95 @@
+package com.filbertgoh.minesweeper.util;
+
+import com.filbertgoh.minesweeper.model.Difficulty;
+import com.filbertgoh.minesweeper.service.PlacementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DifficultyProfiles and DifficultyProfile classes.
+ */
+public class DifficultyProfilesTest {
+
+    @Test
+    public void testBundledProfilesMatchDifficultyTiers() {
+        DifficultyProfiles profiles = DifficultyProfiles.load();
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            DifficultyProfile profile = profiles.forDifficulty(difficulty);
+            assertNotNull(profile);
+            assertEquals(difficulty.getRows(), profile.rows());
+            assertEquals(difficulty.getCols(), profile.cols());
+            assertEquals(difficulty.getMines(), profile.mines());
+        }
+
+        assertFalse(profiles.getCustom().isPreset());
+        assertEquals(GameConfig.MAX_MINE_DENSITY_RATIO, profiles.getCustom().maxDensity());
+    }
+
+    @Test
+    public void testPresetLookupIsCaseInsensitive() {
+        DifficultyProfiles profiles = DifficultyProfiles.load();
+
+        assertEquals("expert", profiles.getPreset(" Expert ").name());
+        assertNull(profiles.getPreset("custom"));
+        assertNull(profiles.getPreset("9"));
+    }
+
+    @Test
+    public void testPresetPlacementStrategy() {
+        DifficultyProfile expert = DifficultyProfiles.load().getPreset("expert");
+
+        assertEquals(PlacementStrategy.SHUFFLE, expert.placementStrategy());
+        assertTrue(expert.expectedGenerationCost() > 0);
+        assertThrows(IllegalStateException.class, () -> DifficultyProfiles.load().getCustom().placementStrategy());
+    }
+
+    @Test
+    public void testLoadFromStream() throws Exception {
+        String text = "profiles=tiny\nprofile.tiny.rows=4\nprofile.tiny.cols=5\nprofile.tiny.mines=3\n";
+        DifficultyProfiles profiles = DifficultyProfiles.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)));
+
+        DifficultyProfile tiny = profiles.getPreset("tiny");
+        assertEquals(4, tiny.rows());
+        assertEquals(5, tiny.cols());
+        assertEquals(0, tiny.safeZoneRadius());
+        assertNotNull(profiles.getCustom());
+    }
+
+    @Test
+    public void testTierFollowsPresetName() {
+        assertEquals(Difficulty.EXPERT, new DifficultyProfile("expert", 20, 30, 120, 0.35, 1).tier());
+        assertNull(new DifficultyProfile("tiny", 4, 5, 3, 0.35, 0).tier());
+        assertNull(DifficultyProfiles.load().getCustom().tier());
+    }
+
+    @Test
+    public void testSafeZoneRadiusShrinksToFitMines() {
+        DifficultyProfile custom = new DifficultyProfile("custom", 0, 0, 0, 0.35, 1);
+
+        assertEquals(1, custom.safeZoneRadiusFor(9, 9, 10));
+        // A 3x3 zone covers the whole 2x2 board and 3x4 board leaves only 3 cells outside it
+        assertEquals(0, custom.safeZoneRadiusFor(2, 2, 1));
+        assertEquals(1, custom.safeZoneRadiusFor(3, 4, 3));
+        assertEquals(0, custom.safeZoneRadiusFor(3, 4, 4));
+    }
+
+    @Test
+    public void testInvalidProfilesAreRejected() {
+        // 3x3 holds at most 3 mines at 35%
+        assertThrows(IllegalArgumentException.class, () -> new DifficultyProfile("dense", 3, 3, 4, 0.35, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DifficultyProfile("cap", 9, 9, 10, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DifficultyProfile("zone", 3, 3, 1, 0.35, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DifficultyProfile("radius", 9, 9, 10, 0.35, -1));
+
+        Properties properties = new Properties();
+        properties.setProperty("profiles", "broken");
+        properties.setProperty("profile.broken.rows", "nine");
+        assertThrows(IllegalArgumentException.class, () -> DifficultyProfiles.fromProperties(properties));
+    }
+}
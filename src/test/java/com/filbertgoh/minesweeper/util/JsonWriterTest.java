@@ -0,0 +1,53 @@
+package com.filbertgoh.minesweeper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonWriter class.
+ */
+public class JsonWriterTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final JsonWriter json = new JsonWriter(out);
+
+    private String written() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testNestedStructuresAreSeparated() {
+        json.beginObject()
+                .name("a").value(1)
+                .name("b").beginArray().value(true).value(false).beginObject().endObject().endArray()
+                .name("c").value((String) null)
+                .endObject();
+
+        assertEquals("{\"a\":1,\"b\":[true,false,{}],\"c\":null}", written());
+    }
+
+    @Test
+    public void testNumbers() {
+        json.beginArray().value(0).value(-7).value(Long.MAX_VALUE).value(Long.MIN_VALUE).endArray();
+
+        assertEquals("[0,-7,9223372036854775807,-9223372036854775808]", written());
+    }
+
+    @Test
+    public void testStringsAreEscapedAndEncoded() {
+        json.beginArray().value("quote\" back\\ tab\t").value("café 💣").endArray();
+
+        assertEquals("[\"quote\\\" back\\\\ tab\\u0009\",\"café 💣\"]", written());
+    }
+
+    @Test
+    public void testStreamedString() {
+        json.beginObject().name("cells").beginString().stringChar('_').stringChar('1').endString().endObject();
+
+        assertEquals("{\"cells\":\"_1\"}", written());
+    }
+}
@@ -0,0 +1,58 @@
+package com.filbertgoh.minesweeper.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LaunchOptions class.
+ */
+public class LaunchOptionsTest {
+
+    @Test
+    public void testNoArgumentsIsInteractive() {
+        LaunchOptions options = LaunchOptions.parse(new String[0]);
+
+        assertFalse(options.isBatch());
+        assertFalse(options.isAnsi());
+        assertEquals("", options.getMoves());
+        assertNull(options.getSeed());
+    }
+
+    @Test
+    public void testBatchOptions() {
+        LaunchOptions options = LaunchOptions.parse(
+                new String[] {"--size", "10", "--mines", "10", "--moves", "A1,B2", "--seed", "7", "--timing"});
+
+        assertTrue(options.isBatch());
+        assertTrue(options.isTiming());
+        assertEquals("10", options.getSize());
+        assertEquals("10", options.getMines());
+        assertEquals("A1,B2", options.getMoves());
+        assertEquals(7L, options.getSeed());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[] {"--colour"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[] {"--size"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[] {"--size", "--mines", "3"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[] {"--size", "4"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[] {"--moves", "A1"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LaunchOptions.parse(new String[] {"--endless", "--http", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> LaunchOptions.parse(new String[] {"--size", "4", "--mines", "2", "--seed", "x"}));
+    }
+
+    @Test
+    public void testEndlessOption() {
+        LaunchOptions options = LaunchOptions.parse(new String[] {"--endless", "--seed", "3"});
+
+        assertTrue(options.isEndless());
+        assertFalse(options.isBatch());
+        assertFalse(options.isHttp());
+        assertEquals(3L, options.getSeed());
+        assertFalse(LaunchOptions.parse(new String[0]).isEndless());
+    }
+}
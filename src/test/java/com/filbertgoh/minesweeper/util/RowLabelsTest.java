@@ -0,0 +1,44 @@
+package com.filbertgoh.minesweeper.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RowLabels class.
+ */
+public class RowLabelsTest {
+
+    @Test
+    public void testFormat() {
+        assertEquals("A", RowLabels.format(0));
+        assertEquals("Z", RowLabels.format(25));
+        assertEquals("AA", RowLabels.format(26));
+        assertEquals("AZ", RowLabels.format(51));
+        assertEquals("BA", RowLabels.format(52));
+        assertEquals("ZZ", RowLabels.format(701));
+        assertEquals("AAA", RowLabels.format(702));
+    }
+
+    @Test
+    public void testParseRoundTrips() {
+        for (int row = 0; row < 20000; row++) {
+            assertEquals(row, RowLabels.parse(RowLabels.format(row)));
+        }
+    }
+
+    @Test
+    public void testParseRejectsInvalidLabels() {
+        assertEquals(-1, RowLabels.parse(""));
+        assertEquals(-1, RowLabels.parse("A1"));
+        assertEquals(-1, RowLabels.parse("a"));
+        assertEquals(-1, RowLabels.parse("AAAAAAA"));
+    }
+
+    @Test
+    public void testWidth() {
+        assertEquals(1, RowLabels.width(26));
+        assertEquals(2, RowLabels.width(27));
+        assertEquals(1, RowLabels.width(1));
+    }
+}
@@ -0,0 +1,30 @@
+package com.filbertgoh.minesweeper.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SplitMix64 class.
+ */
+public class SplitMix64Test {
+
+    @Test
+    public void testReferenceOutput() {
+        // Reference values of SplitMix64 seeded with 0
+        SplitMix64 random = new SplitMix64(0L);
+
+        assertEquals(0xE220A8397B1DCDAFL, random.nextLong());
+        assertEquals(0x6E789E6AA1B965F4L, random.nextLong());
+        assertEquals(0x06C45D188009454FL, random.nextLong());
+    }
+
+    @Test
+    public void testSetSeedRestartsSequence() {
+        SplitMix64 random = new SplitMix64(42L);
+        int first = random.nextInt(1000);
+        random.nextInt(1000);
+
+        random.setSeed(42L);
+        assertEquals(first, random.nextInt(1000));
+    }
+}
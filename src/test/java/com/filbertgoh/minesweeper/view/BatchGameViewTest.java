@@ -0,0 +1,57 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import com.filbertgoh.minesweeper.service.BoardPrinter;
+import com.filbertgoh.minesweeper.service.InputValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BatchGameView class.
+ */
+public class BatchGameViewTest {
+
+    private final StringWriter output = new StringWriter();
+    private final BatchGameView view = new BatchGameView(new GameController(new BoardGenerator(1L)),
+            new BoardPrinter(), new InputValidator(), output);
+
+    @Test
+    public void testStartPrintsBoardWithoutPrompts() {
+        view.start("3x4", "2");
+
+        assertTrue(output.toString().startsWith("Here is your minefield:"));
+        assertTrue(output.toString().contains("  1 2 3 4"));
+        assertFalse(output.toString().contains("Enter"));
+    }
+
+    @Test
+    public void testPlayStopsWhenGameEnds() {
+        view.start("3", "1");
+
+        // Every cell of a 3x3 board; the game ends at a mine or a win before the list runs out
+        assertTrue(view.play("A1,A2,A3,B1,B2,B3,C1,C2,C3"));
+        assertTrue(output.toString().contains("Congratulations, you have won the game!")
+                || output.toString().contains("Oh no, you detonated a mine! Game over."));
+    }
+
+    @Test
+    public void testPlayWithNoMovesOnlyShowsBoard() {
+        view.start("4", "3");
+
+        assertFalse(view.play(""));
+        assertFalse(output.toString().contains("This square contains"));
+    }
+
+    @Test
+    public void testInvalidInputIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> view.start("1", "1"));
+        assertThrows(IllegalArgumentException.class, () -> view.start("4", "99"));
+
+        view.start("4", "3");
+        assertThrows(IllegalArgumentException.class, () -> view.play("Z9"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.model.EndlessBoard;
+import com.filbertgoh.minesweeper.service.BoardPrinter;
+import com.filbertgoh.minesweeper.service.InputValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EndlessGameView class.
+ */
+public class EndlessGameViewTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String play(EndlessBoard board, String script) {
+        StringWriter output = new StringWriter();
+        new EndlessGameView(new BoardPrinter(), new InputValidator(), new BufferedReader(new StringReader(script)),
+                output).play(board);
+        return output.toString();
+    }
+
+    @Test
+    public void testPlayUntilQuit() {
+        EndlessBoard board = new EndlessBoard(1L, 0.2, 16, tempDir);
+
+        String output = play(board, "0,0\nB,2\n-5000 5000\nq\n-1,-1\n");
+
+        assertTrue(output.startsWith("Welcome to endless Minesweeper!"));
+        assertTrue(output.contains("This square contains 0 adjacent mines."));
+        assertTrue(output.contains("Invalid cell coordinate: row and column must be whole numbers"));
+        assertTrue(output.contains("Rows -5010 to -4991, columns 4985 to 5014"));
+        assertTrue(output.endsWith("You cleared " + board.getRevealedCount() + " squares.\n"));
+    }
+
+    @Test
+    public void testMineEndsGame() {
+        EndlessBoard board = new EndlessBoard(1L, 0.3, 16, tempDir);
+        int col = 0;
+        while (!board.hasMine(20, col)) {
+            col++;
+        }
+
+        String output = play(board, "20," + col + "\n0,0\n");
+
+        assertTrue(output.contains("Oh no, you detonated a mine! Game over."));
+        assertTrue(output.endsWith("You cleared 0 squares.\n"));
+    }
+
+    @Test
+    public void testEndOfInputStopsGame() {
+        EndlessBoard board = new EndlessBoard(1L, 0.2, 16, tempDir);
+
+        assertDoesNotThrow(() -> play(board, ""));
+    }
+}
@@ -0,0 +1,140 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.model.Board;
+import com.filbertgoh.minesweeper.service.AnsiBoardRenderer;
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import com.filbertgoh.minesweeper.service.BoardPrinter;
+import com.filbertgoh.minesweeper.service.InputValidator;
+import com.filbertgoh.minesweeper.util.DifficultyProfiles;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the GameView class.
+ */
+public class GameViewTest {
+
+    private String play(String script) {
+        StringWriter output = new StringWriter();
+        GameView gameView = new GameView(new GameController(new BoardGenerator(1L)), new BoardPrinter(),
+                new InputValidator(), new BufferedReader(new StringReader(script)), output);
+        gameView.startGame();
+        return output.toString();
+    }
+
+    @Test
+    public void testPipelinedMovesOnOneLine() {
+        // Mines on A1 and B2, so every safe square has a number and opens alone
+        Board layout = new Board(3, 3, 2);
+        layout.getCell(0, 0).setMine(true);
+        layout.getCell(1, 1).setMine(true);
+        layout.calculateAdjacentMines();
+        BoardGenerator generator = mock(BoardGenerator.class);
+        when(generator.generateBoard(3, 3, 2)).thenReturn(layout);
+
+        int[] linesRead = {0};
+        BufferedReader input = new BufferedReader(new StringReader("3\n2\nA2,A3 B1 B3;C1 C2 C3\n")) {
+            @Override
+            public String readLine() throws IOException {
+                String line = super.readLine();
+                if (line != null) {
+                    linesRead[0]++;
+                }
+                return line;
+            }
+        };
+        StringWriter output = new StringWriter();
+        new GameView(new GameController(generator), new BoardPrinter(), new InputValidator(), input, output)
+                .startGame();
+
+        List<Integer> reported = new ArrayList<>();
+        Matcher matcher = Pattern.compile("This square contains (\\d+) adjacent mines").matcher(output.toString());
+        while (matcher.find()) {
+            reported.add(Integer.parseInt(matcher.group(1)));
+        }
+        assertEquals(List.of(2, 1, 2, 1, 1, 1, 1), reported);
+        assertTrue(output.toString().contains("Congratulations, you have won the game!"));
+        // Size, mine count and the single line holding every move
+        assertEquals(3, linesRead[0]);
+    }
+
+    @Test
+    public void testInvalidInputIsReported() {
+        String output = play("x\n3\n9\n1\nZ9\n");
+
+        assertTrue(output.contains("Invalid board size: must be a positive integer"));
+        assertTrue(output.contains("Number of mines must be between 1 and 3"));
+        assertTrue(output.contains("Row must be between A and C"));
+    }
+
+    @Test
+    public void testEndOfInputStopsGame() {
+        assertDoesNotThrow(() -> play("4\n"));
+        assertDoesNotThrow(() -> play(""));
+    }
+
+    @Test
+    public void testPresetSkipsMinePrompt() {
+        String output = play("beginner\nE5\n");
+
+        assertFalse(output.contains("Enter the number of mines"));
+        assertTrue(output.contains("This square contains 0 adjacent mines."));
+    }
+
+    @Test
+    public void testCustomSafeZoneFitsSmallBoard() {
+        Properties properties = new Properties();
+        properties.setProperty("profiles", "custom");
+        properties.setProperty("profile.custom.safeZoneRadius", "1");
+        StringWriter output = new StringWriter();
+        GameView gameView = new GameView(new GameController(new BoardGenerator(1L)), new BoardPrinter(),
+                new InputValidator(), DifficultyProfiles.fromProperties(properties),
+                new BufferedReader(new StringReader("2\n1\nA1\n")), output);
+
+        // The zone around the first move would cover the whole board, so it is shrunk to the move itself
+        assertDoesNotThrow(gameView::startGame);
+        assertTrue(output.toString().contains("This square contains"));
+    }
+
+    @Test
+    public void testLargeBoardUsesPannableViewport() {
+        String output = play("30x60\n1\nright map @AD60 A1\n");
+
+        assertTrue(output.contains("Rows F-Y, columns 16-45 of 30x60"));
+        assertTrue(output.contains("Rows F-Y, columns 31-60 of 30x60"));
+        assertTrue(output.contains("Rows K-AD, columns 31-60 of 30x60"));
+        assertTrue(output.contains("Each character is a 16x16 block"));
+        assertTrue(output.contains("Rows A-T, columns 1-30 of 30x60"));
+    }
+
+    @Test
+    public void testAnsiRendererReplacesBoardPrinter() {
+        StringWriter output = new StringWriter();
+        ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+        GameView gameView = new GameView(new GameController(new BoardGenerator(1L)), new BoardPrinter(),
+                new InputValidator(), new BufferedReader(new StringReader("40x40\n1\nA1\n")), output);
+        gameView.setAnsiRenderer(new AnsiBoardRenderer(terminal));
+        gameView.startGame();
+
+        String text = output.toString();
+        assertFalse(text.contains("Here is your updated minefield:"));
+        assertFalse(text.contains("Rows "));
+        assertTrue(terminal.toString(StandardCharsets.US_ASCII).startsWith("\u001b[2J"));
+    }
+}
@@ -0,0 +1,215 @@
+package com.filbertgoh.minesweeper.view;
+
+import com.filbertgoh.minesweeper.controller.GameController;
+import com.filbertgoh.minesweeper.service.BoardGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the HttpGameServer class, over a real local connection.
+ */
+public class HttpGameServerTest {
+
+    private HttpGameServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() {
+        server = new HttpGameServer(new InetSocketAddress("localhost", 0),
+                () -> new GameController(new BoardGenerator(1L)));
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String field(String json, String name) {
+        Matcher matcher = Pattern.compile("\"" + name + "\":(\"[^\"]*\"|[^,}\\]]+)").matcher(json);
+        assertTrue(matcher.find(), name + " in " + json);
+        return matcher.group(1).replace("\"", "");
+    }
+
+    private String createGame(String size, int mines) throws Exception {
+        HttpResponse<String> response = send("POST", "/games?size=" + size + "&mines=" + mines, null);
+        assertEquals(201, response.statusCode());
+        return field(response.body(), "id");
+    }
+
+    @Test
+    public void testCreateGameReturnsCoveredBoard() throws Exception {
+        HttpResponse<String> response = send("POST", "/games?size=3x4&mines=2", null);
+
+        assertEquals(201, response.statusCode());
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElse(""));
+        assertEquals("0", field(response.body(), "version"));
+        assertEquals("playing", field(response.body(), "state"));
+        assertEquals("____________", field(response.body(), "cells"));
+        assertEquals(1, server.getGameCount());
+    }
+
+    @Test
+    public void testMoveAndDeltaSinceVersion() throws Exception {
+        String id = createGame("9", 10);
+
+        HttpResponse<String> move = send("POST", "/games/" + id + "/move?cell=E5", null);
+        assertEquals(200, move.statusCode());
+        assertEquals("E5", field(move.body(), "cell"));
+        assertEquals("false", field(move.body(), "hitMine"));
+        assertEquals("1", field(move.body(), "version"));
+        int opened = Integer.parseInt(field(move.body(), "opened"));
+
+        String delta = send("GET", "/games/" + id + "/board?since=0", null).body();
+        assertEquals("1", field(delta, "version"));
+        assertEquals(opened, field(delta, "values").length());
+
+        String empty = send("GET", "/games/" + id + "/board?since=1", null).body();
+        assertEquals("", field(empty, "values"));
+
+        String full = send("GET", "/games/" + id + "/board", null).body();
+        assertEquals(81, field(full, "cells").length());
+    }
+
+    @Test
+    public void testBatchMovesStopWhenGameEnds() throws Exception {
+        String id = createGame("3", 1);
+
+        HttpResponse<String> response = send("POST", "/games/" + id + "/moves", "A1,A2,A3,B1,B2,B3,C1,C2,C3");
+
+        assertEquals(200, response.statusCode());
+        String state = field(response.body(), "state");
+        assertTrue(state.equals("won") || state.equals("lost"), response.body());
+        assertEquals(409, send("POST", "/games/" + id + "/move?cell=A1", null).statusCode());
+    }
+
+    @Test
+    public void testBatchResultsReportStateAfterEachMove() throws Exception {
+        String id = createGame("9", 10);
+        StringBuilder cells = new StringBuilder();
+        for (char row = 'A'; row <= 'I'; row++) {
+            for (int col = 1; col <= 9; col++) {
+                cells.append(row).append(col).append(' ');
+            }
+        }
+
+        String body = send("POST", "/games/" + id + "/moves", cells.toString()).body();
+
+        List<String> states = new ArrayList<>();
+        List<Integer> versions = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"state\":\"(\\w+)\",\"version\":(\\d+)").matcher(body);
+        while (matcher.find()) {
+            states.add(matcher.group(1));
+            versions.add(Integer.parseInt(matcher.group(2)));
+        }
+        // One entry per move, then the state of the batch
+        int played = Integer.parseInt(field(body, "played"));
+        assertTrue(played > 1, body);
+        assertEquals(played + 1, states.size(), body);
+        for (int i = 0; i < played - 1; i++) {
+            assertEquals("playing", states.get(i), body);
+            assertTrue(versions.get(i) <= versions.get(i + 1), body);
+        }
+        assertNotEquals("playing", states.get(played - 1), body);
+        assertEquals(states.get(played), states.get(played - 1));
+        assertEquals(versions.get(played), versions.get(played - 1));
+    }
+
+    @Test
+    public void testIdleGamesAreEvictedWhenFull() throws Exception {
+        HttpGameServer limited = new HttpGameServer(new InetSocketAddress("localhost", 0),
+                () -> new GameController(new BoardGenerator(1L)), 1, Duration.ZERO);
+        limited.start();
+        try {
+            URI uri = URI.create("http://localhost:" + limited.getPort() + "/games?size=3&mines=1");
+            HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build();
+            String first = field(client.send(request, HttpResponse.BodyHandlers.ofString()).body(), "id");
+
+            // The only slot is taken, but its game has been idle for longer than the timeout
+            assertEquals(201, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(1, limited.getGameCount());
+            URI evicted = URI.create("http://localhost:" + limited.getPort() + "/games/" + first + "/board");
+            assertEquals(404, client.send(HttpRequest.newBuilder(evicted).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode());
+        } finally {
+            limited.stop(0);
+        }
+    }
+
+    @Test
+    public void testGameLimitHoldsUnderConcurrentCreates() throws Exception {
+        HttpGameServer limited = new HttpGameServer(new InetSocketAddress("localhost", 0),
+                () -> new GameController(new BoardGenerator(1L)), 4, Duration.ofHours(1));
+        limited.start();
+        try {
+            URI uri = URI.create("http://localhost:" + limited.getPort() + "/games?size=3&mines=1");
+            HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+
+            int created = 0;
+            String id = null;
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                if (response.get().statusCode() == 201) {
+                    created++;
+                    id = field(response.get().body(), "id");
+                } else {
+                    assertEquals(503, response.get().statusCode());
+                }
+            }
+            assertEquals(4, created);
+            assertEquals(4, limited.getGameCount());
+
+            // Deleting a game frees its slot
+            URI game = URI.create("http://localhost:" + limited.getPort() + "/games/" + id);
+            assertEquals(204, client.send(HttpRequest.newBuilder(game).DELETE().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode());
+            assertEquals(201, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        } finally {
+            limited.stop(0);
+        }
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        assertEquals(400, send("POST", "/games?size=1&mines=1", null).statusCode());
+        assertEquals(400, send("POST", "/games?size=4", null).statusCode());
+        assertEquals(404, send("POST", "/games/nope/move?cell=A1", null).statusCode());
+        assertEquals(405, send("GET", "/games", null).statusCode());
+        assertEquals(400, send("POST", "/games?size=300x300&mines=1", null).statusCode());
+        assertEquals(400, send("POST", "/games?size=20000x20000&mines=1", null).statusCode());
+
+        String id = createGame("4", 3);
+        HttpResponse<String> badCell = send("POST", "/games/" + id + "/move?cell=Z9", null);
+        assertEquals(400, badCell.statusCode());
+        assertTrue(field(badCell.body(), "error").startsWith("Row must be between A and D"));
+
+        assertEquals(204, send("DELETE", "/games/" + id, null).statusCode());
+        assertEquals(404, send("GET", "/games/" + id + "/board", null).statusCode());
+    }
+}
@@ -0,0 +1,54 @@
+package com.filbertgoh.minesweeper.model;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link AdjacencyKernel} built on the incubating Vector API. Each row of counts is the
+ * lane-wise sum of the eight neighbouring mine-map rows shifted by one column either way,
+ * so a whole vector of cells is counted with eight loads and seven adds.
+ */
+final class VectorAdjacencyKernel implements AdjacencyKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public void countAdjacent(byte[] paddedMines, int rows, int cols, byte[] counts) {
+        int stride = cols + 2;
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(cols);
+
+        for (int row = 0; row < rows; row++) {
+            int above = row * stride;
+            int middle = above + stride;
+            int below = middle + stride;
+            int out = row * cols;
+            int col = 0;
+
+            for (; col < bound; col += lanes) {
+                ByteVector sum = ByteVector.fromArray(SPECIES, paddedMines, above + col)
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, above + col + 1))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, above + col + 2))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, middle + col))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, middle + col + 2))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, below + col))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, below + col + 1))
+                        .add(ByteVector.fromArray(SPECIES, paddedMines, below + col + 2));
+                ByteVector self = ByteVector.fromArray(SPECIES, paddedMines, middle + col + 1);
+
+                // Mines themselves report no adjacent mines
+                sum.blend((byte) 0, self.compare(VectorOperators.NE, (byte) 0)).intoArray(counts, out + col);
+            }
+
+            for (; col < cols; col++) {
+                if (paddedMines[middle + col + 1] != 0) {
+                    counts[out + col] = 0;
+                    continue;
+                }
+                counts[out + col] = (byte) (paddedMines[above + col] + paddedMines[above + col + 1] + paddedMines[above + col + 2]
+                        + paddedMines[middle + col] + paddedMines[middle + col + 2]
+                        + paddedMines[below + col] + paddedMines[below + col + 1] + paddedMines[below + col + 2]);
+            }
+        }
+    }
+}